@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.servers.Server;
+
+import java.util.List;
+
+/**
+ * Synthetic OpenAPI definitions shared by the benchmarks.
+ */
+public final class BenchmarkDefinitions {
+    private BenchmarkDefinitions() {
+    }
+
+    /**
+     * Create a definition of operations reading a record each, with a path and a query parameter.
+     *
+     * @param operationCount number of operations and records
+     * @return the definition
+     */
+    public static OpenAPI createDefinition(int operationCount) {
+        Components components = new Components();
+        Paths paths = new Paths();
+        for (int i = 0; i < operationCount; i++) {
+            components.addSchemas("Record" + i, new ObjectSchema()
+                    .addProperties("id", new IntegerSchema().format("int64"))
+                    .addProperties("name", new StringSchema())
+                    .addProperties("tags", new ArraySchema().items(new StringSchema()))
+                    .required(List.of("id")));
+            Schema<?> reference = new Schema<>().$ref("#/components/schemas/Record" + i);
+            Operation operation = new Operation()
+                    .operationId("getRecord" + i)
+                    .addParametersItem(new PathParameter()
+                            .name("id").schema(new StringSchema()))
+                    .addParametersItem(new QueryParameter()
+                            .name("fields").schema(new StringSchema()))
+                    .responses(new ApiResponses().addApiResponse("200", new ApiResponse()
+                            .description("Record")
+                            .content(new Content().addMediaType("application/json",
+                                    new MediaType().schema(reference)))));
+            paths.addPathItem("/records" + i + "/{id}", new PathItem().get(operation));
+        }
+        return new OpenAPI()
+                .info(new Info().title("Benchmark").version("1.0.0"))
+                .addServersItem(new Server().url("http://localhost:9090"))
+                .paths(paths)
+                .components(components);
+    }
+}
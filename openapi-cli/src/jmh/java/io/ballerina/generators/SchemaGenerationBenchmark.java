@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the record generation of a synthetic definition with thousands of component schemas, serially and with
+ * increasing parallelism. A parallelism of 1 is the serial baseline.
+ * <p>
+ * Each parameter combination runs in its own fork, so the generation pool is created with the requested parallelism.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SchemaGenerationBenchmark {
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param("5000")
+    private int schemaCount;
+
+    private GenerationContext context;
+
+    @Setup
+    public void setUp() {
+        System.setProperty(ParallelGeneration.PARALLELISM_PROPERTY, Integer.toString(parallelism));
+        System.setProperty(SpecComplexity.PARALLEL_THRESHOLD_PROPERTY, "1");
+        context = new GenerationContext(createDefinition(schemaCount), Path.of("benchmark.yaml"));
+        // Build the shared models up front, only the record generation is measured.
+        context.getComplexity();
+    }
+
+    @Benchmark
+    public SyntaxTree generateRecords() throws BallerinaOpenApiException {
+        return new BallerinaSchemaGenerator(context, null).generateSyntaxTree();
+    }
+
+    /*
+     * Records with primitive, array and reference fields, every tenth one composed of the previous record.
+     */
+    private static OpenAPI createDefinition(int schemaCount) {
+        Components components = new Components();
+        for (int i = 0; i < schemaCount; i++) {
+            Schema<?> schema = new ObjectSchema()
+                    .addProperties("id", new IntegerSchema().format("int64"))
+                    .addProperties("name", new StringSchema())
+                    .addProperties("tags", new ArraySchema().items(new StringSchema()))
+                    .required(List.of("id", "name"));
+            if (i > 0) {
+                schema.addProperties("previous", new Schema<>().$ref("#/components/schemas/Record" + (i - 1)));
+                if (i % 10 == 0) {
+                    schema = new ComposedSchema()
+                            .addAllOfItem(new Schema<>().$ref("#/components/schemas/Record" + (i - 1)))
+                            .addAllOfItem(schema);
+                }
+            }
+            components.addSchemas("Record" + i, schema);
+        }
+        return new OpenAPI().paths(new Paths()).components(components);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the record, client and service trees of a synthetic definition. The trees are built serially, so
+ * the allocation reported by the gc profiler ({@code -PjmhProfilers=gc}, see {@code gc.alloc.rate.norm}) is the
+ * allocation of a single generation and can be compared between revisions of the generators.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TreeAllocationBenchmark {
+    @Param("1000")
+    private int operationCount;
+
+    private GenerationContext context;
+    private Filter filter;
+
+    @Setup
+    public void setUp() {
+        System.setProperty(ParallelGeneration.PARALLELISM_PROPERTY, "1");
+        context = new GenerationContext(BenchmarkDefinitions.createDefinition(operationCount),
+                Path.of("benchmark.yaml"));
+        filter = new Filter(new ArrayList<>(), new ArrayList<>());
+        // Build the shared models up front, only the tree construction is measured.
+        context.getComplexity();
+    }
+
+    @Benchmark
+    public SyntaxTree generateRecords() throws BallerinaOpenApiException {
+        return new BallerinaSchemaGenerator(context, filter).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public SyntaxTree generateClient() throws BallerinaOpenApiException {
+        return new BallerinaClientGenerator(context, filter).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public SyntaxTree generateService() throws BallerinaOpenApiException {
+        return new BallerinaServiceGenerator(context, filter).generateSyntaxTree("service");
+    }
+}
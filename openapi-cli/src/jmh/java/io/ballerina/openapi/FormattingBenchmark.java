@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.generators.BallerinaClientGenerator;
+import io.ballerina.generators.BallerinaSchemaGenerator;
+import io.ballerina.generators.BenchmarkDefinitions;
+import io.ballerina.generators.GenerationContext;
+import io.ballerina.generators.ParallelGeneration;
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.model.GenSrcFile;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures turning the client and records trees of a synthetic definition into sources. The baseline formats the two
+ * trees one after the other with a parallelism of 1, the concurrent case formats them at once and the layout case
+ * skips the formatter.
+ * <p>
+ * Each parameter combination runs in its own fork, so the generation pool is created with the requested parallelism.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FormattingBenchmark {
+    @Param({"1", "4"})
+    private int parallelism;
+
+    @Param({"true", "false"})
+    private boolean formatEnabled;
+
+    @Param("1000")
+    private int operationCount;
+
+    private SyntaxTree clientTree;
+    private SyntaxTree typesTree;
+
+    @Setup
+    public void setUp() throws BallerinaOpenApiException {
+        System.setProperty(ParallelGeneration.PARALLELISM_PROPERTY, Integer.toString(parallelism));
+        GenerationContext context = new GenerationContext(BenchmarkDefinitions.createDefinition(operationCount),
+                Path.of("benchmark.yaml"));
+        Filter filter = new Filter(new ArrayList<>(), new ArrayList<>());
+        // Only the formatting is measured, the trees are generated once.
+        clientTree = new BallerinaClientGenerator(context, filter).generateSyntaxTree();
+        typesTree = new BallerinaSchemaGenerator(context, filter).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public List<String> format() throws BallerinaOpenApiException, FormatterException {
+        GenSrcFile clientFile = new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, "client", "client.bal", null);
+        GenSrcFile typesFile = new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, "client", "types.bal", null);
+        Map<GenSrcFile, SyntaxTree> syntaxTrees = new LinkedHashMap<>();
+        syntaxTrees.put(clientFile, clientTree);
+        syntaxTrees.put(typesFile, typesTree);
+        new SourceFormatter(formatEnabled).setContents(syntaxTrees);
+        return List.of(clientFile.getContent(), typesFile.getContent());
+    }
+}
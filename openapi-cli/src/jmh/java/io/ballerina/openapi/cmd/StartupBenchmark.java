@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the time from the start of the openapi command to its first generated file, for a small contract in a
+ * fresh JVM. Each measurement runs a single command in its own fork without warm up, so the time is dominated by
+ * loading and initializing the classes of the command, the parser, the generators and the formatter.
+ * <p>
+ * Run it with {@code -PjmhProfilers=cl} to also report the number of classes loaded by the command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(10)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class StartupBenchmark {
+    private static final String CONTRACT = String.join("\n",
+            "openapi: 3.0.1",
+            "info:",
+            "  title: Pets",
+            "  version: 1.0.0",
+            "servers:",
+            "  - url: http://localhost:9090/v1",
+            "paths:",
+            "  /pets:",
+            "    get:",
+            "      operationId: listPets",
+            "      parameters:",
+            "        - name: limit",
+            "          in: query",
+            "          schema:",
+            "            type: integer",
+            "      responses:",
+            "        '200':",
+            "          description: Pets",
+            "          content:",
+            "            application/json:",
+            "              schema:",
+            "                type: array",
+            "                items:",
+            "                  $ref: '#/components/schemas/Pet'",
+            "  /pets/{petId}:",
+            "    get:",
+            "      operationId: showPetById",
+            "      parameters:",
+            "        - name: petId",
+            "          in: path",
+            "          required: true",
+            "          schema:",
+            "            type: string",
+            "      responses:",
+            "        '200':",
+            "          description: Pet",
+            "          content:",
+            "            application/json:",
+            "              schema:",
+            "                $ref: '#/components/schemas/Pet'",
+            "components:",
+            "  schemas:",
+            "    Pet:",
+            "      type: object",
+            "      required:",
+            "        - id",
+            "      properties:",
+            "        id:",
+            "          type: integer",
+            "          format: int64",
+            "        name:",
+            "          type: string",
+            "");
+
+    @Param({"client", "service"})
+    private String mode;
+
+    @Param({"true", "false"})
+    private boolean formatEnabled;
+
+    private Path workDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // Only the contract is written, nothing of the command is loaded before the measurement.
+        workDir = Files.createTempDirectory("openapi-startup");
+        Files.writeString(workDir.resolve("pets.yaml"), CONTRACT);
+    }
+
+    @Benchmark
+    public Path generate() {
+        List<String> args = new ArrayList<>(List.of("--input", "pets.yaml", "--mode", mode, "--no-cache",
+                "--overwrite", "overwrite", "-o", "out"));
+        if (!formatEnabled) {
+            args.add("--no-format");
+        }
+        OpenApiCmd cmd = new OpenApiCmd(new PrintStream(OutputStream.nullOutputStream()), workDir, false);
+        new CommandLine(cmd).parseArgs(args.toArray(new String[0]));
+        cmd.execute();
+        return workDir.resolve("out");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(workDir)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+}
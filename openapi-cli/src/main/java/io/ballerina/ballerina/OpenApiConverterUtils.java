@@ -30,6 +30,7 @@ import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.utils.DirectoryIndex;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
@@ -55,9 +56,7 @@ import org.apache.commons.io.FilenameUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -68,7 +67,7 @@ import java.util.Optional;
 
 import static io.ballerina.ballerina.service.OpenApiEndpointMapper.extractServerForExpressionNode;
 import static io.ballerina.ballerina.service.OpenApiEndpointMapper.getServiceBasePath;
-import static io.ballerina.openapi.utils.CodegenUtils.writeFile;
+import static io.ballerina.openapi.utils.CodegenUtils.writeFileIfChanged;
 
 /**
  * OpenApi related utility classes.
@@ -93,6 +92,25 @@ public class OpenApiConverterUtils {
     public static void generateOAS3DefinitionsAllService(Path servicePath, Path outPath, Optional<String> serviceName
             , Boolean needJson)
             throws IOException, OpenApiConverterException {
+        generateOAS3DefinitionsAllService(servicePath, outPath, serviceName, needJson, true);
+    }
+
+    /**
+     * This util for generating files when not available with specific service name. The conversion keeps the
+     * compiled file in static state, so conversions run one at a time.
+     *
+     * @param servicePath The path to a single ballerina file
+     * @param outPath     The output directory to which the OpenAPI specifications should be generated to.
+     * @param serviceName Filter the services to generate OpenAPI specification for service with this name.
+     * @param interactive Whether to ask on the console before replacing an existing file. Otherwise, or when there
+     *                    is no console, the existing file is kept and the specification is written to a new file.
+     * @throws IOException               Error when writing the OpenAPI specification file.
+     * @throws OpenApiConverterException Error occurred generating OpenAPI specification.
+     */
+    public static synchronized void generateOAS3DefinitionsAllService(Path servicePath, Path outPath,
+                                                                      Optional<String> serviceName, Boolean needJson,
+                                                                      boolean interactive)
+            throws IOException, OpenApiConverterException {
         endpoints.clear();
         List<String> availableService = new ArrayList<>();
 
@@ -160,13 +178,15 @@ public class OpenApiConverterUtils {
             }
 
             // Generating for the services
+            DirectoryIndex existingFiles = DirectoryIndex.of(outPath);
             for (ServiceDeclarationNode serviceNode : servicesToGenerate) {
                 String serviceNodeName = getServiceBasePath(serviceNode);
                 String openApiName = getOpenApiFileName(syntaxTree.filePath(), serviceNodeName, needJson);
                 String openApiSource = generateOAS3Definitions(syntaxTree, serviceNodeName, needJson);
                 //  Checked old generated file with same name
-                openApiName = checkDuplicateFiles(outPath, openApiName, needJson);
-                writeFile(outPath.resolve(openApiName), openApiSource);
+                openApiName = checkDuplicateFiles(existingFiles, openApiName, needJson, interactive);
+                writeFileIfChanged(outPath.resolve(openApiName), openApiSource);
+                existingFiles.add(openApiName);
             }
         }
     }
@@ -190,7 +210,8 @@ public class OpenApiConverterUtils {
         return cleanedServiceName + ConverterConstants.OPENAPI_SUFFIX + ConverterConstants.YAML_EXTENSION;
     }
 
-    public static String generateOAS3Definitions(SyntaxTree ballerinaSource, String serviceName, Boolean needJson) {
+    public static synchronized String generateOAS3Definitions(SyntaxTree ballerinaSource, String serviceName,
+                                                          Boolean needJson) {
         //travers syntax tree
         //check top level node for get the annotation attachment for openapi
 
@@ -288,54 +309,23 @@ public class OpenApiConverterUtils {
 
     /**
      * This method use for checking the duplicate files.
-     * @param outPath       output path for file generated
+     * @param existingFiles files of the output path
      * @param openApiName   given file name
+     * @param interactive   whether to ask before replacing the existing file
      * @return              file name with duplicate number tag
      */
-    private static String checkDuplicateFiles(Path outPath, String openApiName, Boolean isJson) {
-
-        if (Files.exists(outPath)) {
-            final File[] listFiles = new File(String.valueOf(outPath)).listFiles();
-            if (listFiles != null) {
-                openApiName = checkAvailabilityOfGivenName(openApiName, listFiles, isJson);
-            }
-        }
-        return openApiName;
-    }
-
-    private static String checkAvailabilityOfGivenName(String openApiName, File[] listFiles, Boolean isJson) {
-
-        for (File file : listFiles) {
-            if (file.getName().equals(openApiName)) {
-                String userInput = System.console().readLine("There is already a/an " + file.getName() +
+    private static String checkDuplicateFiles(DirectoryIndex existingFiles, String openApiName, Boolean isJson,
+                                              boolean interactive) {
+        if (existingFiles.contains(openApiName)) {
+            String userInput = null;
+            if (interactive && System.console() != null) {
+                userInput = System.console().readLine("There is already a/an " + openApiName +
                         " in the location. Do you want to override the file? [y/N] ");
-                if (!Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
-                    int duplicateCount = 0;
-                    openApiName = setGeneratedFileName(listFiles, openApiName, duplicateCount, isJson);
-                }
             }
-        }
-        return openApiName;
-    }
-
-    /**
-     *  This method for setting the file name for generated file.
-     * @param listFiles         generated files
-     * @param fileName          File name
-     * @param duplicateCount    add the tag with duplicate number if file already exist
-     */
-    private static String setGeneratedFileName(File[] listFiles, String fileName, int duplicateCount, Boolean isJson) {
-        for (File listFile : listFiles) {
-            String listFileName = listFile.getName();
-            if (listFileName.contains(".") && ((listFileName.split("\\.")).length >= 2)
-                    && (listFileName.split("\\.")[0]
-                    .equals(fileName.split("\\.")[0]))) {
-                duplicateCount = 1 + duplicateCount;
+            if (userInput == null || !Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
+                openApiName = existingFiles.rename(openApiName, isJson ? ".json" : ".yaml");
             }
         }
-        if (isJson) {
-            return fileName.split("\\.")[0] + "." + (duplicateCount) + ".json";
-        }
-        return fileName.split("\\.")[0] + "." + (duplicateCount) + ".yaml";
+        return openApiName;
     }
 }
@@ -79,7 +79,6 @@ import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
-import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.Content;
@@ -98,6 +97,8 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -107,12 +108,9 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
-import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
-import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createAnnotationNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createAssignmentStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBasicLiteralNode;
@@ -187,38 +185,84 @@ import static io.ballerina.generators.GeneratorConstants.OPEN_PRAN;
 import static io.ballerina.generators.GeneratorUtils.buildUrl;
 import static io.ballerina.generators.GeneratorUtils.convertOpenAPITypeToBallerina;
 import static io.ballerina.generators.GeneratorUtils.escapeIdentifier;
-import static io.ballerina.generators.GeneratorUtils.extractReferenceType;
 import static io.ballerina.generators.GeneratorUtils.getBallerinaMeidaType;
-import static io.ballerina.generators.GeneratorUtils.getBallerinaOpenApiType;
+import static io.ballerina.generators.TokenPool.EMPTY_MINUTIAE;
+import static io.ballerina.generators.TokenPool.createIdentifierToken;
+import static io.ballerina.generators.TokenPool.createToken;
 
 /**
  * This Util class use for generating ballerina client file according to given yaml file.
+ * <p>
+ * A generator instance holds the state of a single generation, so separate instances can generate clients
+ * concurrently, also from a shared {@link GenerationContext}.
  */
 public class BallerinaClientGenerator {
-    private static Server server;
-    private static Paths paths;
-    private static Filter filters;
-    private static List<ImportDeclarationNode> imports = new ArrayList<>();
-    private static boolean isQuery;
-    private static Info info;
-    private static List<TypeDefinitionNode> typeDefinitionNodeList = new ArrayList<>();
+    private final GenerationContext context;
+    private final Filter filters;
+    private final List<ImportDeclarationNode> imports = new ArrayList<>();
+    private final Map<String, TypeDefinitionNode> typeDefinitionNodes = new LinkedHashMap<>();
+    private final ReferenceIndex referenceIndex;
+    private final NamingService naming;
+    private final SpecModel specModel;
+    private final OperationIdIndex operationIds;
+    private Server server;
+    private Info info;
+    private boolean isQuery;
+    private final Map<String, OperationSource> operationSources = new LinkedHashMap<>();
+    // Remote function generated by a worker for a single operation
+    private FunctionDefinitionNode remoteFunction;
+
+    /**
+     * Create a generator for the client of an already parsed OpenAPI definition.
+     *
+     * @param context generation context holding the parsed definition
+     * @param filter  tags and operations to be included in the client
+     */
+    public BallerinaClientGenerator(GenerationContext context, Filter filter) {
+        this.context = context;
+        this.filters = filter;
+        this.referenceIndex = context.getReferenceIndex();
+        this.naming = context.getNaming();
+        this.specModel = context.getSpecModel();
+        this.operationIds = context.getOperationIds();
+    }
 
     public static SyntaxTree generateSyntaxTree(Path definitionPath, Filter filter) throws IOException,
             BallerinaOpenApiException {
+        return generateSyntaxTree(GenerationContext.fromDefinition(definitionPath), filter);
+    }
+
+    /**
+     * Generate the client syntax tree for an already parsed OpenAPI definition.
+     *
+     * @param context generation context holding the parsed definition
+     * @param filter  tags and operations to be included in the client
+     * @return client syntax tree
+     * @throws BallerinaOpenApiException when the client cannot be generated for the definition
+     */
+    public static SyntaxTree generateSyntaxTree(GenerationContext context, Filter filter)
+            throws BallerinaOpenApiException {
+        return new BallerinaClientGenerator(context, filter).generateSyntaxTree();
+    }
+
+    /**
+     * Generate the client syntax tree.
+     *
+     * @return client syntax tree
+     * @throws BallerinaOpenApiException when the client cannot be generated for the definition
+     */
+    public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
         imports.clear();
-        typeDefinitionNodeList.clear();
+        typeDefinitionNodes.clear();
+        operationSources.clear();
         isQuery = false;
         // Summaries OpenAPI details
-        OpenAPI openAPI = getBallerinaOpenApiType(definitionPath);
+        OpenAPI openAPI = context.getOpenAPI();
         info = openAPI.getInfo();
         //Filter serverUrl
         List<Server> servers = openAPI.getServers();
         server = servers.get(0);
 
-        paths = openAPI.getPaths();
-
-        paths = setOperationId(paths);
-        filters = filter;
         // 1. Load client template syntax tree
         SyntaxTree syntaxTree = null;
         // Create imports http
@@ -228,7 +272,7 @@ public class BallerinaClientGenerator {
         ClassDefinitionNode classDefinitionNode = getClassDefinitionNode();
         ModulePartNode modulePartNode;
         List<ModuleMemberDeclarationNode> nodes =  new ArrayList<>();
-        nodes.addAll(typeDefinitionNodeList);
+        nodes.addAll(typeDefinitionNodes.values());
         nodes.add(classDefinitionNode);
         if (isQuery) {
             ImportDeclarationNode url = GeneratorUtils.getImportDeclarationNode(
@@ -255,6 +299,208 @@ public class BallerinaClientGenerator {
         return syntaxTree.modifyWith(modulePartNode);
     }
 
+    /**
+     * Generate the remote functions of the given operations only, along with the type definitions and imports they
+     * need, in a client class holding nothing else. It is used to update the functions of a previously generated
+     * client without generating the whole client again.
+     *
+     * @param operationKeys keys of the operations to be generated, as given by
+     *                      {@link SpecFingerprint#getOperationKey(SpecModel.OperationEntry)}
+     * @return syntax tree with the generated remote functions
+     * @throws BallerinaOpenApiException when a remote function cannot be generated
+     */
+    public SyntaxTree generateSyntaxTree(Set<String> operationKeys) throws BallerinaOpenApiException {
+        imports.clear();
+        typeDefinitionNodes.clear();
+        operationSources.clear();
+        isQuery = false;
+        List<SpecModel.OperationEntry> operations = new ArrayList<>();
+        for (SpecModel.OperationEntry operationEntry : getSelectedOperations()) {
+            if (operationKeys.contains(SpecFingerprint.getOperationKey(operationEntry))) {
+                operations.add(operationEntry);
+            }
+        }
+        imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, GeneratorConstants.HTTP));
+        List<Node> functions = new ArrayList<>(createRemoteFunctions(operations));
+        List<ModuleMemberDeclarationNode> nodes = new ArrayList<>(typeDefinitionNodes.values());
+        nodes.add(createClassDefinitionNode(createMetadataNode(null, createEmptyNodeList()),
+                createIdentifierToken(GeneratorConstants.PUBLIC),
+                createNodeList(createIdentifierToken(GeneratorConstants.CLIENT)),
+                createIdentifierToken(GeneratorConstants.CLASS), createIdentifierToken(GeneratorConstants.CLIENT_CLASS),
+                createIdentifierToken(GeneratorConstants.OPEN_BRACE), createNodeList(functions),
+                createToken(CLOSE_BRACE_TOKEN)));
+        ModulePartNode modulePartNode = createModulePartNode(createNodeList(imports), createNodeList(nodes),
+                createToken(EOF_TOKEN));
+        return SyntaxTree.from(TextDocuments.from("")).modifyWith(modulePartNode);
+    }
+
+    /**
+     * Get the remote functions generated for the operations by the last generation, by operation key in the order
+     * of the functions.
+     *
+     * @return generated operations
+     */
+    public Map<String, OperationSource> getOperationSources() {
+        return Collections.unmodifiableMap(operationSources);
+    }
+
+    /**
+     * Generate the client split into shards. Each shard is a client class of its own, generated into a file of its
+     * own, and the {@code Client} class holds a field for each of the shards. The type definitions and the query
+     * parameter helper function of the remote functions are generated along with the {@code Client} class and are
+     * shared by the shards.
+     *
+     * @param sharding how the remote functions are split into shards
+     * @return syntax trees by the name of their file, the {@code Client} class first
+     * @throws BallerinaOpenApiException when the client cannot be generated for the definition
+     */
+    public Map<String, SyntaxTree> generateShardedSyntaxTrees(ClientSharding sharding)
+            throws BallerinaOpenApiException {
+        imports.clear();
+        typeDefinitionNodes.clear();
+        operationSources.clear();
+        isQuery = false;
+        OpenAPI openAPI = context.getOpenAPI();
+        info = openAPI.getInfo();
+        server = openAPI.getServers().get(0);
+
+        List<SpecModel.OperationEntry> operations = getSelectedOperations();
+        createRemoteFunctions(operations);
+        List<OperationSource> sources = new ArrayList<>(operationSources.values());
+        // Shard names which differ only in case or punctuation end up in the same shard.
+        Map<String, List<OperationSource>> shards = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            String shardKey = String.join("_", ClientSharding.getWords(sharding.getShardName(operations.get(i))));
+            shards.computeIfAbsent(shardKey, key -> new ArrayList<>()).add(sources.get(i));
+        }
+
+        Set<String> typeNames = new HashSet<>(typeDefinitionNodes.keySet());
+        typeNames.add(GeneratorConstants.CLIENT_CLASS);
+        for (SpecModel.SchemaEntry schema : specModel.getSchemas()) {
+            typeNames.add(schema.getTypeName());
+        }
+        Map<String, SyntaxTree> syntaxTrees = new LinkedHashMap<>();
+        List<Node> shardFields = new ArrayList<>();
+        List<StatementNode> shardInitializers = new ArrayList<>();
+        for (Map.Entry<String, List<OperationSource>> shard : shards.entrySet()) {
+            StringBuilder pascalName = new StringBuilder();
+            for (String word : shard.getKey().split("_")) {
+                pascalName.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+            }
+            String fieldName = Character.isDigit(pascalName.charAt(0)) ? "shard" + pascalName :
+                    Character.toLowerCase(pascalName.charAt(0)) + pascalName.substring(1);
+            if (GeneratorConstants.RESERVED_KEYWORDS.contains(fieldName) ||
+                    fieldName.equals(GeneratorConstants.CLIENT_EP)) {
+                fieldName = fieldName + GeneratorConstants.CLIENT_CLASS;
+            }
+            String baseClassName = (Character.isDigit(pascalName.charAt(0)) ? "Shard" : "") + pascalName +
+                    GeneratorConstants.CLIENT_CLASS;
+            String className = baseClassName;
+            for (int count = 1; typeNames.contains(className); count++) {
+                className = baseClassName + count;
+            }
+            typeNames.add(className);
+
+            shardFields.add(createObjectFieldNode(createMetadataNode(null, createEmptyNodeList()),
+                    createIdentifierToken(GeneratorConstants.PUBLIC), createEmptyNodeList(),
+                    createSimpleNameReferenceNode(createIdentifierToken(className)), createIdentifierToken(fieldName),
+                    null, null, createToken(SEMICOLON_TOKEN)));
+            shardInitializers.add(getShardInitializer(fieldName));
+            syntaxTrees.put(GeneratorConstants.CLIENT + "_" + shard.getKey() + ".bal",
+                    getShardSyntaxTree(className, shard.getValue()));
+        }
+
+        List<ImportDeclarationNode> clientImports = new ArrayList<>();
+        clientImports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA,
+                GeneratorConstants.HTTP));
+        List<ModuleMemberDeclarationNode> nodes = new ArrayList<>(typeDefinitionNodes.values());
+        nodes.add(getClassDefinitionNode(shardFields, shardInitializers, new ArrayList<>()));
+        if (isQuery) {
+            clientImports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, "url"));
+            clientImports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, "lang.'string"));
+            nodes.add(getQueryParamPath());
+        }
+        Map<String, SyntaxTree> shardedTrees = new LinkedHashMap<>();
+        shardedTrees.put(GeneratorConstants.CLIENT + ".bal", SyntaxTree.from(TextDocuments.from(""))
+                .modifyWith(createModulePartNode(createNodeList(clientImports), createNodeList(nodes),
+                        createToken(EOF_TOKEN))));
+        shardedTrees.putAll(syntaxTrees);
+        return shardedTrees;
+    }
+
+    /*
+     * Generate the file of a shard, a client class with the remote functions of the shard sharing the http client of
+     * the Client class.
+     */
+    private SyntaxTree getShardSyntaxTree(String className, List<OperationSource> sources) {
+        List<ImportDeclarationNode> shardImports = new ArrayList<>();
+        shardImports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA,
+                GeneratorConstants.HTTP));
+        Set<String> importSources = new HashSet<>();
+        importSources.add(shardImports.get(0).toSourceCode().replaceAll("\\s+", ""));
+        List<Node> members = new ArrayList<>();
+        members.add(getClassField());
+        members.add(getShardInitFunction());
+        for (OperationSource source : sources) {
+            for (ImportDeclarationNode importNode : source.getImports()) {
+                if (importSources.add(importNode.toSourceCode().replaceAll("\\s+", ""))) {
+                    shardImports.add(importNode);
+                }
+            }
+            members.add(source.getFunction());
+        }
+        ClassDefinitionNode classDefinitionNode = createClassDefinitionNode(
+                createMetadataNode(null, createEmptyNodeList()), createIdentifierToken(GeneratorConstants.PUBLIC),
+                createNodeList(createIdentifierToken(GeneratorConstants.CLIENT)),
+                createIdentifierToken(GeneratorConstants.CLASS), createIdentifierToken(className),
+                createIdentifierToken(GeneratorConstants.OPEN_BRACE), createNodeList(members),
+                createToken(CLOSE_BRACE_TOKEN));
+        ModulePartNode modulePartNode = createModulePartNode(createNodeList(shardImports),
+                createNodeList(classDefinitionNode), createToken(EOF_TOKEN));
+        return SyntaxTree.from(TextDocuments.from("")).modifyWith(modulePartNode);
+    }
+
+    /*
+     * Generate the init function of a shard, which takes the http client of the Client class.
+     */
+    private FunctionDefinitionNode getShardInitFunction() {
+        QualifiedNameReferenceNode clientType = createQualifiedNameReferenceNode(createIdentifierToken(HTTP),
+                createToken(COLON_TOKEN), createIdentifierToken(GeneratorConstants.CLIENT_CLASS));
+        RequiredParameterNode clientParam = createRequiredParameterNode(createEmptyNodeList(), clientType,
+                createIdentifierToken(GeneratorConstants.CLIENT_EP));
+        FunctionSignatureNode functionSignatureNode = createFunctionSignatureNode(createToken(OPEN_PAREN_TOKEN),
+                createSeparatedNodeList(clientParam), createToken(CLOSE_PAREN_TOKEN), null);
+        FieldAccessExpressionNode varRef = createFieldAccessExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken("self")), createToken(DOT_TOKEN),
+                createSimpleNameReferenceNode(createIdentifierToken(GeneratorConstants.CLIENT_EP)));
+        AssignmentStatementNode assignmentStatementNode = createAssignmentStatementNode(varRef,
+                createToken(EQUAL_TOKEN),
+                createSimpleNameReferenceNode(createIdentifierToken(GeneratorConstants.CLIENT_EP)),
+                createToken(SEMICOLON_TOKEN));
+        FunctionBodyNode functionBodyNode = createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN),
+                null, createNodeList(assignmentStatementNode), createToken(CLOSE_BRACE_TOKEN));
+        return createFunctionDefinitionNode(null, null,
+                createNodeList(createIdentifierToken(GeneratorConstants.PUBLIC_ISOLATED)),
+                createIdentifierToken(GeneratorConstants.FUNCTION), createIdentifierToken("init"),
+                createEmptyNodeList(), functionSignatureNode, functionBodyNode);
+    }
+
+    /*
+     * Generate the initialization of a shard field in the init function of the Client class.
+     */
+    private static StatementNode getShardInitializer(String fieldName) {
+        FieldAccessExpressionNode varRef = createFieldAccessExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken("self")), createToken(DOT_TOKEN),
+                createSimpleNameReferenceNode(createIdentifierToken(fieldName)));
+        ParenthesizedArgList argList = createParenthesizedArgList(createToken(OPEN_PAREN_TOKEN),
+                createSeparatedNodeList(createPositionalArgumentNode(
+                        createSimpleNameReferenceNode(createIdentifierToken("httpEp")))),
+                createToken(CLOSE_PAREN_TOKEN));
+        return createAssignmentStatementNode(varRef, createToken(EQUAL_TOKEN),
+                createImplicitNewExpressionNode(createIdentifierToken("new"), argList),
+                createToken(SEMICOLON_TOKEN));
+    }
+
     /**
      * Generate serverUrl for client default value.
      */
@@ -286,7 +532,18 @@ public class BallerinaClientGenerator {
     /**
      * Generate Class definition Node.
      */
-    private static ClassDefinitionNode getClassDefinitionNode() throws BallerinaOpenApiException {
+    private ClassDefinitionNode getClassDefinitionNode() throws BallerinaOpenApiException {
+        return getClassDefinitionNode(new ArrayList<>(), new ArrayList<>(),
+                createRemoteFunctions(getSelectedOperations()));
+    }
+
+    /*
+     * Generate the client class with the given shard fields, their initialization in the init function and the given
+     * remote functions.
+     */
+    private ClassDefinitionNode getClassDefinitionNode(List<Node> shardFields, List<StatementNode> shardInitializers,
+                                                       List<FunctionDefinitionNode> remoteFunctions)
+            throws BallerinaOpenApiException {
 
         // Generate client class
         Token visibilityQualifier = createIdentifierToken(GeneratorConstants.PUBLIC);
@@ -301,6 +558,7 @@ public class BallerinaClientGenerator {
         //Create class field
         ObjectFieldNode fieldNode = getClassField();
         memberNodeList.add(fieldNode);
+        memberNodeList.addAll(shardFields);
         //Create init function definition
         //Common Used
         NodeList<Token> qualifierList = createNodeList(createIdentifierToken(GeneratorConstants.PUBLIC_ISOLATED));
@@ -389,7 +647,11 @@ public class BallerinaClientGenerator {
         AssignmentStatementNode assignmentStatementNode = createAssignmentStatementNode(varRef,
                 createToken(EQUAL_TOKEN), expr, createToken(SEMICOLON_TOKEN));
 
-        NodeList<StatementNode> statementList = createNodeList(variableDeclarationNode, assignmentStatementNode);
+        List<StatementNode> statements = new ArrayList<>();
+        statements.add(variableDeclarationNode);
+        statements.add(assignmentStatementNode);
+        statements.addAll(shardInitializers);
+        NodeList<StatementNode> statementList = createNodeList(statements);
 
         FunctionBodyNode functionBodyNode = createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN),
                 null, statementList, createToken(CLOSE_BRACE_TOKEN));
@@ -399,7 +661,7 @@ public class BallerinaClientGenerator {
 
         memberNodeList.add(initFunctionNode);
         // Generate remote function Nodes
-        memberNodeList.addAll(createRemoteFunctions(paths, filters));
+        memberNodeList.addAll(remoteFunctions);
         MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
         if (info.getExtensions() != null) {
             Map<String, Object> extensions = info.getExtensions();
@@ -419,7 +681,7 @@ public class BallerinaClientGenerator {
     /**
      * Generate Client class attributes.
      */
-    private static ObjectFieldNode getClassField() {
+    private ObjectFieldNode getClassField() {
         Token visibilityQualifierAttribute = createIdentifierToken(GeneratorConstants.PUBLIC);
         NodeList<Token> qualifierList = createEmptyNodeList();
         QualifiedNameReferenceNode typeName = createQualifiedNameReferenceNode(createIdentifierToken(HTTP),
@@ -431,209 +693,85 @@ public class BallerinaClientGenerator {
     }
 
     /*
-     * Generate remote function method name , when operation ID is not available for given operation.
+     * Generate remote functions for OpenAPI operations.
      */
-    private static Paths setOperationId(Paths paths) {
-        Set<Map.Entry<String, PathItem>> entries = paths.entrySet();
-        for (Map.Entry<String, PathItem> entry: entries) {
-            PathItem pathItem = entry.getValue();
-            int countMissId = 0;
-            for (Operation operation : entry.getValue().readOperations()) {
-                if (operation.getOperationId() == null) {
-                    //simplify here with 1++
-                    countMissId = countMissId + 1;
-                } else {
-                    String operationId = operation.getOperationId();
-                    operation.setOperationId(Character.toLowerCase(operationId.charAt(0)) + operationId.substring(1));
-                }
-            }
-
-            if (pathItem.getGet() != null) {
-                Operation getOp = pathItem.getGet();
-                if (getOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, "get");
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    getOp.setOperationId(operationId);
-                }
-            }
-            if (pathItem.getPut() != null) {
-                Operation putOp = pathItem.getPut();
-                if (putOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, "put");
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    putOp.setOperationId(operationId);
-                }
-            }
-            if (pathItem.getPost() != null) {
-                Operation postOp = pathItem.getPost();
-                if (postOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, "post");
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    postOp.setOperationId(operationId);
-                }
-            }
-            if (pathItem.getDelete() != null) {
-                Operation deleteOp = pathItem.getDelete();
-                if (deleteOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, "delete");
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    deleteOp.setOperationId(operationId);
-                }
-            }
-            if (pathItem.getOptions() != null) {
-                Operation optionOp = pathItem.getOptions();
-                if (optionOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, "options");
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    optionOp.setOperationId(operationId);
-                }
-            }
-            if (pathItem.getHead() != null) {
-                Operation headOp = pathItem.getHead();
-                if (headOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, "head");
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    headOp.setOperationId(operationId);
-                }
-            }
-            if (pathItem.getPatch() != null) {
-                Operation patchOp = pathItem.getPatch();
-                if (patchOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, "patch");
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    patchOp.setOperationId(operationId);
-                }
-            }
-            if (pathItem.getTrace() != null) {
-                Operation traceOp = pathItem.getTrace();
-                if (traceOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, "trace");
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    traceOp.setOperationId(operationId);
-                }
+    private List<SpecModel.OperationEntry> getSelectedOperations() {
+        List<SpecModel.OperationEntry> operations = new ArrayList<>();
+        for (SpecModel.OperationEntry operationEntry : specModel.getOperations()) {
+            //Add filter availability
+            //1.Tag filter
+            //2.Operation filter
+            //3.Both tag and operation filter
+            if (operationEntry.isSelected(filters)) {
+                operations.add(operationEntry);
             }
         }
-        return paths;
+        return operations;
     }
 
-    private static String getOperationId(String[] split, String method) {
-        String operationId;
-        String regEx = "\\{([^}]*)\\}";
-        Matcher matcher = Pattern.compile(regEx).matcher(split[split.length - 1]);
-        if (matcher.matches()) {
-            operationId = method + split[split.length - 2] + "By" + matcher.group(1);
+    private List<FunctionDefinitionNode> createRemoteFunctions(List<SpecModel.OperationEntry> operations)
+            throws BallerinaOpenApiException {
+        // Each operation is generated by its own worker generator, which collects the type definitions and imports
+        // contributed by the operation. The contributions are merged in the order of the operations, so the client
+        // is the same whether the workers run serially or in parallel.
+        List<BallerinaClientGenerator> workers;
+        if (context.getComplexity().isParallel()) {
+            workers = ParallelGeneration.map(operations, this::createWorker);
         } else {
-            operationId = method + split[split.length - 1];
+            workers = new ArrayList<>(operations.size());
+            for (SpecModel.OperationEntry operationEntry : operations) {
+                workers.add(createWorker(operationEntry));
+            }
         }
-        return Character.toLowerCase(operationId.charAt(0)) + operationId.substring(1);
+        List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
+        for (int i = 0; i < workers.size(); i++) {
+            BallerinaClientGenerator worker = workers.get(i);
+            functionDefinitionNodeList.add(worker.remoteFunction);
+            for (Map.Entry<String, TypeDefinitionNode> typeDefinition : worker.typeDefinitionNodes.entrySet()) {
+                typeDefinitionNodes.putIfAbsent(typeDefinition.getKey(), typeDefinition.getValue());
+            }
+            imports.addAll(worker.imports);
+            isQuery = isQuery || worker.isQuery;
+            operationSources.put(SpecFingerprint.getOperationKey(operations.get(i)), new OperationSource(
+                    worker.remoteFunction, worker.typeDefinitionNodes, worker.imports, worker.isQuery));
+        }
+        return functionDefinitionNodeList;
     }
 
-    /*
-     * Generate remote functions for OpenAPI operations.
-     */
-    private static List<FunctionDefinitionNode> createRemoteFunctions (Paths paths, Filter filter)
+    private BallerinaClientGenerator createWorker(SpecModel.OperationEntry operationEntry)
             throws BallerinaOpenApiException {
-        List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
-        Set<Map.Entry<String, PathItem>> pathsItems = paths.entrySet();
-        Iterator<Map.Entry<String, PathItem>> pathItr = pathsItems.iterator();
-        while (pathItr.hasNext()) {
-            Map.Entry<String, PathItem> path = pathItr.next();
-            if (!path.getValue().readOperationsMap().isEmpty()) {
-                Map<PathItem.HttpMethod, Operation> operationMap = path.getValue().readOperationsMap();
-                for (Map.Entry<PathItem.HttpMethod, Operation> operation : operationMap.entrySet()) {
-                    //Add filter availability
-                    //1.Tag filter
-                    //2.Operation filter
-                    //3.Both tag and operation filter
-                    List<String> filterTags = filter.getTags();
-                    List<String> operationTags = operation.getValue().getTags();
-                    List<String> filterOperations  = filter.getOperations();
-                    // Handle the display annotations
-                    MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
-                    Map<String, Object> extensions = operation.getValue().getExtensions();
-                    if (extensions != null) {
-                        for (Map.Entry<String, Object> extension: extensions.entrySet()) {
-                            if (extension.getKey().trim().equals("x-display")) {
-                                metadataNode = getMetadataNodeForDisplayAnnotation(extension);
-                            }
-                        }
-                    }
+        BallerinaClientGenerator worker = new BallerinaClientGenerator(context, filters);
+        worker.remoteFunction = worker.createRemoteFunction(operationEntry);
+        return worker;
+    }
 
-                    if (!filterTags.isEmpty() || !filterOperations.isEmpty()) {
-                        if (operationTags != null || ((!filterOperations.isEmpty())
-                                && (operation.getValue().getOperationId() != null))) {
-                            if (GeneratorUtils.hasTags(operationTags, filterTags) ||
-                                    ((operation.getValue().getOperationId() != null) &&
-                                            filterOperations.contains(operation.getValue().getOperationId().trim()))) {
-                                // function call for generate function definition node.
-                                FunctionDefinitionNode functionDefinitionNode =
-                                        getFunctionDefinitionNode(metadataNode, path.getKey()
-                                        , operation);
-                                functionDefinitionNodeList.add(functionDefinitionNode);
-                            }
-                        }
-                    } else {
-                        FunctionDefinitionNode functionDefinitionNode = getFunctionDefinitionNode(metadataNode,
-                                path.getKey(),
-                                operation);
-                        functionDefinitionNodeList.add(functionDefinitionNode);
-                    }
+    private FunctionDefinitionNode createRemoteFunction(SpecModel.OperationEntry operationEntry)
+            throws BallerinaOpenApiException {
+        Map.Entry<PathItem.HttpMethod, Operation> operation = operationEntry.getOperationEntry();
+        // Handle the display annotations
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+        Map<String, Object> extensions = operation.getValue().getExtensions();
+        if (extensions != null) {
+            for (Map.Entry<String, Object> extension: extensions.entrySet()) {
+                if (extension.getKey().trim().equals("x-display")) {
+                    metadataNode = getMetadataNodeForDisplayAnnotation(extension);
                 }
             }
         }
-        return functionDefinitionNodeList;
+        // function call for generate function definition node.
+        return getFunctionDefinitionNode(metadataNode, operationEntry.getPath(), operation);
     }
 
     /**
      * Generate function definition node.
      */
-    private static FunctionDefinitionNode getFunctionDefinitionNode(MetadataNode metadataNode, String path,
-                                                                    Map.Entry<PathItem.HttpMethod,
+    private FunctionDefinitionNode getFunctionDefinitionNode(MetadataNode metadataNode, String path,
+                                                             Map.Entry<PathItem.HttpMethod,
             Operation> operation) throws BallerinaOpenApiException {
         //Create qualifier list
         NodeList<Token> qualifierList = createNodeList(createIdentifierToken("remote isolated"));
         Token functionKeyWord = createToken(FUNCTION_KEYWORD);
-        IdentifierToken functionName = createIdentifierToken(operation.getValue().getOperationId());
+        IdentifierToken functionName = createIdentifierToken(operationIds.getOperationId(operation.getValue()));
         NodeList<Node> relativeResourcePath = createEmptyNodeList();
 
         FunctionSignatureNode functionSignatureNode = getFunctionSignatureNode(operation.getValue());
@@ -648,7 +786,7 @@ public class BallerinaClientGenerator {
         return functionDefinitionNode;
     }
 
-    private static FunctionSignatureNode getFunctionSignatureNode(Operation operation)
+    private FunctionSignatureNode getFunctionSignatureNode(Operation operation)
             throws BallerinaOpenApiException {
         // Create Parameters - function with parameters
         // Function RequestBody
@@ -675,7 +813,7 @@ public class BallerinaClientGenerator {
     /*
      * Generate function parameters.
      */
-    private static void setFunctionParameters(Operation operation, List<Node> parameterList, Token comma)
+    private void setFunctionParameters(Operation operation, List<Node> parameterList, Token comma)
             throws BallerinaOpenApiException {
 
         List<Parameter> parameters = operation.getParameters();
@@ -707,7 +845,7 @@ public class BallerinaClientGenerator {
     /*
      * Create query parameters.
      */
-    private static void setQueryParameters(List<Node> parameterList, Parameter parameter)
+    private void setQueryParameters(List<Node> parameterList, Parameter parameter)
             throws BallerinaOpenApiException {
         NodeList<AnnotationNode> annotationNodes = createEmptyNodeList();
         TypeDescriptorNode typeName;
@@ -732,7 +870,7 @@ public class BallerinaClientGenerator {
                     paramType = convertOpenAPITypeToBallerina(itemType) + "[]";
                 }
             } else if (arraySchema.getItems().get$ref() != null) {
-                paramType = extractReferenceType(arraySchema.getItems().get$ref().trim()) + "[]";
+                paramType = referenceIndex.getTypeName(arraySchema.getItems().get$ref().trim()) + "[]";
             }
         }
         if (parameter.getRequired()) {
@@ -742,7 +880,7 @@ public class BallerinaClientGenerator {
              typeName = createOptionalTypeDescriptorNode(createBuiltinSimpleNameReferenceNode(null,
                     createIdentifierToken(paramType)), createToken(QUESTION_MARK_TOKEN));
         }
-        IdentifierToken paramName = createIdentifierToken(escapeIdentifier(parameter.getName().trim()));
+        IdentifierToken paramName = createIdentifierToken(naming.getIdentifier(parameter.getName().trim()));
         RequiredParameterNode queryParam = createRequiredParameterNode(annotationNodes, typeName, paramName);
         parameterList.add(queryParam);
     }
@@ -750,7 +888,7 @@ public class BallerinaClientGenerator {
     /*
      * Create path parameters.
      */
-    private static void setPathParameters(List<Node> parameterList, Parameter parameter) {
+    private void setPathParameters(List<Node> parameterList, Parameter parameter) {
         NodeList<AnnotationNode> annotationNodes = createEmptyNodeList();
         if (parameter.getExtensions() != null) {
             for (Map.Entry<String, Object> extension: parameter.getExtensions().entrySet()) {
@@ -763,7 +901,7 @@ public class BallerinaClientGenerator {
 
         BuiltinSimpleNameReferenceNode typeName = createBuiltinSimpleNameReferenceNode(null,
                 createIdentifierToken(convertOpenAPITypeToBallerina(parameter.getSchema().getType().trim())));
-        IdentifierToken paramName = createIdentifierToken(escapeIdentifier(parameter.getName().trim()));
+        IdentifierToken paramName = createIdentifierToken(naming.getIdentifier(parameter.getName().trim()));
         RequiredParameterNode pathParam = createRequiredParameterNode(annotationNodes, typeName, paramName);
         parameterList.add(pathParam);
     }
@@ -771,7 +909,7 @@ public class BallerinaClientGenerator {
     /*
      * Create header parameter.
      */
-    private static void setHeaderParameter(List<Node> parameterList, Parameter parameter)
+    private void setHeaderParameter(List<Node> parameterList, Parameter parameter)
             throws BallerinaOpenApiException {
         NodeList<AnnotationNode> annotationNodes = createEmptyNodeList();
         if (parameter.getExtensions() != null) {
@@ -788,21 +926,21 @@ public class BallerinaClientGenerator {
             if (schema instanceof ArraySchema) {
                 ArraySchema arraySchema = (ArraySchema) schema;
                 if (arraySchema.getItems().get$ref() != null) {
-                    type = extractReferenceType(arraySchema.getItems().get$ref()) + "[]";
+                    type = referenceIndex.getTypeName(arraySchema.getItems().get$ref()) + "[]";
                 } else {
                     type = convertOpenAPITypeToBallerina(arraySchema.getItems().getType().trim()) + "[]";
                 }
             }
             BuiltinSimpleNameReferenceNode typeName = createBuiltinSimpleNameReferenceNode(null,
                     createIdentifierToken(type));
-            IdentifierToken paramName = createIdentifierToken(escapeIdentifier(parameter.getName().trim()));
+            IdentifierToken paramName = createIdentifierToken(naming.getIdentifier(parameter.getName().trim()));
             RequiredParameterNode pathParam = createRequiredParameterNode(annotationNodes, typeName, paramName);
             parameterList.add(pathParam);
         } else {
             BuiltinSimpleNameReferenceNode typeName = createBuiltinSimpleNameReferenceNode(null,
                     createIdentifierToken(convertOpenAPITypeToBallerina(
                             parameter.getSchema().getType().trim()) + "?"));
-            IdentifierToken paramName = createIdentifierToken(escapeIdentifier(parameter.getName().trim()));
+            IdentifierToken paramName = createIdentifierToken(naming.getIdentifier(parameter.getName().trim()));
             RequiredParameterNode pathParam = createRequiredParameterNode(annotationNodes, typeName, paramName);
             parameterList.add(pathParam);
         }
@@ -811,7 +949,7 @@ public class BallerinaClientGenerator {
     /*
      * Create request body parameter.
      */
-    private static void setRequestBodyParameters(List<Node> parameterList, RequestBody requestBody)
+    private void setRequestBodyParameters(List<Node> parameterList, RequestBody requestBody)
             throws BallerinaOpenApiException {
 
         Content content = requestBody.getContent();
@@ -823,7 +961,7 @@ public class BallerinaClientGenerator {
             String paramType;
             //Take payload type
             if (schema.get$ref() != null) {
-                paramType = extractReferenceType(schema.get$ref().trim());
+                paramType = referenceIndex.getTypeName(schema.get$ref().trim());
             } else if (schema.getType() != null) {
                 String typeOfPayload = schema.getType().trim();
                 paramType = convertOpenAPITypeToBallerina(typeOfPayload);
@@ -833,7 +971,7 @@ public class BallerinaClientGenerator {
                 if (arraySchema.getItems().getType() != null) {
                     paramType = convertOpenAPITypeToBallerina(arraySchema.getItems().getType()) + "[]";
                 } else if (arraySchema.getItems().get$ref() != null) {
-                    paramType = extractReferenceType(arraySchema.getItems().get$ref()) + "[]";
+                    paramType = referenceIndex.getTypeName(arraySchema.getItems().get$ref()) + "[]";
                 } else {
                     paramType = getBallerinaMeidaType(next.getKey().trim()) + "[]";
                 }
@@ -860,7 +998,7 @@ public class BallerinaClientGenerator {
     /*
      * Create request body parameter.
      */
-    private static String getReturnType(Operation operation) throws BallerinaOpenApiException {
+    private String getReturnType(Operation operation) throws BallerinaOpenApiException {
         String returnType = "http:Response | error";
         if (operation.getResponses() != null) {
             ApiResponses responses = operation.getResponses();
@@ -878,32 +1016,21 @@ public class BallerinaClientGenerator {
                         if (media.getValue().getSchema() != null) {
                             Schema schema = media.getValue().getSchema();
                             if (schema.get$ref() != null) {
-                                type = extractReferenceType(schema.get$ref());
+                                type = referenceIndex.getTypeName(schema.get$ref());
                             } else if (schema instanceof ArraySchema) {
                                 ArraySchema arraySchema = (ArraySchema) schema;
                                 // TODO: Nested array when response has
                                 if (arraySchema.getItems().get$ref() != null) {
-                                    type = extractReferenceType(arraySchema.getItems().get$ref()) + "[]";
-                                    String typeName = extractReferenceType(arraySchema.getItems().get$ref()) + "Arr";
+                                    String itemType = referenceIndex.getTypeName(arraySchema.getItems().get$ref());
+                                    type = itemType + "[]";
+                                    String typeName = itemType + "Arr";
                                     TypeDefinitionNode typeDefNode = createTypeDefinitionNode(null, null,
                                             createIdentifierToken("type"),
                                             createIdentifierToken(typeName),
                                             createSimpleNameReferenceNode(createIdentifierToken(type)),
                                             createToken(SEMICOLON_TOKEN));
-                                    // need to check already typedecripor has same name
-                                    if (!typeDefinitionNodeList.isEmpty()) {
-                                        boolean isExit = false;
-                                        for (TypeDefinitionNode typeNode: typeDefinitionNodeList) {
-                                            if (typeNode.typeName().toString().trim().equals(typeName)) {
-                                                isExit = true;
-                                            }
-                                        }
-                                        if (!isExit) {
-                                            typeDefinitionNodeList.add(typeDefNode);
-                                        }
-                                    } else {
-                                        typeDefinitionNodeList.add(typeDefNode);
-                                    }
+                                    // Array types of the same item type are defined once
+                                    typeDefinitionNodes.putIfAbsent(typeName, typeDefNode);
                                     type = typeName;
                                 } else {
                                     String typeName = convertOpenAPITypeToBallerina(arraySchema.getItems().getType()) +
@@ -914,20 +1041,7 @@ public class BallerinaClientGenerator {
                                             createIdentifierToken(typeName),
                                             createSimpleNameReferenceNode(createIdentifierToken(type)),
                                             createToken(SEMICOLON_TOKEN));
-                                    typeDefinitionNodeList.add(typeDefNode);
-                                    if (!typeDefinitionNodeList.isEmpty()) {
-                                        boolean isExit = false;
-                                        for (TypeDefinitionNode typeNode: typeDefinitionNodeList) {
-                                            if (typeNode.typeName().toString().trim().equals(typeName)) {
-                                                isExit = true;
-                                            }
-                                        }
-                                        if (!isExit) {
-                                            typeDefinitionNodeList.add(typeDefNode);
-                                        }
-                                    } else {
-                                        typeDefinitionNodeList.add(typeDefNode);
-                                    }
+                                    typeDefinitionNodes.putIfAbsent(typeName, typeDefNode);
                                     type = typeName;
                                 }
                             } else if (schema.getType() != null) {
@@ -962,8 +1076,8 @@ public class BallerinaClientGenerator {
      * @return - function body node
      * @throws BallerinaOpenApiException
      */
-    private static FunctionBodyNode getFunctionBodyNode(String path,
-                                                        Map.Entry<PathItem.HttpMethod, Operation> operation)
+    private FunctionBodyNode getFunctionBodyNode(String path,
+                                                 Map.Entry<PathItem.HttpMethod, Operation> operation)
             throws BallerinaOpenApiException {
         NodeList<AnnotationNode> annotationNodes = createEmptyNodeList();
         boolean isHeader = false;
@@ -982,8 +1096,8 @@ public class BallerinaClientGenerator {
         path = generatePathWithPathParameter(path);
 
         //String path generator
-        NodeList<Node> content = createNodeList(createLiteralValueToken(null, path, createEmptyMinutiaeList(),
-                createEmptyMinutiaeList()));
+        NodeList<Node> content = createNodeList(createLiteralValueToken(null, path, EMPTY_MINUTIAE,
+                EMPTY_MINUTIAE));
         Token endBacktick = createToken(BACKTICK_TOKEN);
         TemplateExpressionNode initializer = createTemplateExpressionNode(null, type, startBacktick, content,
                 endBacktick);
@@ -1201,7 +1315,7 @@ public class BallerinaClientGenerator {
     /*
     * Generate variableDeclarationNode.
     */
-    private static  VariableDeclarationNode getSimpleStatement(String responseType, String variable,
+    private VariableDeclarationNode getSimpleStatement(String responseType, String variable,
                                                                String initializer) {
         SimpleNameReferenceNode resTypeBind = createSimpleNameReferenceNode(createIdentifierToken(responseType));
         CaptureBindingPatternNode bindingPattern = createCaptureBindingPatternNode(createIdentifierToken(variable));
@@ -1212,7 +1326,7 @@ public class BallerinaClientGenerator {
                 createToken(EQUAL_TOKEN), init, createToken(SEMICOLON_TOKEN));
     }
 
-    private static VariableDeclarationNode getMapForParameters(List<Parameter> parameters, String mapDataType,
+    private VariableDeclarationNode getMapForParameters(List<Parameter> parameters, String mapDataType,
                                                             String mapName) {
         List<Node> filedOfMap = new ArrayList();
         BuiltinSimpleNameReferenceNode mapType = createBuiltinSimpleNameReferenceNode(null,
@@ -1223,10 +1337,10 @@ public class BallerinaClientGenerator {
 
         for (Parameter parameter: parameters) {
             // Initializer
-            IdentifierToken fieldName = createIdentifierToken(escapeIdentifier(parameter.getName().trim()));
+            IdentifierToken fieldName = createIdentifierToken(naming.getIdentifier(parameter.getName().trim()));
             Token colon = createToken(COLON_TOKEN);
             SimpleNameReferenceNode valueExpr = createSimpleNameReferenceNode(
-                    createIdentifierToken(escapeIdentifier(parameter.getName().trim())));
+                    createIdentifierToken(naming.getIdentifier(parameter.getName().trim())));
             SpecificFieldNode specificFieldNode = createSpecificFieldNode(null,
                     fieldName, colon, valueExpr);
             filedOfMap.add(specificFieldNode);
@@ -1245,7 +1359,7 @@ public class BallerinaClientGenerator {
 /*
  * Generate expressionStatementNode.
  */
-    private static ExpressionStatementNode getSimpleExpressionStatementNode(String expression) {
+    private ExpressionStatementNode getSimpleExpressionStatementNode(String expression) {
         SimpleNameReferenceNode expressionNode = createSimpleNameReferenceNode(
                 createIdentifierToken(expression));
         return createExpressionStatementNode(null, expressionNode, createToken(SEMICOLON_TOKEN));
@@ -1254,7 +1368,7 @@ public class BallerinaClientGenerator {
 /*
  * Filter the mediaType.
  */
-    private static String getMediaType(String media) {
+    private String getMediaType(String media) {
         switch (media) {
             case "application/json":
                 return SyntaxKind.JSON_KEYWORD.toString();
@@ -1271,7 +1385,7 @@ public class BallerinaClientGenerator {
     }
 
     // Create queryPath param function
-    private static FunctionDefinitionNode getQueryParamPath() {
+    private FunctionDefinitionNode getQueryParamPath() {
         Token functionKeyWord = createIdentifierToken("isolated function");
         IdentifierToken functionName = createIdentifierToken(" getPathForQueryParam");
         FunctionSignatureNode functionSignatureNode = createFunctionSignatureNode(createToken(OPEN_PAREN_TOKEN),
@@ -1433,7 +1547,7 @@ public class BallerinaClientGenerator {
     /*
      * Generate metaDataNode with display annotation.
      */
-    private static MetadataNode getMetadataNodeForDisplayAnnotation(Map.Entry<String, Object> extension) {
+    private MetadataNode getMetadataNodeForDisplayAnnotation(Map.Entry<String, Object> extension) {
 
         MetadataNode metadataNode;
         AnnotationNode annotationNode = getAnnotationNode(extension);
@@ -1441,7 +1555,7 @@ public class BallerinaClientGenerator {
         return metadataNode;
     }
 
-    private static AnnotationNode getAnnotationNode(Map.Entry<String, Object> extension) {
+    private AnnotationNode getAnnotationNode(Map.Entry<String, Object> extension) {
 
         LinkedHashMap<String, String> extFields = (LinkedHashMap<String, String>) extension.getValue();
         List<Node> annotFields = new ArrayList<>();
@@ -1451,8 +1565,8 @@ public class BallerinaClientGenerator {
                 BasicLiteralNode valueExpr = createBasicLiteralNode(STRING_LITERAL,
                         createLiteralValueToken(SyntaxKind.STRING_LITERAL_TOKEN,
                                 '"' + field.getValue().trim() + '"',
-                                createEmptyMinutiaeList(),
-                                createEmptyMinutiaeList()));
+                                EMPTY_MINUTIAE,
+                                EMPTY_MINUTIAE));
                 SpecificFieldNode fields = createSpecificFieldNode(null,
                         createIdentifierToken(field.getKey().trim()),
                         createToken(COLON_TOKEN), valueExpr);
@@ -1474,4 +1588,43 @@ public class BallerinaClientGenerator {
         return createAnnotationNode(createToken(SyntaxKind.AT_TOKEN)
                 , annotateReference, annotValue);
     }
+
+    /**
+     * Remote function generated for a single operation, with the type definitions and imports it needs.
+     */
+    public static class OperationSource {
+        private final FunctionDefinitionNode function;
+        private final Map<String, TypeDefinitionNode> typeDefinitions;
+        private final List<ImportDeclarationNode> imports;
+        private final boolean query;
+
+        OperationSource(FunctionDefinitionNode function, Map<String, TypeDefinitionNode> typeDefinitions,
+                        List<ImportDeclarationNode> imports, boolean query) {
+            this.function = function;
+            this.typeDefinitions = typeDefinitions;
+            this.imports = imports;
+            this.query = query;
+        }
+
+        public FunctionDefinitionNode getFunction() {
+            return function;
+        }
+
+        public Map<String, TypeDefinitionNode> getTypeDefinitions() {
+            return Collections.unmodifiableMap(typeDefinitions);
+        }
+
+        public List<ImportDeclarationNode> getImports() {
+            return Collections.unmodifiableList(imports);
+        }
+
+        /**
+         * Check whether the function uses the query parameter helper function of the client.
+         *
+         * @return true if the operation has query parameters
+         */
+        public boolean isQuery() {
+            return query;
+        }
+    }
 }
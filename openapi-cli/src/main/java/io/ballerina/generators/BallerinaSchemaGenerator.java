@@ -34,16 +34,16 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypeReferenceNode;
+import io.ballerina.openapi.cmd.Filter;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.loader.SpecLoader;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
-import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import org.ballerinalang.formatter.core.FormatterException;
 
@@ -53,136 +53,118 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
 import static io.ballerina.generators.GeneratorUtils.convertOpenAPITypeToBallerina;
-import static io.ballerina.generators.GeneratorUtils.escapeIdentifier;
-import static io.ballerina.generators.GeneratorUtils.extractReferenceType;
 
 /**
  *This class wraps the {@link Schema} from openapi models inorder to overcome complications
  *while populating syntax tree.
+ *<p>
+ *A generator instance holds the state of a single generation, so separate instances can generate records
+ *concurrently.
  */
 public class BallerinaSchemaGenerator {
     private static final PrintStream outStream = System.err;
+    private final GenerationContext context;
+    private final Filter filter;
+    private final ReferenceIndex referenceIndex;
+    private final NamingService naming;
+
+    /**
+     * Create a generator for the records of the schemas used by the filtered operations of an already parsed
+     * OpenAPI definition.
+     *
+     * @param context generation context holding the parsed definition
+     * @param filter  tags and operations to be generated, or null to generate all the schemas
+     */
+    public BallerinaSchemaGenerator(GenerationContext context, Filter filter) {
+        this.context = context;
+        this.filter = filter;
+        this.referenceIndex = context.getReferenceIndex();
+        this.naming = context.getNaming();
+    }
 
     public static SyntaxTree generateSyntaxTree(Path definitionPath)
             throws OpenApiException, FormatterException, IOException, BallerinaOpenApiException,
             BallerinaOpenApiException {
-        OpenAPI openApi = parseOpenAPIFile(definitionPath.toString());
-        // TypeDefinitionNodes their
-        List<TypeDefinitionNode> typeDefinitionNodeList = new LinkedList<>();
-        if (openApi.getComponents() != null) {
-            //Create typeDefinitionNode
-            Components components = openApi.getComponents();
-            if (components.getSchemas() != null) {
-                Map<String, Schema> schemas = components.getSchemas();
-                for (Map.Entry<String, Schema> schema: schemas.entrySet()) {
-                    List<String> required = schema.getValue().getRequired();
+        return generateSyntaxTree(new GenerationContext(parseOpenAPIFile(definitionPath.toString()), definitionPath));
+    }
 
-                    //1.typeKeyWord
-                    Token typeKeyWord = AbstractNodeFactory.createIdentifierToken("public type");
-                    //2.typeName
-                    IdentifierToken typeName = AbstractNodeFactory.createIdentifierToken(
-                            escapeIdentifier(schema.getKey().trim()));
-                    //3.typeDescriptor - RecordTypeDescriptor
-                    //3.1 recordKeyWord
-                    Token recordKeyWord = AbstractNodeFactory.createIdentifierToken("record");
-                    //3.2 bodyStartDelimiter
-                    Token bodyStartDelimiter = AbstractNodeFactory.createIdentifierToken("{");
-                    //3.3 fields
-                    //Generate RecordFiled
-                    List<Node> recordFieldList = new ArrayList<>();
-                    Schema schemaValue = schema.getValue();
-                    if (schemaValue instanceof ComposedSchema) {
-                        ComposedSchema composedSchema = (ComposedSchema) schemaValue;
-                        if (composedSchema.getAllOf() != null) {
-                            List<Schema> allOf = composedSchema.getAllOf();
-                            for (Schema allOfschema: allOf) {
-                                if (allOfschema.getType() == null && allOfschema.get$ref() != null) {
-                                    //Generate typeReferenceNode
-                                    Token typeRef =
-                                            AbstractNodeFactory.createIdentifierToken(escapeIdentifier(
-                                                    extractReferenceType(allOfschema.get$ref())));
-                                    Token asterisk = AbstractNodeFactory.createIdentifierToken("*");
-                                    Token semicolon = AbstractNodeFactory.createIdentifierToken(";");
-                                    TypeReferenceNode recordField =
-                                            NodeFactory.createTypeReferenceNode(asterisk, typeRef, semicolon);
-                                    recordFieldList.add(recordField);
-                                } else if (allOfschema instanceof ObjectSchema &&
-                                        (allOfschema.getProperties() != null)) {
-                                    Map<String, Schema> properties = allOfschema.getProperties();
-                                    for (Map.Entry<String, Schema> field : properties.entrySet()) {
-                                        addRecordFields(required, recordFieldList, field);
-                                    }
-                                }
-                            }
-                            NodeList<Node> fieldNodes = AbstractNodeFactory.createNodeList(recordFieldList);
-                            Token bodyEndDelimiter = AbstractNodeFactory.createIdentifierToken("}");
-                            RecordTypeDescriptorNode recordTypeDescriptorNode =
-                                    NodeFactory.createRecordTypeDescriptorNode(recordKeyWord, bodyStartDelimiter,
-                                            fieldNodes, null, bodyEndDelimiter);
-                            Token semicolon = AbstractNodeFactory.createIdentifierToken(";");
-                            TypeDefinitionNode typeDefinitionNode = NodeFactory.createTypeDefinitionNode(null,
-                                    null, typeKeyWord, typeName, recordTypeDescriptorNode, semicolon);
-                            typeDefinitionNodeList.add(typeDefinitionNode);
-                        }
-                    } else if (schema.getValue().getProperties() != null || (schema.getValue() instanceof ObjectSchema
-                            && schema.getValue().getProperties() != null)) {
-                        Map<String, Schema> fields = schema.getValue().getProperties();
-                        if (fields != null) {
-                            for (Map.Entry<String, Schema> field : fields.entrySet()) {
-                                addRecordFields(required, recordFieldList, field);
-                            }
-                            NodeList<Node> fieldNodes = AbstractNodeFactory.createNodeList(recordFieldList);
-                            Token bodyEndDelimiter = AbstractNodeFactory.createIdentifierToken("}");
-                            RecordTypeDescriptorNode recordTypeDescriptorNode =
-                                    NodeFactory.createRecordTypeDescriptorNode(recordKeyWord, bodyStartDelimiter,
-                                            fieldNodes, null, bodyEndDelimiter);
-                            Token semicolon = AbstractNodeFactory.createIdentifierToken(";");
-                            TypeDefinitionNode typeDefinitionNode = NodeFactory.createTypeDefinitionNode(null,
-                                    null, typeKeyWord, typeName, recordTypeDescriptorNode, semicolon);
-                            typeDefinitionNodeList.add(typeDefinitionNode);
-                        }
-                    } else if (schema.getValue().getType().equals("array")) {
-                        if (schemaValue instanceof ArraySchema) {
-                            ArraySchema arraySchema = (ArraySchema) schemaValue;
-                            Token openSBracketToken = AbstractNodeFactory.createIdentifierToken("[");
-                            Token closeSBracketToken = AbstractNodeFactory.createIdentifierToken("]");
-                            IdentifierToken fieldName =
-                                    AbstractNodeFactory.createIdentifierToken(escapeIdentifier(
-                                            schema.getKey().trim().toLowerCase(Locale.ENGLISH)) + "list");
-                            Token semicolonToken = AbstractNodeFactory.createIdentifierToken(";");
-                            TypeDescriptorNode fieldTypeName;
-                            if (arraySchema.getItems() != null) {
-                                //Generate RecordFiled
-                                //FiledName
-                                fieldTypeName = extractOpenApiSchema(arraySchema.getItems());
-                            } else {
-                                Token type =
-                                        AbstractNodeFactory.createIdentifierToken("string ");
-                                fieldTypeName =  NodeFactory.createBuiltinSimpleNameReferenceNode(null, type);
-                            }
-                            ArrayTypeDescriptorNode arrayField =
-                                    NodeFactory.createArrayTypeDescriptorNode(fieldTypeName, openSBracketToken,
-                                            null, closeSBracketToken);
-                            RecordFieldNode recordFieldNode = NodeFactory.createRecordFieldNode(null,
-                                    null, arrayField, fieldName, null, semicolonToken);
-                            NodeList<Node> fieldNodes = AbstractNodeFactory.createNodeList(recordFieldNode);
-                            Token bodyEndDelimiter = AbstractNodeFactory.createIdentifierToken("}");
-                            RecordTypeDescriptorNode recordTypeDescriptorNode =
-                                    NodeFactory.createRecordTypeDescriptorNode(recordKeyWord, bodyStartDelimiter,
-                                            fieldNodes, null, bodyEndDelimiter);
-                            Token semicolon = AbstractNodeFactory.createIdentifierToken(";");
-                            TypeDefinitionNode typeDefinitionNode = NodeFactory.createTypeDefinitionNode(null,
-                                    null, typeKeyWord, typeName, recordTypeDescriptorNode, semicolon);
-                            typeDefinitionNodeList.add(typeDefinitionNode);
-                        }
-                    }
+    /**
+     * Generate the record type definitions for the schemas of an already parsed OpenAPI definition.
+     *
+     * @param context generation context holding the parsed definition
+     * @return syntax tree with the generated type definitions
+     * @throws BallerinaOpenApiException when a schema cannot be mapped to a Ballerina type
+     */
+    public static SyntaxTree generateSyntaxTree(GenerationContext context) throws BallerinaOpenApiException {
+        return generateSyntaxTree(context, null);
+    }
+
+    /**
+     * Generate the record type definitions for the schemas used by the filtered operations of an already parsed
+     * OpenAPI definition. Schemas which are not reachable from the selected operations are not generated.
+     *
+     * @param context generation context holding the parsed definition
+     * @param filter  tags and operations to be generated, or null to generate all the schemas
+     * @return syntax tree with the generated type definitions
+     * @throws BallerinaOpenApiException when a schema cannot be mapped to a Ballerina type
+     */
+    public static SyntaxTree generateSyntaxTree(GenerationContext context, Filter filter)
+            throws BallerinaOpenApiException {
+        return new BallerinaSchemaGenerator(context, filter).generateSyntaxTree();
+    }
+
+    /**
+     * Generate the record type definitions.
+     *
+     * @return syntax tree with the generated type definitions
+     * @throws BallerinaOpenApiException when a schema cannot be mapped to a Ballerina type
+     */
+    public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
+        return generateSyntaxTree(context.getSpecModel().getSchemas(filter));
+    }
+
+    /**
+     * Generate the record type definitions of the given schemas only. It is used to update the records of previously
+     * generated sources without generating all the records again.
+     *
+     * @param typeNames type names of the schemas to be generated
+     * @return syntax tree with the generated type definitions, in the order of the definition
+     * @throws BallerinaOpenApiException when a schema cannot be mapped to a Ballerina type
+     */
+    public SyntaxTree generateSyntaxTree(Set<String> typeNames) throws BallerinaOpenApiException {
+        List<SpecModel.SchemaEntry> schemas = new ArrayList<>();
+        for (SpecModel.SchemaEntry schema : context.getSpecModel().getSchemas(filter)) {
+            if (typeNames.contains(schema.getTypeName())) {
+                schemas.add(schema);
+            }
+        }
+        return generateSyntaxTree(schemas);
+    }
+
+    private SyntaxTree generateSyntaxTree(List<SpecModel.SchemaEntry> schemas) throws BallerinaOpenApiException {
+        // TypeDefinitionNodes their
+        List<TypeDefinitionNode> typeDefinitionNodeList = new ArrayList<>(schemas.size());
+        //Create typeDefinitionNode
+        if (context.getComplexity().isParallel()) {
+            // The records are independent of each other, they are built in parallel and kept in the order of the
+            // component schemas.
+            for (TypeDefinitionNode typeDefinitionNode : ParallelGeneration.map(schemas, this::createRecord)) {
+                if (typeDefinitionNode != null) {
+                    typeDefinitionNodeList.add(typeDefinitionNode);
+                }
+            }
+        } else {
+            for (SpecModel.SchemaEntry schema : schemas) {
+                TypeDefinitionNode typeDefinitionNode = createRecord(schema);
+                if (typeDefinitionNode != null) {
+                    typeDefinitionNodeList.add(typeDefinitionNode);
                 }
             }
         }
@@ -193,7 +175,7 @@ public class BallerinaSchemaGenerator {
                 AbstractNodeFactory.createNodeList(typeDefinitionNodeList.toArray(
                         new TypeDefinitionNode[typeDefinitionNodeList.size()]));
 
-        Token eofToken = AbstractNodeFactory.createIdentifierToken("");
+        Token eofToken = TokenPool.createIdentifierToken("");
         ModulePartNode modulePartNode = NodeFactory.createModulePartNode(imports, moduleMembers, eofToken);
 
         TextDocument textDocument = TextDocuments.from("");
@@ -201,20 +183,129 @@ public class BallerinaSchemaGenerator {
         return syntaxTree.modifyWith(modulePartNode);
     }
 
+    /**
+     * Generate the record type definition of the given component schema.
+     *
+     * @return record type definition, or null if no record is generated for the schema
+     */
+    private TypeDefinitionNode createRecord(SpecModel.SchemaEntry schema) throws BallerinaOpenApiException {
+        List<String> required = schema.getSchema().getRequired();
+
+        //1.typeKeyWord
+        Token typeKeyWord = TokenPool.createIdentifierToken("public type");
+        //2.typeName
+        IdentifierToken typeName = TokenPool.createIdentifierToken(schema.getTypeName());
+        //3.typeDescriptor - RecordTypeDescriptor
+        //3.1 recordKeyWord
+        Token recordKeyWord = TokenPool.createIdentifierToken("record");
+        //3.2 bodyStartDelimiter
+        Token bodyStartDelimiter = TokenPool.createIdentifierToken("{");
+        //3.3 fields
+        //Generate RecordFiled
+        List<Node> recordFieldList = new ArrayList<>();
+        Schema schemaValue = schema.getSchema();
+        if (schemaValue instanceof ComposedSchema) {
+            ComposedSchema composedSchema = (ComposedSchema) schemaValue;
+            if (composedSchema.getAllOf() != null) {
+                List<Schema> allOf = composedSchema.getAllOf();
+                for (Schema allOfschema: allOf) {
+                    if (allOfschema.getType() == null && allOfschema.get$ref() != null) {
+                        //Generate typeReferenceNode
+                        Token typeRef =
+                                TokenPool.createIdentifierToken(naming.getIdentifier(
+                                        referenceIndex.getTypeName(allOfschema.get$ref())));
+                        Token asterisk = TokenPool.createIdentifierToken("*");
+                        Token semicolon = TokenPool.createIdentifierToken(";");
+                        TypeReferenceNode recordField =
+                                NodeFactory.createTypeReferenceNode(asterisk, typeRef, semicolon);
+                        recordFieldList.add(recordField);
+                    } else if (allOfschema instanceof ObjectSchema &&
+                            (allOfschema.getProperties() != null)) {
+                        Map<String, Schema> properties = allOfschema.getProperties();
+                        for (Map.Entry<String, Schema> field : properties.entrySet()) {
+                            addRecordFields(required, recordFieldList, field);
+                        }
+                    }
+                }
+                NodeList<Node> fieldNodes = AbstractNodeFactory.createNodeList(recordFieldList);
+                Token bodyEndDelimiter = TokenPool.createIdentifierToken("}");
+                RecordTypeDescriptorNode recordTypeDescriptorNode =
+                        NodeFactory.createRecordTypeDescriptorNode(recordKeyWord, bodyStartDelimiter,
+                                fieldNodes, null, bodyEndDelimiter);
+                Token semicolon = TokenPool.createIdentifierToken(";");
+                TypeDefinitionNode typeDefinitionNode = NodeFactory.createTypeDefinitionNode(null,
+                        null, typeKeyWord, typeName, recordTypeDescriptorNode, semicolon);
+                return typeDefinitionNode;
+            }
+        } else if (schema.getSchema().getProperties() != null || (schema.getSchema() instanceof ObjectSchema
+                && schema.getSchema().getProperties() != null)) {
+            Map<String, Schema> fields = schema.getSchema().getProperties();
+            if (fields != null) {
+                for (Map.Entry<String, Schema> field : fields.entrySet()) {
+                    addRecordFields(required, recordFieldList, field);
+                }
+                NodeList<Node> fieldNodes = AbstractNodeFactory.createNodeList(recordFieldList);
+                Token bodyEndDelimiter = TokenPool.createIdentifierToken("}");
+                RecordTypeDescriptorNode recordTypeDescriptorNode =
+                        NodeFactory.createRecordTypeDescriptorNode(recordKeyWord, bodyStartDelimiter,
+                                fieldNodes, null, bodyEndDelimiter);
+                Token semicolon = TokenPool.createIdentifierToken(";");
+                TypeDefinitionNode typeDefinitionNode = NodeFactory.createTypeDefinitionNode(null,
+                        null, typeKeyWord, typeName, recordTypeDescriptorNode, semicolon);
+                return typeDefinitionNode;
+            }
+        } else if (schema.getSchema().getType().equals("array")) {
+            if (schemaValue instanceof ArraySchema) {
+                ArraySchema arraySchema = (ArraySchema) schemaValue;
+                Token openSBracketToken = TokenPool.createIdentifierToken("[");
+                Token closeSBracketToken = TokenPool.createIdentifierToken("]");
+                IdentifierToken fieldName =
+                        TokenPool.createIdentifierToken(naming.getIdentifier(
+                                schema.getName().trim().toLowerCase(Locale.ENGLISH)) + "list");
+                Token semicolonToken = TokenPool.createIdentifierToken(";");
+                TypeDescriptorNode fieldTypeName;
+                if (arraySchema.getItems() != null) {
+                    //Generate RecordFiled
+                    //FiledName
+                    fieldTypeName = extractOpenApiSchema(arraySchema.getItems());
+                } else {
+                    Token type =
+                            TokenPool.createIdentifierToken("string ");
+                    fieldTypeName =  NodeFactory.createBuiltinSimpleNameReferenceNode(null, type);
+                }
+                ArrayTypeDescriptorNode arrayField =
+                        NodeFactory.createArrayTypeDescriptorNode(fieldTypeName, openSBracketToken,
+                                null, closeSBracketToken);
+                RecordFieldNode recordFieldNode = NodeFactory.createRecordFieldNode(null,
+                        null, arrayField, fieldName, null, semicolonToken);
+                NodeList<Node> fieldNodes = AbstractNodeFactory.createNodeList(recordFieldNode);
+                Token bodyEndDelimiter = TokenPool.createIdentifierToken("}");
+                RecordTypeDescriptorNode recordTypeDescriptorNode =
+                        NodeFactory.createRecordTypeDescriptorNode(recordKeyWord, bodyStartDelimiter,
+                                fieldNodes, null, bodyEndDelimiter);
+                Token semicolon = TokenPool.createIdentifierToken(";");
+                TypeDefinitionNode typeDefinitionNode = NodeFactory.createTypeDefinitionNode(null,
+                        null, typeKeyWord, typeName, recordTypeDescriptorNode, semicolon);
+                return typeDefinitionNode;
+            }
+        }
+        return null;
+    }
+
     /**
      * This util for generate record field with given schema properties.
      */
-    private static void addRecordFields(List<String> required, List<Node> recordFieldList,
-                                        Map.Entry<String, Schema> field) throws BallerinaOpenApiException {
+    private void addRecordFields(List<String> required, List<Node> recordFieldList,
+                                 Map.Entry<String, Schema> field) throws BallerinaOpenApiException {
 
         RecordFieldNode recordFieldNode;
         //FiledName
         IdentifierToken fieldName =
-                AbstractNodeFactory.createIdentifierToken(escapeIdentifier(field.getKey().trim()));
+                TokenPool.createIdentifierToken(naming.getIdentifier(field.getKey().trim()));
 
         TypeDescriptorNode fieldTypeName = extractOpenApiSchema(field.getValue());
-        Token semicolonToken = AbstractNodeFactory.createIdentifierToken(";");
-        Token questionMarkToken = AbstractNodeFactory.createIdentifierToken("?");
+        Token semicolonToken = TokenPool.createIdentifierToken(";");
+        Token questionMarkToken = TokenPool.createIdentifierToken("?");
         if (required != null) {
             if (!required.contains(field.getKey().trim())) {
                 recordFieldNode = NodeFactory.createRecordFieldNode(null, null,
@@ -234,7 +325,7 @@ public class BallerinaSchemaGenerator {
      * Common method to extract OpenApi Schema type objects in to Ballerina type compatible schema objects.
      * @param schema - OpenApi Schema
      */
-    private static TypeDescriptorNode extractOpenApiSchema(Schema schema) throws BallerinaOpenApiException {
+    private TypeDescriptorNode extractOpenApiSchema(Schema schema) throws BallerinaOpenApiException {
 
         if (schema.getType() != null || schema.getProperties() != null) {
             if (schema.getType() != null && ((schema.getType().equals("integer") || schema.getType().equals("number"))
@@ -245,7 +336,7 @@ public class BallerinaSchemaGenerator {
                         type = convertOpenAPITypeToBallerina(schema.getFormat().trim());
                     }
                 }
-                Token typeName = AbstractNodeFactory.createIdentifierToken(type);
+                Token typeName = TokenPool.createIdentifierToken(type);
                 return createBuiltinSimpleNameReferenceNode(null, typeName);
             } else if (schema.getType() != null && schema.getType().equals("array")) {
                 if (schema instanceof ArraySchema) {
@@ -253,15 +344,15 @@ public class BallerinaSchemaGenerator {
 
                     if (arraySchema.getItems() != null) {
                         //single array
-                        Token openSBracketToken = AbstractNodeFactory.createIdentifierToken("[");
-                        Token closeSBracketToken = AbstractNodeFactory.createIdentifierToken("]");
+                        Token openSBracketToken = TokenPool.createIdentifierToken("[");
+                        Token closeSBracketToken = TokenPool.createIdentifierToken("]");
                         String type;
                         Token typeName;
                         TypeDescriptorNode memberTypeDesc;
                         Schema schemaItem = arraySchema.getItems();
                         if (schemaItem.get$ref() != null) {
-                            type = extractReferenceType(arraySchema.getItems().get$ref());
-                            typeName = AbstractNodeFactory.createIdentifierToken(type);
+                            type = referenceIndex.getTypeName(arraySchema.getItems().get$ref());
+                            typeName = TokenPool.createIdentifierToken(type);
                             memberTypeDesc = createBuiltinSimpleNameReferenceNode(null, typeName);
                             return NodeFactory.createArrayTypeDescriptorNode(memberTypeDesc, openSBracketToken,
                                     null, closeSBracketToken);
@@ -276,12 +367,12 @@ public class BallerinaSchemaGenerator {
                                     null, closeSBracketToken);
                         } else if (schemaItem.getType() != null) {
                             type = schemaItem.getType();
-                            typeName = AbstractNodeFactory.createIdentifierToken(convertOpenAPITypeToBallerina(type));
+                            typeName = TokenPool.createIdentifierToken(convertOpenAPITypeToBallerina(type));
                             memberTypeDesc = createBuiltinSimpleNameReferenceNode(null, typeName);
                             return NodeFactory.createArrayTypeDescriptorNode(memberTypeDesc, openSBracketToken,
                                     null, closeSBracketToken);
                         } else {
-                            typeName = AbstractNodeFactory.createIdentifierToken("anydata");
+                            typeName = TokenPool.createIdentifierToken("anydata");
                             memberTypeDesc = createBuiltinSimpleNameReferenceNode(null, typeName);
                             return NodeFactory.createArrayTypeDescriptorNode(memberTypeDesc, openSBracketToken,
                                     null, closeSBracketToken);
@@ -291,9 +382,9 @@ public class BallerinaSchemaGenerator {
             } else if ((schema.getType() != null && schema.getType().equals("object")) &&
                     schema.getProperties() != null) {
                 Map<String, Schema> properties = schema.getProperties();
-                Token recordKeyWord = AbstractNodeFactory.createIdentifierToken("record ");
-                Token bodyStartDelimiter = AbstractNodeFactory.createIdentifierToken("{ ");
-                Token bodyEndDelimiter = AbstractNodeFactory.createIdentifierToken("} ");
+                Token recordKeyWord = TokenPool.createIdentifierToken("record ");
+                Token bodyStartDelimiter = TokenPool.createIdentifierToken("{ ");
+                Token bodyEndDelimiter = TokenPool.createIdentifierToken("} ");
                 List<Node> recordFList = new ArrayList<>();
                 List<String> required = schema.getRequired();
                 for (Map.Entry<String, Schema> property: properties.entrySet()) {
@@ -306,20 +397,21 @@ public class BallerinaSchemaGenerator {
 
             } else {
                 outStream.println("Encountered an unsupported type. Type `anydata` would be used for the field.");
-                Token typeName = AbstractNodeFactory.createIdentifierToken("anydata");
+                Token typeName = TokenPool.createIdentifierToken("anydata");
                 return createBuiltinSimpleNameReferenceNode(null, typeName);
             }
         } else if (schema.get$ref() != null) {
-            Token typeName = AbstractNodeFactory.createIdentifierToken(extractReferenceType(schema.get$ref()));
+            Token typeName = TokenPool.createIdentifierToken(
+                    referenceIndex.getTypeName(schema.get$ref()));
             return createBuiltinSimpleNameReferenceNode(null, typeName);
         } else {
             //This contains a fallback to Ballerina common type `any` if the OpenApi specification type is not defined
             // or not compatible with any of the current Ballerina types.
             outStream.println("Encountered an unsupported type. Type `anydata` would be used for the field.");
-            Token typeName = AbstractNodeFactory.createIdentifierToken("anydata");
+            Token typeName = TokenPool.createIdentifierToken("anydata");
             return createBuiltinSimpleNameReferenceNode(null, typeName);
         }
-        Token typeName = AbstractNodeFactory.createIdentifierToken("anydata");
+        Token typeName = TokenPool.createIdentifierToken("anydata");
         return createBuiltinSimpleNameReferenceNode(null, typeName);
     }
 
@@ -338,8 +430,7 @@ public class BallerinaSchemaGenerator {
         if (!(definitionURI.endsWith(".yaml") || definitionURI.endsWith(".json") || definitionURI.endsWith(".yml"))) {
             throw new OpenApiException(ErrorMessages.invalidFile());
         }
-        String openAPIFileContent = Files.readString(Paths.get(definitionURI));
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent);
+        SwaggerParseResult parseResult = SpecLoader.parse(contractPath);
         if (!parseResult.getMessages().isEmpty()) {
             throw new OpenApiException(ErrorMessages.parserException(definitionURI));
         }
@@ -34,7 +34,6 @@ import io.ballerina.compiler.syntax.tree.ListConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
 import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.MappingFieldNode;
-import io.ballerina.compiler.syntax.tree.Minutiae;
 import io.ballerina.compiler.syntax.tree.MinutiaeList;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
@@ -87,16 +86,15 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
-import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createAnnotationNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createArrayTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
@@ -107,14 +105,16 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createUnionTypeDescriptorNode;
 import static io.ballerina.generators.GeneratorUtils.buildUrl;
 import static io.ballerina.generators.GeneratorUtils.convertOpenAPITypeToBallerina;
-import static io.ballerina.generators.GeneratorUtils.getBallerinaOpenApiType;
 import static io.ballerina.generators.GeneratorUtils.getListenerDeclarationNode;
 import static io.ballerina.generators.GeneratorUtils.getQualifiedNameReferenceNode;
 import static io.ballerina.generators.GeneratorUtils.getRelativeResourcePath;
-import static io.ballerina.openapi.OpenApiMesseges.BAL_KEYWORDS;
+import static io.ballerina.generators.TokenPool.createIdentifierToken;
 
 /**
  * This Util class use for generating ballerina service file according to given yaml file.
+ * <p>
+ * A generator instance holds the state of a single generation, so separate instances can generate services
+ * concurrently.
  */
 public class BallerinaServiceGenerator {
     private static final int httpPort = 80;
@@ -126,14 +126,61 @@ public class BallerinaServiceGenerator {
     private static final Token colon = createIdentifierToken(":");
     private static final Token semicolonToken = createIdentifierToken(";");
     // Add basicLiteralNode
-    private static final MinutiaeList leading = AbstractNodeFactory.createEmptyMinutiaeList();
-    private static final Minutiae whitespace = AbstractNodeFactory.createWhitespaceMinutiae(" ");
-    private static final MinutiaeList trailing = AbstractNodeFactory.createMinutiaeList(whitespace);
+    private static final MinutiaeList leading = TokenPool.EMPTY_MINUTIAE;
+    private static final MinutiaeList trailing = TokenPool.SINGLE_SPACE_MINUTIAE;
     private static final Token questionMark = createIdentifierToken("?");
+    private final GenerationContext context;
+    private final Filter filter;
+    private final ReferenceIndex referenceIndex;
+    private final NamingService naming;
+    private final InlineSchemaIndex inlineSchemaIndex;
+    private final Map<String, Schema> inlineRecords = new LinkedHashMap<>();
+
+    /**
+     * Create a generator for the service of an already parsed OpenAPI definition.
+     *
+     * @param context generation context holding the parsed definition
+     * @param filter  tags and operations to be included in the service
+     */
+    public BallerinaServiceGenerator(GenerationContext context, Filter filter) {
+        this.context = context;
+        this.filter = filter;
+        this.referenceIndex = context.getReferenceIndex();
+        this.naming = context.getNaming();
+        this.inlineSchemaIndex = InlineSchemaIndex.build(context.getSpecModel(), context.getOperationIds(),
+                filter);
+    }
 
     @Nonnull
     public static SyntaxTree generateSyntaxTree(Path definitionPath, String serviceName, Filter filter) throws
             IOException, BallerinaOpenApiException, FormatterException {
+        return generateSyntaxTree(GenerationContext.fromDefinition(definitionPath), serviceName, filter);
+    }
+
+    /**
+     * Generate the service syntax tree for an already parsed OpenAPI definition.
+     *
+     * @param context     generation context holding the parsed definition
+     * @param serviceName name of the generated service
+     * @param filter      tags and operations to be included in the service
+     * @return service syntax tree
+     * @throws BallerinaOpenApiException when the service cannot be generated for the definition
+     */
+    @Nonnull
+    public static SyntaxTree generateSyntaxTree(GenerationContext context, String serviceName, Filter filter)
+            throws BallerinaOpenApiException {
+        return new BallerinaServiceGenerator(context, filter).generateSyntaxTree(serviceName);
+    }
+
+    /**
+     * Generate the service syntax tree.
+     *
+     * @param serviceName name of the generated service
+     * @return service syntax tree
+     * @throws BallerinaOpenApiException when the service cannot be generated for the definition
+     */
+    @Nonnull
+    public SyntaxTree generateSyntaxTree(String serviceName) throws BallerinaOpenApiException {
         // Create imports http and openapi
         ImportDeclarationNode importForHttp = GeneratorUtils.getImportDeclarationNode("ballerina"
                 , "http");
@@ -142,7 +189,8 @@ public class BallerinaServiceGenerator {
         // Add multiple imports
         NodeList<ImportDeclarationNode> imports = AbstractNodeFactory.createNodeList(importForHttp);
         // Summaries OpenAPI details
-        OpenAPI openApi = getBallerinaOpenApiType(definitionPath);
+        OpenAPI openApi = context.getOpenAPI();
+        inlineRecords.clear();
         // Assign host port value to listeners
         String host;
         int port;
@@ -207,46 +255,18 @@ public class BallerinaServiceGenerator {
 
         // Fill the members with function
         List<Node> functions =  new ArrayList<>();
-        if (!openApi.getPaths().isEmpty()) {
-            io.swagger.v3.oas.models.Paths paths = openApi.getPaths();
-            Set<Map.Entry<String, PathItem>> pathsItems = paths.entrySet();
-            Iterator<Map.Entry<String, PathItem>> pathItr = pathsItems.iterator();
-            while (pathItr.hasNext()) {
-                Map.Entry<String, PathItem> path = pathItr.next();
-                if (!path.getValue().readOperationsMap().isEmpty()) {
-                    Map<PathItem.HttpMethod, Operation> operationMap = path.getValue().readOperationsMap();
-                    for (Map.Entry<PathItem.HttpMethod, Operation> operation : operationMap.entrySet()) {
-                        //Add filter availability
-                        //1.Tag filter
-                        //2.Operation filter
-                        //3. Both tag and operation filter
-                        List<String> filterTags = filter.getTags();
-                        List<String> operationTags = operation.getValue().getTags();
-                        List<String> filterOperations  = filter.getOperations();
-                        if (!filterTags.isEmpty() || !filterOperations.isEmpty()) {
-                            if (operationTags != null || ((!filterOperations.isEmpty())
-                                    && (operation.getValue().getOperationId() != null))) {
-                                if (GeneratorUtils.hasTags(operationTags, filterTags) ||
-                                        ((operation.getValue().getOperationId() != null) &&
-                                        filterOperations.contains(operation.getValue().getOperationId().trim()))) {
-                                    // getRelative resource path
-                                    List<Node> functionRelativeResourcePath = getRelativeResourcePath(path, operation);
-                                    // function call
-                                    getFunctionDefinitionNode(functions, operation, functionRelativeResourcePath);
-                                } else {
-//                                    skip
-                                }
-                            } else {
-//                                skip
-                            }
-                        } else {
-                            // getRelative resource path
-                            List<Node> functionRelativeResourcePath = getRelativeResourcePath(path, operation);
-                            // function call
-                            getFunctionDefinitionNode(functions, operation, functionRelativeResourcePath);
-                        }
-                    }
-                }
+        for (SpecModel.OperationEntry operationEntry : context.getSpecModel().getOperations()) {
+            //Add filter availability
+            //1.Tag filter
+            //2.Operation filter
+            //3. Both tag and operation filter
+            if (operationEntry.isSelected(filter)) {
+                Map.Entry<PathItem.HttpMethod, Operation> operation = operationEntry.getOperationEntry();
+                // getRelative resource path
+                List<Node> functionRelativeResourcePath = getRelativeResourcePath(operationEntry.getPathEntry(),
+                        operation);
+                // function call
+                getFunctionDefinitionNode(functions, operation, functionRelativeResourcePath);
             }
         }
 
@@ -257,8 +277,16 @@ public class BallerinaServiceGenerator {
                         absoluteResourcePath, onKeyWord, expressions, openBraceToken, members, closeBraceToken);
 
         // Create module member declaration
-        NodeList<ModuleMemberDeclarationNode> moduleMembers = AbstractNodeFactory.createNodeList(listener,
-                serviceDeclarationNode);
+        List<ModuleMemberDeclarationNode> moduleMemberList = new ArrayList<>();
+        moduleMemberList.add(listener);
+        moduleMemberList.add(serviceDeclarationNode);
+        // Records of the inline schemas repeated across the operations
+        for (Map.Entry<String, Schema> inlineRecord : inlineRecords.entrySet()) {
+            moduleMemberList.add(NodeFactory.createTypeDefinitionNode(null, null,
+                    createIdentifierToken("public type"), createIdentifierToken(inlineRecord.getKey()),
+                    createInlineRecordTypeDescriptorNode(inlineRecord.getValue()), semicolonToken));
+        }
+        NodeList<ModuleMemberDeclarationNode> moduleMembers = AbstractNodeFactory.createNodeList(moduleMemberList);
 
         Token eofToken = createIdentifierToken("");
         ModulePartNode modulePartNode = NodeFactory.createModulePartNode(imports, moduleMembers, eofToken);
@@ -268,9 +296,9 @@ public class BallerinaServiceGenerator {
         return syntaxTree.modifyWith(modulePartNode);
     }
 
-    private static void getFunctionDefinitionNode(List<Node> functions,
-                                                  Map.Entry<PathItem.HttpMethod, Operation> operation,
-                                                  List<Node> pathNodes) throws BallerinaOpenApiException {
+    private void getFunctionDefinitionNode(List<Node> functions,
+                                           Map.Entry<PathItem.HttpMethod, Operation> operation,
+                                           List<Node> pathNodes) throws BallerinaOpenApiException {
 
         Token resource = createIdentifierToken("    resource");
         NodeList<Token> qualifiersList = NodeFactory.createNodeList(resource);
@@ -343,13 +371,13 @@ public class BallerinaServiceGenerator {
         functions.add(functionDefinitionNode);
     }
 
-    private static void createNodeForHeaderParameter(List<Node> params, Token comma, Parameter parameter) {
+    private void createNodeForHeaderParameter(List<Node> params, Token comma, Parameter parameter) {
 
         Schema schema = parameter.getSchema();
         String type = "string";
         TypeDescriptorNode headerTypeName;
         IdentifierToken parameterName =
-                createIdentifierToken(" " + escapeIdentifier(parameter.getName().toLowerCase(
+                createIdentifierToken(" " + naming.getIdentifier(parameter.getName().toLowerCase(
                         Locale.ENGLISH)));
 
         if (schema == null || parameter.getContent() != null) {
@@ -399,7 +427,7 @@ public class BallerinaServiceGenerator {
      * @return return returnNode
      * @throws BallerinaOpenApiException
      */
-    private static ReturnTypeDescriptorNode getReturnTypeDescriptorNode(
+    private ReturnTypeDescriptorNode getReturnTypeDescriptorNode(
             @Nonnull Map.Entry<PathItem.HttpMethod, Operation> operation, @Nonnull NodeList<AnnotationNode> annotations,
             @Nonnull Token returnKeyWord) throws BallerinaOpenApiException {
 
@@ -457,7 +485,7 @@ public class BallerinaServiceGenerator {
                                     if (mediaTypeEntry.getValue().getSchema() != null) {
                                         Schema schema = mediaTypeEntry.getValue().getSchema();
                                         if (schema.get$ref() != null) {
-                                            dataType = extractReferenceType(schema.get$ref().trim());
+                                            dataType = referenceIndex.getTypeName(schema.get$ref().trim());
                                             type = createBuiltinSimpleNameReferenceNode(null,
                                                     createIdentifierToken(dataType));
                                         } else if (schema instanceof ObjectSchema) {
@@ -496,9 +524,20 @@ public class BallerinaServiceGenerator {
     }
 
     /**
-     * This for generate record node for object schema.
+     * This for generate record node for object schema. Inline schemas repeated across the operations refer to the
+     * record generated once for them.
      */
-    private static TypeDescriptorNode getRecordTypeDescriptorNode(Schema schema) throws BallerinaOpenApiException {
+    private TypeDescriptorNode getRecordTypeDescriptorNode(Schema schema) throws BallerinaOpenApiException {
+        String recordName = inlineSchemaIndex.getRecordName(schema);
+        if (recordName != null) {
+            inlineRecords.putIfAbsent(recordName, schema);
+            return createSimpleNameReferenceNode(createIdentifierToken(recordName));
+        }
+        return createInlineRecordTypeDescriptorNode(schema);
+    }
+
+    private TypeDescriptorNode createInlineRecordTypeDescriptorNode(Schema schema)
+            throws BallerinaOpenApiException {
 
         TypeDescriptorNode type;
         Token recordKeyWord = createIdentifierToken("record ");
@@ -512,7 +551,7 @@ public class BallerinaServiceGenerator {
                 Token fieldName = createIdentifierToken(field.getKey().trim());
                 String typeF;
                 if (field.getValue().get$ref() != null) {
-                    typeF = extractReferenceType(field.getValue().get$ref());
+                    typeF = referenceIndex.getTypeName(field.getValue().get$ref());
                 } else {
                     typeF = convertOpenAPITypeToBallerina(field.getValue().getType());
                 }
@@ -535,7 +574,7 @@ public class BallerinaServiceGenerator {
     /**
      * Create recordType TypeDescriptor.
      */
-    private static RecordTypeDescriptorNode createRecordTypeDescriptorNode(String code, TypeDescriptorNode type) {
+    private RecordTypeDescriptorNode createRecordTypeDescriptorNode(String code, TypeDescriptorNode type) {
 
         // Create Type
         Token recordKeyWord = createIdentifierToken("record ");
@@ -565,7 +604,7 @@ public class BallerinaServiceGenerator {
     /**
      * This for creating request Body for given request object.
      */
-    private static void createNodeForRequestBody(List<Node> params, Token comma, RequestBody requestBody)
+    private void createNodeForRequestBody(List<Node> params, Token comma, RequestBody requestBody)
             throws BallerinaOpenApiException {
 
         List<Node> literals = new ArrayList<>();
@@ -594,7 +633,7 @@ public class BallerinaServiceGenerator {
                         if (parentValue.getSchema().get$ref() != null && childValue.getSchema().get$ref() != null) {
                             String parentRef = parentValue.getSchema().get$ref().trim();
                             String childRef = childValue.getSchema().get$ref().trim();
-                            if (extractReferenceType(parentRef).equals(extractReferenceType(childRef))) {
+                            if (referenceIndex.getTypeName(parentRef).equals(referenceIndex.getTypeName(childRef))) {
                                 equalDataType.add(updateNext);
                             }
                         }
@@ -649,9 +688,9 @@ public class BallerinaServiceGenerator {
     }
 
 
-    private static Map.Entry<String, MediaType> createBasicLiteralNodeList(Token comma, MinutiaeList leading,
-                                                                           MinutiaeList trailing, List<Node> literals,
-                                                                           Iterator<Map.Entry<String, MediaType>> con) {
+    private Map.Entry<String, MediaType> createBasicLiteralNodeList(Token comma, MinutiaeList leading,
+                                                                    MinutiaeList trailing, List<Node> literals,
+                                                                    Iterator<Map.Entry<String, MediaType>> con) {
         Map.Entry<String, MediaType> next = con.next();
         String text = next.getKey();
         Token literalToken = AbstractNodeFactory.createLiteralValueToken(null, text, leading, trailing);
@@ -664,11 +703,11 @@ public class BallerinaServiceGenerator {
     /**
      * Generate typeDescriptor for application/json type.
      */
-    private static TypeDescriptorNode getIdentifierTokenForJsonSchema(Schema schema) throws BallerinaOpenApiException {
+    private TypeDescriptorNode getIdentifierTokenForJsonSchema(Schema schema) throws BallerinaOpenApiException {
         IdentifierToken identifierToken;
         if (schema != null) {
             if (schema.get$ref() != null) {
-                identifierToken = createIdentifierToken(extractReferenceType(schema.get$ref()));
+                identifierToken = createIdentifierToken(referenceIndex.getTypeName(schema.get$ref()));
             } else if (schema.getType() != null) {
                 if (schema instanceof ObjectSchema) {
                     return getRecordTypeDescriptorNode(schema);
@@ -676,7 +715,7 @@ public class BallerinaServiceGenerator {
                     TypeDescriptorNode member;
                     if (((ArraySchema) schema).getItems().get$ref() != null) {
                         member = createBuiltinSimpleNameReferenceNode(null,
-                                createIdentifierToken(extractReferenceType(((ArraySchema) schema).
+                                createIdentifierToken(referenceIndex.getTypeName(((ArraySchema) schema).
                                         getItems().get$ref())));
                     } else if (!(((ArraySchema) schema).getItems() instanceof ArraySchema)) {
                         member = createBuiltinSimpleNameReferenceNode(null,
@@ -710,7 +749,7 @@ public class BallerinaServiceGenerator {
     /**
      * Generate TypeDescriptor for all the mediaTypes.
      */
-    private static TypeDescriptorNode getIdentifierToken(Map.Entry<String, MediaType> mediaType)
+    private TypeDescriptorNode getIdentifierToken(Map.Entry<String, MediaType> mediaType)
             throws BallerinaOpenApiException {
         String mediaTypeContent = mediaType.getKey().trim();
         MediaType value = mediaType.getValue();
@@ -738,12 +777,12 @@ public class BallerinaServiceGenerator {
     /**
      * This for generate query parameter nodes.
      */
-    private static void createNodeForQueryParam(List<Node> params, Token comma, Parameter parameter) {
+    private void createNodeForQueryParam(List<Node> params, Token comma, Parameter parameter) {
         if (parameter.getIn().trim().equals("query")) {
             Schema schema = parameter.getSchema();
             NodeList<AnnotationNode> annotations = createEmptyNodeList();
             IdentifierToken parameterName =
-                    createIdentifierToken(" " + escapeIdentifier(parameter.getName().trim()));
+                    createIdentifierToken(" " + naming.getIdentifier(parameter.getName().trim()));
             if (schema == null || parameter.getContent() != null) {
                 RequiredParameterNode param =
                         createRequiredParameterNode(createEmptyNodeList(),
@@ -832,7 +871,7 @@ public class BallerinaServiceGenerator {
     }
 
     // Create ArrayTypeDescriptorNode using Schema
-    private static ArrayTypeDescriptorNode getArrayTypeDescriptorNode(Schema<?> items) {
+    private ArrayTypeDescriptorNode getArrayTypeDescriptorNode(Schema<?> items) {
 
         Token arrayName = createIdentifierToken(items.getType().trim());
         BuiltinSimpleNameReferenceNode memberTypeDesc =
@@ -866,7 +905,7 @@ public class BallerinaServiceGenerator {
      * @param code http code.
      * @return Http identification word.
      */
-    private static String getHttpStatusCode(String code) {
+    private String getHttpStatusCode(String code) {
         switch (code) {
             case "100":
                 return "Continue";
@@ -904,7 +943,7 @@ public class BallerinaServiceGenerator {
     /**
      * Generate union type node when operation has multiple responses.
      */
-    private static UnionTypeDescriptorNode getUnionNode(Iterator<Map.Entry<String, ApiResponse>> responseIter)
+    private UnionTypeDescriptorNode getUnionNode(Iterator<Map.Entry<String, ApiResponse>> responseIter)
             throws BallerinaOpenApiException {
         List<TypeDescriptorNode> qualifiedNodes = new ArrayList<>();
         Token pipeToken = createIdentifierToken("|");
@@ -947,7 +986,7 @@ public class BallerinaServiceGenerator {
     /**
      * Generate union type node when response has multiple content types.
      */
-    private static UnionTypeDescriptorNode getUnionNodeForContent (Iterator<Map.Entry<String, MediaType>> iterator)
+    private UnionTypeDescriptorNode getUnionNodeForContent (Iterator<Map.Entry<String, MediaType>> iterator)
             throws BallerinaOpenApiException {
         List<SimpleNameReferenceNode> qualifiedNodes = new ArrayList<>();
         Token pipeToken = createIdentifierToken("|");
@@ -971,7 +1010,7 @@ public class BallerinaServiceGenerator {
         return traversUnion;
     }
 
-    private static UnionTypeDescriptorNode getUnionNodeForOneOf(Iterator<Schema> iterator)
+    private UnionTypeDescriptorNode getUnionNodeForOneOf(Iterator<Schema> iterator)
             throws BallerinaOpenApiException {
 
         List<SimpleNameReferenceNode> qualifiedNodes = new ArrayList<>();
@@ -995,7 +1034,7 @@ public class BallerinaServiceGenerator {
         return traversUnion;
     }
 
-    private static AnnotationNode getAnnotationNode(String identifier, MappingConstructorExpressionNode annotValue) {
+    private AnnotationNode getAnnotationNode(String identifier, MappingConstructorExpressionNode annotValue) {
         // Create annotation
         Token atToken = createIdentifierToken("@");
         QualifiedNameReferenceNode annotReference = getQualifiedNameReferenceNode("http", identifier);
@@ -1009,32 +1048,6 @@ public class BallerinaServiceGenerator {
      * @return - escaped string
      */
     public static String escapeIdentifier(String identifier) {
-        if (!identifier.matches("\\b[_a-zA-Z][_a-zA-Z0-9]*\\b") || BAL_KEYWORDS.stream().anyMatch(identifier::equals)) {
-
-            // TODO: Remove this `if`. Refer - https://github.com/ballerina-platform/ballerina-lang/issues/23045
-            if (identifier.equals("error")) {
-                identifier = "_error";
-            } else {
-                identifier = identifier.replaceAll(GeneratorConstants.ESCAPE_PATTERN, "\\\\$1");
-                if (identifier.endsWith("?")) {
-                    if (identifier.charAt(identifier.length() - 2) == '\\') {
-                        StringBuilder stringBuilder = new StringBuilder(identifier);
-                        stringBuilder.deleteCharAt(identifier.length() - 2);
-                        identifier = stringBuilder.toString();
-                    }
-                    if (BAL_KEYWORDS.stream().anyMatch(Optional.ofNullable(identifier)
-                            .filter(sStr -> sStr.length() != 0)
-                            .map(sStr -> sStr.substring(0, sStr.length() - 1))
-                            .orElse(identifier)::equals)) {
-                        identifier = "'" + identifier;
-                    } else {
-                        return identifier;
-                    }
-                } else {
-                    identifier = "'" + identifier;
-                }
-            }
-        }
-        return identifier;
+        return NamingService.escapeIdentifier(identifier);
     }
 }
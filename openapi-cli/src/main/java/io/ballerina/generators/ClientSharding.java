@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * How the remote functions of a generated client are split into several files. Each shard is a client class of its
+ * own in a file of its own, and the {@code Client} class holds a field for each of the shards.
+ */
+public enum ClientSharding {
+    /**
+     * All the remote functions are generated into the {@code Client} class.
+     */
+    NONE,
+    /**
+     * The remote functions are split by the first tag of the operation, or by the first segment of the path for
+     * operations without tags.
+     */
+    TAG,
+    /**
+     * The remote functions are split by the first segment of the path.
+     */
+    PATH;
+
+    private static final String DEFAULT_SHARD = "default";
+
+    /**
+     * Get the sharding of the given name.
+     *
+     * @param name name of the sharding, case insensitive
+     * @return sharding
+     * @throws IllegalArgumentException when there is no sharding of the given name
+     */
+    public static ClientSharding fromString(String name) {
+        for (ClientSharding sharding : values()) {
+            if (sharding.name().equalsIgnoreCase(name)) {
+                return sharding;
+            }
+        }
+        throw new IllegalArgumentException("Unknown client sharding '" + name + "', expected one of none, tag " +
+                "or path.");
+    }
+
+    /**
+     * Get the name of the shard the given operation belongs to.
+     *
+     * @param operation operation of the definition
+     * @return shard name as given in the definition
+     */
+    public String getShardName(SpecModel.OperationEntry operation) {
+        if (this == TAG) {
+            List<String> tags = operation.getOperation().getTags();
+            if (tags != null && !tags.isEmpty() && !tags.get(0).isBlank()) {
+                return tags.get(0);
+            }
+        }
+        for (String segment : operation.getPath().split("/")) {
+            String name = segment.replaceAll("[{}]", "");
+            if (!name.isBlank()) {
+                return name;
+            }
+        }
+        return DEFAULT_SHARD;
+    }
+
+    /**
+     * Split a shard name into the lower case words of the identifiers derived from it.
+     *
+     * @param shardName shard name as given in the definition
+     * @return words of the name, never empty
+     */
+    static List<String> getWords(String shardName) {
+        String words = shardName.replaceAll("([a-z0-9])([A-Z])", "$1 $2").replaceAll("[^A-Za-z0-9]+", " ").trim();
+        return words.isEmpty() ? List.of(DEFAULT_SHARD) : List.of(words.toLowerCase(Locale.ENGLISH).split(" "));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.utils.SpecCache;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static io.ballerina.generators.GeneratorUtils.getBallerinaOpenApiType;
+
+/**
+ * This class holds the OpenAPI definition parsed for a single code generation run. The client, service and schema
+ * generators read the definition through this context, so a contract is parsed only once even when several
+ * Ballerina source files are generated from it.
+ */
+public class GenerationContext {
+    private final OpenAPI openAPI;
+    private final Path definitionPath;
+    private NamingService naming;
+    private ReferenceIndex referenceIndex;
+    private SpecModel specModel;
+    private OperationIdIndex operationIds;
+    private SpecComplexity complexity;
+
+    public GenerationContext(OpenAPI openAPI, Path definitionPath) {
+        this.openAPI = openAPI;
+        this.definitionPath = definitionPath;
+    }
+
+    /**
+     * Parse the given OpenAPI contract and create a generation context for it.
+     *
+     * @param definitionPath path to the OpenAPI contract
+     * @return {@link GenerationContext} wrapping the parsed definition
+     * @throws IOException               when the contract file cannot be read
+     * @throws BallerinaOpenApiException when the contract cannot be parsed
+     */
+    public static GenerationContext fromDefinition(Path definitionPath) throws IOException,
+            BallerinaOpenApiException {
+        return new GenerationContext(getBallerinaOpenApiType(definitionPath), definitionPath);
+    }
+
+    /**
+     * Parse the given OpenAPI contract, or load it from the given cache of parsed contracts, and create a
+     * generation context for it.
+     *
+     * @param definitionPath path to the OpenAPI contract
+     * @param specCache      cache of parsed contracts, or null to always parse the contract
+     * @return {@link GenerationContext} wrapping the parsed definition
+     * @throws IOException               when the contract file cannot be read
+     * @throws BallerinaOpenApiException when the contract cannot be parsed
+     */
+    public static GenerationContext fromDefinition(Path definitionPath, SpecCache specCache) throws IOException,
+            BallerinaOpenApiException {
+        return new GenerationContext(getBallerinaOpenApiType(definitionPath, specCache), definitionPath);
+    }
+
+    public OpenAPI getOpenAPI() {
+        return openAPI;
+    }
+
+    public Path getDefinitionPath() {
+        return definitionPath;
+    }
+
+    /**
+     * Get the naming of the generation, shared by all the generators run against this context so the names they
+     * escape are escaped once and the type names they refer to are the same.
+     *
+     * @return naming of the generation
+     */
+    public synchronized NamingService getNaming() {
+        if (naming == null) {
+            naming = NamingService.forDefinition(openAPI);
+        }
+        return naming;
+    }
+
+    /**
+     * Get the index of the {@code $ref} values of the definition. The index is built on first use and shared by
+     * all the generators run against this context.
+     *
+     * @return reference index of the definition
+     */
+    public synchronized ReferenceIndex getReferenceIndex() {
+        if (referenceIndex == null) {
+            referenceIndex = ReferenceIndex.build(openAPI, getNaming());
+        }
+        return referenceIndex;
+    }
+
+    /**
+     * Get the compact model of the operations and schemas of the definition. The model is built on first use and
+     * shared by all the generators run against this context.
+     *
+     * @return model of the definition
+     */
+    public synchronized SpecModel getSpecModel() {
+        if (specModel == null) {
+            specModel = SpecModel.build(openAPI, getNaming());
+        }
+        return specModel;
+    }
+
+    /**
+     * Get the operation ids of the definition, deriving the ids of the operations which have none. The ids are
+     * assigned on first use, and set on the operations of the definition as well, so they are the same for all the
+     * generators run against this context.
+     *
+     * @return operation ids of the definition
+     */
+    public synchronized OperationIdIndex getOperationIds() {
+        if (operationIds == null) {
+            operationIds = OperationIdIndex.build(getSpecModel());
+            operationIds.apply();
+        }
+        return operationIds;
+    }
+
+    /**
+     * Get the complexity of the definition and the generation strategy chosen from it. The definition is scanned on
+     * first use.
+     *
+     * @return complexity of the definition
+     */
+    public synchronized SpecComplexity getComplexity() {
+        if (complexity == null) {
+            complexity = SpecComplexity.scan(openAPI, getSpecModel());
+        }
+        return complexity;
+    }
+}
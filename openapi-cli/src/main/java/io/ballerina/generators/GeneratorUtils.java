@@ -18,6 +18,7 @@
 
 package io.ballerina.generators;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.ballerina.ballerina.Constants;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
@@ -31,7 +32,6 @@ import io.ballerina.compiler.syntax.tree.ImportOrgNameNode;
 import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
 import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.MappingFieldNode;
-import io.ballerina.compiler.syntax.tree.Minutiae;
 import io.ballerina.compiler.syntax.tree.MinutiaeList;
 import io.ballerina.compiler.syntax.tree.NamedArgumentNode;
 import io.ballerina.compiler.syntax.tree.Node;
@@ -46,17 +46,17 @@ import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.loader.SpecLoader;
+import io.ballerina.openapi.utils.SpecCache;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.servers.ServerVariable;
 import io.swagger.v3.oas.models.servers.ServerVariables;
-import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -64,23 +64,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import static io.ballerina.openapi.OpenApiMesseges.BAL_KEYWORDS;
-import static io.ballerina.openapi.OpenApiMesseges.BAL_TYPES;
-
 /**
  * This class util for store all the common scenarios.
  */
 public class GeneratorUtils {
 
     public static ImportDeclarationNode getImportDeclarationNode(String orgName, String moduleName) {
-        Token importKeyword = AbstractNodeFactory.createIdentifierToken("import ");
-        Token orgNameToken = AbstractNodeFactory.createIdentifierToken(orgName);
-        Token slashToken = AbstractNodeFactory.createIdentifierToken("/");
+        Token importKeyword = TokenPool.createIdentifierToken("import ");
+        Token orgNameToken = TokenPool.createIdentifierToken(orgName);
+        Token slashToken = TokenPool.createIdentifierToken("/");
         ImportOrgNameNode importOrgNameNode = NodeFactory.createImportOrgNameNode(orgNameToken, slashToken);
-        Token moduleNameToken = AbstractNodeFactory.createIdentifierToken(moduleName);
+        Token moduleNameToken = TokenPool.createIdentifierToken(moduleName);
         SeparatedNodeList<IdentifierToken> moduleNodeList = AbstractNodeFactory.createSeparatedNodeList(
                 moduleNameToken);
-        Token semicolon = AbstractNodeFactory.createIdentifierToken(";");
+        Token semicolon = TokenPool.createIdentifierToken(";");
 
         return NodeFactory.createImportDeclarationNode(importKeyword, importOrgNameNode,
                 moduleNodeList, null, semicolon);
@@ -88,9 +85,9 @@ public class GeneratorUtils {
 
     public static QualifiedNameReferenceNode getQualifiedNameReferenceNode(String modulePrefix, String identifier) {
 
-        Token modulePrefixToken = AbstractNodeFactory.createIdentifierToken(modulePrefix);
-        Token colon = AbstractNodeFactory.createIdentifierToken(":");
-        IdentifierToken identifierToken = AbstractNodeFactory.createIdentifierToken(identifier);
+        Token modulePrefixToken = TokenPool.createIdentifierToken(modulePrefix);
+        Token colon = TokenPool.createIdentifierToken(":");
+        IdentifierToken identifierToken = TokenPool.createIdentifierToken(identifier);
         return NodeFactory.createQualifiedNameReferenceNode(modulePrefixToken, colon, identifierToken);
     }
 
@@ -98,27 +95,26 @@ public class GeneratorUtils {
     public static ListenerDeclarationNode getListenerDeclarationNode(Integer port, String host) {
 
         // Take first server to Map
-        Token listenerKeyword = AbstractNodeFactory.createIdentifierToken("listener");
+        Token listenerKeyword = TokenPool.createIdentifierToken("listener");
         // Create type descriptor
-        Token modulePrefix = AbstractNodeFactory.createIdentifierToken(" http");
-        Token colon = AbstractNodeFactory.createIdentifierToken(":");
-        IdentifierToken identifier = AbstractNodeFactory.createIdentifierToken("Listener");
+        Token modulePrefix = TokenPool.createIdentifierToken(" http");
+        Token colon = TokenPool.createIdentifierToken(":");
+        IdentifierToken identifier = TokenPool.createIdentifierToken("Listener");
         QualifiedNameReferenceNode typeDescriptor = NodeFactory.createQualifiedNameReferenceNode(modulePrefix,
                 colon, identifier);
         // Create variable
-        Token variableName = AbstractNodeFactory.createIdentifierToken(" ep0 ");
-        MinutiaeList leading = AbstractNodeFactory.createEmptyMinutiaeList();
-        Minutiae whitespace = AbstractNodeFactory.createWhitespaceMinutiae(" ");
-        MinutiaeList trailing = AbstractNodeFactory.createMinutiaeList(whitespace);
+        Token variableName = TokenPool.createIdentifierToken(" ep0 ");
+        MinutiaeList leading = TokenPool.EMPTY_MINUTIAE;
+        MinutiaeList trailing = TokenPool.SINGLE_SPACE_MINUTIAE;
         variableName.modify(leading, trailing);
 
-        Token equalsToken = AbstractNodeFactory.createIdentifierToken("=");
+        Token equalsToken = TokenPool.createIdentifierToken("=");
 
         // Create initializer
-        Token newKeyword = AbstractNodeFactory.createIdentifierToken("new");
+        Token newKeyword = TokenPool.createIdentifierToken("new");
 
         // Create parenthesizedArgList
-        Token openParenToken = AbstractNodeFactory.createIdentifierToken("(");
+        Token openParenToken = TokenPool.createIdentifierToken("(");
         // Create arguments
         // 1. Create port Node
         Token literalToken = AbstractNodeFactory.createLiteralValueToken(SyntaxKind.DECIMAL_INTEGER_LITERAL_TOKEN
@@ -127,21 +123,21 @@ public class GeneratorUtils {
 
         PositionalArgumentNode portNode = NodeFactory.createPositionalArgumentNode(expression);
         // 2. Create comma
-        Token comma = AbstractNodeFactory.createIdentifierToken(",");
+        Token comma = TokenPool.createIdentifierToken(",");
 
         // 3. Create host node
-        Token name = AbstractNodeFactory.createIdentifierToken("config ");
+        Token name = TokenPool.createIdentifierToken("config ");
         SimpleNameReferenceNode argumentName = NodeFactory.createSimpleNameReferenceNode(name);
         // 3.3 create expression
-        Token openBrace = AbstractNodeFactory.createIdentifierToken("{");
+        Token openBrace = TokenPool.createIdentifierToken("{");
 
-        Token fieldName = AbstractNodeFactory.createIdentifierToken("host");
+        Token fieldName = TokenPool.createIdentifierToken("host");
         Token literalHostToken = AbstractNodeFactory.createIdentifierToken('"' + host + '"', leading, trailing);
         BasicLiteralNode valueExpr = NodeFactory.createBasicLiteralNode(SyntaxKind.STRING_LITERAL,
                 literalHostToken);
         MappingFieldNode hostNode = NodeFactory.createSpecificFieldNode(null, fieldName, colon, valueExpr);
         SeparatedNodeList<MappingFieldNode> fields = NodeFactory.createSeparatedNodeList(hostNode);
-        Token closeBrace = AbstractNodeFactory.createIdentifierToken("}");
+        Token closeBrace = TokenPool.createIdentifierToken("}");
 
         MappingConstructorExpressionNode hostExpression =
                 NodeFactory.createMappingConstructorExpressionNode(openBrace, fields, closeBrace);
@@ -152,14 +148,14 @@ public class GeneratorUtils {
         SeparatedNodeList<FunctionArgumentNode> arguments = NodeFactory.createSeparatedNodeList(portNode,
                 comma, namedArgumentNode);
 
-        Token closeParenToken = AbstractNodeFactory.createIdentifierToken(")");
+        Token closeParenToken = TokenPool.createIdentifierToken(")");
 
         ParenthesizedArgList parenthesizedArgList =
                 NodeFactory.createParenthesizedArgList(openParenToken, arguments, closeParenToken);
         ImplicitNewExpressionNode initializer =
                 NodeFactory.createImplicitNewExpressionNode(newKeyword, parenthesizedArgList);
 
-        Token semicolonToken = AbstractNodeFactory.createIdentifierToken(";");
+        Token semicolonToken = TokenPool.createIdentifierToken(";");
         return NodeFactory.createListenerDeclarationNode(null, null, listenerKeyword,
                 typeDescriptor, variableName, equalsToken, initializer, semicolonToken);
     }
@@ -169,7 +165,7 @@ public class GeneratorUtils {
 
         List<Node> functionRelativeResourcePath = new ArrayList<>();
         String[] pathNodes = path.getKey().trim().split("/");
-        Token slash = AbstractNodeFactory.createIdentifierToken("/");
+        Token slash = TokenPool.createIdentifierToken("/");
         if (pathNodes.length >= 2) {
             for (String pathNode: pathNodes) {
                 if (pathNode.contains("{")) {
@@ -182,21 +178,21 @@ public class GeneratorUtils {
                             if (pathParam.trim().equals(parameter.getName().trim())
                                     && parameter.getIn().equals("path")) {
 
-                                Token ppOpenB = AbstractNodeFactory.createIdentifierToken("[");
+                                Token ppOpenB = TokenPool.createIdentifierToken("[");
                                 NodeList<AnnotationNode> ppAnnotation = NodeFactory.createEmptyNodeList();
                                 // TypeDescriptor
                                 Token name;
                                 if (parameter.getSchema() == null) {
-                                    name = AbstractNodeFactory.createIdentifierToken("string");
+                                    name = TokenPool.createIdentifierToken("string");
                                 } else {
-                                    name = AbstractNodeFactory.createIdentifierToken(
+                                    name = TokenPool.createIdentifierToken(
                                                     convertOpenAPITypeToBallerina(parameter.getSchema().getType()));
                                 }
                                 BuiltinSimpleNameReferenceNode builtSNRNode =
                                         NodeFactory.createBuiltinSimpleNameReferenceNode(null, name);
                                 String parameterName = " " + escapeIdentifier(parameter.getName().trim());
-                                IdentifierToken paramName = AbstractNodeFactory.createIdentifierToken(parameterName);
-                                Token ppCloseB = AbstractNodeFactory.createIdentifierToken("]");
+                                IdentifierToken paramName = TokenPool.createIdentifierToken(parameterName);
+                                Token ppCloseB = TokenPool.createIdentifierToken("]");
 
                                 ResourcePathParameterNode resourcePathParameterNode = NodeFactory
                                         .createResourcePathParameterNode(
@@ -211,17 +207,17 @@ public class GeneratorUtils {
                     }
                 } else if (!pathNode.isBlank()) {
                     IdentifierToken idToken =
-                            AbstractNodeFactory.createIdentifierToken(pathNode.trim());
+                            TokenPool.createIdentifierToken(pathNode.trim());
                     functionRelativeResourcePath.add(idToken);
                     functionRelativeResourcePath.add(slash);
                 }
             }
             functionRelativeResourcePath.remove(functionRelativeResourcePath.size() - 1);
         } else if (pathNodes.length == 0) {
-            IdentifierToken idToken = AbstractNodeFactory.createIdentifierToken(".");
+            IdentifierToken idToken = TokenPool.createIdentifierToken(".");
             functionRelativeResourcePath.add(idToken);
         } else {
-            IdentifierToken idToken = AbstractNodeFactory.createIdentifierToken(pathNodes[1].trim());
+            IdentifierToken idToken = TokenPool.createIdentifierToken(pathNodes[1].trim());
             functionRelativeResourcePath.add(idToken);
         }
         return functionRelativeResourcePath;
@@ -272,37 +268,7 @@ public class GeneratorUtils {
      * @return - escaped string
      */
     public static String escapeIdentifier(String identifier) {
-
-        if (identifier.matches("\\b[0-9]*\\b")) {
-            return "'" + identifier;
-        } else if (!identifier.matches("\\b[_a-zA-Z][_a-zA-Z0-9]*\\b"
-            ) || BAL_KEYWORDS.stream().anyMatch(identifier::equals)) {
-
-            // TODO: Remove this `if`. Refer - https://github.com/ballerina-platform/ballerina-lang/issues/23045
-            if (identifier.equals("error")) {
-                identifier = "_error";
-            } else {
-                identifier = identifier.replaceAll(GeneratorConstants.ESCAPE_PATTERN, "\\\\$1");
-                if (identifier.endsWith("?")) {
-                    if (identifier.charAt(identifier.length() - 2) == '\\') {
-                        StringBuilder stringBuilder = new StringBuilder(identifier);
-                        stringBuilder.deleteCharAt(identifier.length() - 2);
-                        identifier = stringBuilder.toString();
-                    }
-                    if (BAL_KEYWORDS.stream().anyMatch(Optional.ofNullable(identifier)
-                            .filter(sStr -> sStr.length() != 0)
-                            .map(sStr -> sStr.substring(0, sStr.length() - 1))
-                            .orElse(identifier)::equals)) {
-                        identifier = "'" + identifier;
-                    } else {
-                        return identifier;
-                    }
-                } else {
-                    identifier = "'" + identifier;
-                }
-            }
-        }
-        return identifier;
+        return NamingService.escapeIdentifier(identifier);
     }
 
     /**
@@ -332,9 +298,37 @@ public class GeneratorUtils {
      */
     public static OpenAPI getBallerinaOpenApiType(Path definitionPath)
             throws IOException, BallerinaOpenApiException {
+        return getBallerinaOpenApiType(definitionPath, null);
+    }
 
-        String openAPIFileContent = Files.readString(definitionPath);
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent);
+    /**
+     * Util for take OpenApi spec from given yaml file, reusing the contract stored in the given cache when the
+     * same contract has been parsed before. The cached contract is parsed the same way as the contract file, so the
+     * model does not depend on whether the cache was hit.
+     *
+     * @param definitionPath path to the OpenAPI contract
+     * @param specCache      cache of parsed contracts, or null to always parse the contract
+     * @return parsed OpenAPI model
+     */
+    public static OpenAPI getBallerinaOpenApiType(Path definitionPath, SpecCache specCache)
+            throws IOException, BallerinaOpenApiException {
+        SwaggerParseResult parseResult;
+        if (specCache == null) {
+            parseResult = SpecLoader.parse(definitionPath);
+        } else {
+            String specKey = specCache.getSpecKey(definitionPath);
+            Optional<JsonNode> cachedContract = specCache.readContract(specKey);
+            JsonNode contract;
+            if (cachedContract.isPresent()) {
+                contract = cachedContract.get();
+            } else {
+                contract = SpecLoader.readContract(definitionPath);
+                if (contract != null) {
+                    specCache.writeContract(specKey, contract);
+                }
+            }
+            parseResult = SpecLoader.parse(contract);
+        }
 
         if (parseResult.getMessages().size() > 0) {
             throw new BallerinaOpenApiException("Couldn't read or parse the definition from file: " + definitionPath);
@@ -373,17 +367,7 @@ public class GeneratorUtils {
      * @return - escaped string
      */
     public static String escapeType(String type) {
-        if (!type.matches("\\b[_a-zA-Z][_a-zA-Z0-9]*\\b") ||
-                (BAL_KEYWORDS.stream().anyMatch(type::equals) && BAL_TYPES.stream().noneMatch(type::equals))) {
-            // TODO: Temporary fix(es) as identifier literals only support alphanumerics when writing this.
-            //  Refer - https://github.com/ballerina-platform/ballerina-lang/issues/18720
-            type = type.replace("-", "");
-            type = type.replace("$", "");
-
-            type = type.replaceAll("([\\\\?!<>*\\-=^+()_{}|.$])", "\\\\$1");
-            type = "'" + type;
-        }
-        return type;
+        return NamingService.escapeType(type);
     }
 
     /**
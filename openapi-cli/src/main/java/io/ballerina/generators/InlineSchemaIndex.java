@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.ballerina.openapi.cmd.Filter;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * This class finds the inline object schemas of the request bodies and responses which are repeated across the
+ * operations of a definition. Inline schemas are compared by structure, ignoring documentation such as descriptions
+ * and examples, so every distinct shape used more than once is generated once as a named record and referred to by
+ * that name. Shapes used only once stay inline.
+ * <p>
+ * The name of a repeated shape is derived from the operation id of its first use in the definition, so it does not
+ * change between generation runs of the same definition.
+ */
+public class InlineSchemaIndex {
+    private static final String DEFAULT_NAME = "InlineRecord";
+
+    private final Map<String, String> names;
+
+    private InlineSchemaIndex(Map<String, String> names) {
+        this.names = names;
+    }
+
+    /**
+     * Build the index for the inline schemas of the operations selected with the given filter.
+     *
+     * @param specModel    model of the definition
+     * @param operationIds operation ids of the definition, the records are named after the operations
+     * @param filter       tags and operations to be generated, or null to index all the operations
+     * @return index of the repeated inline schemas
+     */
+    public static InlineSchemaIndex build(SpecModel specModel, OperationIdIndex operationIds, Filter filter) {
+        Map<String, Integer> counts = new HashMap<>();
+        Map<String, String> firstUse = new LinkedHashMap<>();
+        for (SpecModel.OperationEntry operationEntry : specModel.getOperations()) {
+            if (filter != null && !operationEntry.isSelected(filter)) {
+                continue;
+            }
+            Operation operation = operationEntry.getOperation();
+            String operationId = operationIds.getOperationId(operation);
+            if (operation.getRequestBody() != null) {
+                count(operation.getRequestBody().getContent(), counts, firstUse, operationId, "Request");
+            }
+            if (operation.getResponses() != null) {
+                for (ApiResponse response : operation.getResponses().values()) {
+                    count(response.getContent(), counts, firstUse, operationId, "Response");
+                }
+            }
+        }
+
+        Set<String> taken = new HashSet<>();
+        for (SpecModel.SchemaEntry schema : specModel.getSchemas()) {
+            taken.add(schema.getTypeName().toLowerCase(Locale.ENGLISH));
+        }
+        Map<String, String> names = new HashMap<>();
+        for (Map.Entry<String, String> shape : firstUse.entrySet()) {
+            if (counts.get(shape.getKey()) > 1) {
+                names.put(shape.getKey(), getUniqueName(shape.getValue(), taken));
+            }
+        }
+        return new InlineSchemaIndex(names);
+    }
+
+    private static void count(Content content, Map<String, Integer> counts, Map<String, String> firstUse,
+                              String operationId, String suffix) {
+        if (content == null) {
+            return;
+        }
+        for (MediaType mediaType : content.values()) {
+            Schema<?> schema = mediaType == null ? null : mediaType.getSchema();
+            if (schema instanceof ObjectSchema && schema.get$ref() == null) {
+                String key = getStructuralKey(schema);
+                counts.merge(key, 1, Integer::sum);
+                firstUse.putIfAbsent(key, getName(operationId, suffix));
+            }
+        }
+    }
+
+    /**
+     * Get the name of the record generated for the given inline schema.
+     *
+     * @param schema inline schema
+     * @return record name, or null if the schema is not repeated and should stay inline
+     */
+    public String getRecordName(Schema<?> schema) {
+        if (names.isEmpty() || schema == null || schema.get$ref() != null) {
+            return null;
+        }
+        return names.get(getStructuralKey(schema));
+    }
+
+    /**
+     * Get a canonical description of the structure of the given schema. Structurally equal schemas have equal keys
+     * regardless of the order of their properties and of their documentation.
+     *
+     * @param schema schema to describe
+     * @return structural key of the schema
+     */
+    public static String getStructuralKey(Schema<?> schema) {
+        StringBuilder builder = new StringBuilder();
+        appendKey(schema, builder, Collections.newSetFromMap(new IdentityHashMap<>()));
+        return builder.toString();
+    }
+
+    private static void appendKey(Schema<?> schema, StringBuilder builder, Set<Schema<?>> path) {
+        if (schema == null) {
+            builder.append('~');
+            return;
+        }
+        if (schema.get$ref() != null) {
+            builder.append("$(").append(schema.get$ref()).append(')');
+            return;
+        }
+        if (!path.add(schema)) {
+            // Only resolved models can refer back to an enclosing schema, such a cycle is marked as it is.
+            builder.append('^');
+            return;
+        }
+        builder.append('{').append(schema.getType()).append(',').append(schema.getFormat())
+                .append(',').append(schema.getNullable());
+        if (schema.getEnum() != null) {
+            builder.append(",enum").append(schema.getEnum());
+        }
+        if (schema.getRequired() != null) {
+            List<String> required = new ArrayList<>(schema.getRequired());
+            Collections.sort(required);
+            builder.append(",required").append(required);
+        }
+        if (schema.getProperties() != null) {
+            builder.append(",properties{");
+            for (Map.Entry<String, Schema> property : new TreeMap<>(schema.getProperties()).entrySet()) {
+                builder.append(property.getKey().length()).append(':').append(property.getKey()).append('=');
+                appendKey(property.getValue(), builder, path);
+            }
+            builder.append('}');
+        }
+        Object additionalProperties = schema.getAdditionalProperties();
+        if (additionalProperties instanceof Schema) {
+            builder.append(",additional=");
+            appendKey((Schema<?>) additionalProperties, builder, path);
+        } else if (additionalProperties != null) {
+            builder.append(",additional=").append(additionalProperties);
+        }
+        if (schema instanceof ArraySchema) {
+            builder.append(",items=");
+            appendKey(((ArraySchema) schema).getItems(), builder, path);
+        }
+        if (schema instanceof ComposedSchema) {
+            ComposedSchema composedSchema = (ComposedSchema) schema;
+            appendKeys("allOf", composedSchema.getAllOf(), builder, path);
+            appendKeys("oneOf", composedSchema.getOneOf(), builder, path);
+            appendKeys("anyOf", composedSchema.getAnyOf(), builder, path);
+        }
+        builder.append('}');
+        path.remove(schema);
+    }
+
+    private static void appendKeys(String kind, List<Schema> schemas, StringBuilder builder, Set<Schema<?>> path) {
+        if (schemas != null) {
+            builder.append(',').append(kind).append('[');
+            for (Schema<?> schema : schemas) {
+                appendKey(schema, builder, path);
+            }
+            builder.append(']');
+        }
+    }
+
+    private static String getName(String operationId, String suffix) {
+        if (operationId == null || operationId.isBlank()) {
+            return DEFAULT_NAME;
+        }
+        StringBuilder name = new StringBuilder();
+        for (char c : operationId.trim().toCharArray()) {
+            name.append(Character.isLetterOrDigit(c) || c == '_' ? c : '_');
+        }
+        if (!Character.isLetter(name.charAt(0))) {
+            name.insert(0, DEFAULT_NAME);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.append(suffix).toString();
+    }
+
+    private static String getUniqueName(String name, Set<String> taken) {
+        String uniqueName = name;
+        int suffix = 1;
+        while (!taken.add(uniqueName.toLowerCase(Locale.ENGLISH))) {
+            uniqueName = name + suffix++;
+        }
+        return uniqueName;
+    }
+}
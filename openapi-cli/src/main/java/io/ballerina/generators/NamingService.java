@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static io.ballerina.openapi.OpenApiMesseges.BAL_KEYWORDS;
+import static io.ballerina.openapi.OpenApiMesseges.BAL_TYPES;
+
+/**
+ * Turns the names of an OpenAPI definition into Ballerina identifiers and type names.
+ * <p>
+ * The static methods escape a single name. An instance belongs to a single generation and is shared by the client,
+ * service and schema generators through the {@link GenerationContext}. It remembers every name it has escaped, and
+ * gives each schema component a type name no other component of the definition maps to, so that references and
+ * declarations agree in all the generated files.
+ */
+public class NamingService {
+    private static final Pattern ESCAPE = Pattern.compile(GeneratorConstants.ESCAPE_PATTERN);
+    private static final Pattern TYPE_ESCAPE = Pattern.compile("([\\\\?!<>*\\-=^+()_{}|.$])");
+    private static final Set<String> KEYWORDS = Set.copyOf(BAL_KEYWORDS);
+    private static final Set<String> TYPES = Set.copyOf(BAL_TYPES);
+
+    private final Map<String, String> identifiers = new ConcurrentHashMap<>();
+    private final Map<String, String> typeNames = new ConcurrentHashMap<>();
+    private final Set<String> takenTypeNames = new HashSet<>();
+
+    /**
+     * Create the naming of a generation, reserving the type names of the given schema components in their order.
+     *
+     * @param componentNames names of the schema components of the definition
+     */
+    public NamingService(Collection<String> componentNames) {
+        for (String componentName : componentNames) {
+            getTypeName(componentName);
+        }
+    }
+
+    /**
+     * Create the naming of a generation from the given definition.
+     *
+     * @param openAPI parsed OpenAPI definition
+     * @return naming of the definition
+     */
+    public static NamingService forDefinition(OpenAPI openAPI) {
+        if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            return new NamingService(Collections.emptyList());
+        }
+        return new NamingService(openAPI.getComponents().getSchemas().keySet());
+    }
+
+    /**
+     * Get the escaped identifier of the given name.
+     *
+     * @param name name as given in the definition
+     * @return escaped identifier, the same as {@link #escapeIdentifier(String)}
+     */
+    public String getIdentifier(String name) {
+        return identifiers.computeIfAbsent(name, NamingService::escapeIdentifier);
+    }
+
+    /**
+     * Get the type name of the given schema component. Components whose escaped names denote the same Ballerina
+     * identifier, such as {@code error} and {@code _error}, are told apart by a count appended to the names of all
+     * but the first of them.
+     *
+     * @param componentName name of the schema component
+     * @return unique type name
+     */
+    public String getTypeName(String componentName) {
+        String typeName = typeNames.get(componentName);
+        if (typeName != null) {
+            return typeName;
+        }
+        synchronized (takenTypeNames) {
+            return typeNames.computeIfAbsent(componentName, name -> {
+                String escaped = getIdentifier(name.trim());
+                String unique = escaped;
+                for (int count = 1; !takenTypeNames.add(getCanonicalName(unique)); count++) {
+                    unique = escaped + count;
+                }
+                return unique;
+            });
+        }
+    }
+
+    /**
+     * This method will escape special characters used in method names and identifiers.
+     *
+     * @param identifier - identifier or method name
+     * @return - escaped string
+     */
+    public static String escapeIdentifier(String identifier) {
+        if (isDigits(identifier)) {
+            return "'" + identifier;
+        }
+        if (isIdentifier(identifier) && !KEYWORDS.contains(identifier)) {
+            return identifier;
+        }
+        // TODO: Remove this `if`. Refer - https://github.com/ballerina-platform/ballerina-lang/issues/23045
+        if (identifier.equals("error")) {
+            return "_error";
+        }
+        String escaped = ESCAPE.matcher(identifier).replaceAll("\\\\$1");
+        if (!escaped.endsWith("?")) {
+            return "'" + escaped;
+        }
+        if (escaped.charAt(escaped.length() - 2) == '\\') {
+            escaped = escaped.substring(0, escaped.length() - 2) + "?";
+        }
+        return KEYWORDS.contains(escaped.substring(0, escaped.length() - 1)) ? "'" + escaped : escaped;
+    }
+
+    /**
+     * This method will escape special characters used in method names and identifiers.
+     *
+     * @param type - type or method name
+     * @return - escaped string
+     */
+    public static String escapeType(String type) {
+        if (isIdentifier(type) && (!KEYWORDS.contains(type) || TYPES.contains(type))) {
+            return type;
+        }
+        // TODO: Temporary fix(es) as identifier literals only support alphanumerics when writing this.
+        //  Refer - https://github.com/ballerina-platform/ballerina-lang/issues/18720
+        String escaped = type.replace("-", "").replace("$", "");
+        return "'" + TYPE_ESCAPE.matcher(escaped).replaceAll("\\\\$1");
+    }
+
+    /*
+     * The identifier an escaped name denotes, without the quote and the escapes.
+     */
+    private static String getCanonicalName(String escaped) {
+        String name = escaped.startsWith("'") ? escaped.substring(1) : escaped;
+        return name.replace("\\", "");
+    }
+
+    /*
+     * Whether the name is a plain identifier, a letter or an underscore followed by letters, digits and underscores.
+     */
+    private static boolean isIdentifier(String name) {
+        if (name.isEmpty() || !(isLetter(name.charAt(0)) || name.charAt(0) == '_')) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!(isLetter(c) || isDigit(c) || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigits(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (!isDigit(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.swagger.v3.oas.models.Operation;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class holds the operation ids of the operations of a definition. Operations without an operation id get one
+ * derived from their path, with the HTTP method prepended when several operations of the same path have no id. The
+ * ids are assigned in a single walk over the operations in the order of the definition, so the same definition
+ * always gets the same ids, and a derived id which is already taken gets a count appended.
+ */
+public class OperationIdIndex {
+    private static final String ROOT_NAME = "root";
+
+    private final Map<Operation, String> operationIds;
+
+    private OperationIdIndex(Map<Operation, String> operationIds) {
+        this.operationIds = operationIds;
+    }
+
+    /**
+     * Build the operation ids of the operations of the given model.
+     *
+     * @param specModel model of the definition
+     * @return operation ids of the definition
+     */
+    public static OperationIdIndex build(SpecModel specModel) {
+        Set<String> taken = new HashSet<>();
+        Map<String, Integer> missingIds = new HashMap<>();
+        for (SpecModel.OperationEntry operation : specModel.getOperations()) {
+            String operationId = operation.getOperation().getOperationId();
+            if (operationId == null || operationId.isEmpty()) {
+                missingIds.merge(operation.getPath(), 1, Integer::sum);
+            } else {
+                taken.add(toLowerCaseFirst(operationId));
+            }
+        }
+
+        Map<String, String> pathNames = new HashMap<>();
+        Map<Operation, String> operationIds = new IdentityHashMap<>();
+        for (SpecModel.OperationEntry operation : specModel.getOperations()) {
+            String operationId = operation.getOperation().getOperationId();
+            if (operationId != null && !operationId.isEmpty()) {
+                operationIds.put(operation.getOperation(), toLowerCaseFirst(operationId));
+                continue;
+            }
+            String pathName = pathNames.computeIfAbsent(operation.getPath(), OperationIdIndex::getPathName);
+            String derivedId = missingIds.get(operation.getPath()) > 1 ?
+                    toLowerCaseFirst(operation.getMethod().name().toLowerCase(Locale.ENGLISH) + pathName) : pathName;
+            String uniqueId = derivedId;
+            for (int count = 1; !taken.add(uniqueId); count++) {
+                uniqueId = derivedId + count;
+            }
+            operationIds.put(operation.getOperation(), uniqueId);
+        }
+        return new OperationIdIndex(operationIds);
+    }
+
+    /**
+     * Get the operation id of the given operation.
+     *
+     * @param operation operation of the definition
+     * @return operation id, or the id given in the operation if it is not an operation of the definition
+     */
+    public String getOperationId(Operation operation) {
+        String operationId = operationIds.get(operation);
+        return operationId != null ? operationId : operation.getOperationId();
+    }
+
+    /**
+     * Set the operation ids on the operations of the definition, for the code reading them from the operations.
+     */
+    void apply() {
+        for (Map.Entry<Operation, String> operationId : operationIds.entrySet()) {
+            operationId.getKey().setOperationId(operationId.getValue());
+        }
+    }
+
+    /*
+     * Name derived from the last segment of the path, or from the last two when the last one is a path parameter.
+     */
+    private static String getPathName(String path) {
+        String[] segments = path.trim().split("/");
+        if (segments.length == 0 || segments[segments.length - 1].isEmpty()) {
+            return ROOT_NAME;
+        }
+        String lastSegment = segments[segments.length - 1];
+        if (segments.length > 1 && lastSegment.length() > 1 && lastSegment.startsWith("{") &&
+                lastSegment.endsWith("}") && lastSegment.indexOf('}') == lastSegment.length() - 1) {
+            return segments[segments.length - 2] + "By" + lastSegment.substring(1, lastSegment.length() - 1);
+        }
+        return lastSegment;
+    }
+
+    private static String toLowerCaseFirst(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
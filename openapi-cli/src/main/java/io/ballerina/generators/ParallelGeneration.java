@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Runs independent pieces of a generation, such as the remote functions of the operations or the records of the
+ * schemas, on a shared {@link ForkJoinPool} and collects their results in the order of the input.
+ * <p>
+ * The pool uses {@code openapi.generation.parallelism} threads, the number of available processors by default.
+ * Setting the parallelism to 1 turns the parallel generation off.
+ */
+public class ParallelGeneration {
+    public static final String PARALLELISM_PROPERTY = "openapi.generation.parallelism";
+
+    private static volatile ForkJoinPool pool;
+
+    private ParallelGeneration() {
+    }
+
+    /**
+     * Get the number of threads used for parallel generation.
+     *
+     * @return parallelism level
+     */
+    public static int getParallelism() {
+        return Math.max(1, Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Apply the given task to each of the items in parallel.
+     *
+     * @param items items to be processed
+     * @param task  task generating the result of an item
+     * @param <I>   type of the items
+     * @param <R>   type of the results
+     * @return results of the items, in the order of the items
+     * @throws BallerinaOpenApiException the failure of the first failed item in the order of the items
+     */
+    public static <I, R> List<R> map(List<I> items, Task<I, R> task) throws BallerinaOpenApiException {
+        ForkJoinPool forkJoinPool = getPool();
+        List<ForkJoinTask<R>> tasks = new ArrayList<>(items.size());
+        for (I item : items) {
+            tasks.add(forkJoinPool.submit(() -> task.apply(item)));
+        }
+        List<R> results = new ArrayList<>(items.size());
+        try {
+            for (ForkJoinTask<R> forkJoinTask : tasks) {
+                results.add(join(forkJoinTask));
+            }
+        } finally {
+            // Nothing waits for the remaining items once one of them failed.
+            for (ForkJoinTask<R> forkJoinTask : tasks) {
+                forkJoinTask.cancel(false);
+            }
+        }
+        return results;
+    }
+
+    private static ForkJoinPool getPool() {
+        if (pool == null) {
+            synchronized (ParallelGeneration.class) {
+                if (pool == null) {
+                    // The worker threads of a fork join pool are daemon threads, the pool never blocks the exit.
+                    pool = new ForkJoinPool(getParallelism());
+                }
+            }
+        }
+        return pool;
+    }
+
+    /*
+     * Wait for a task, rethrowing the failure of the task as it is.
+     */
+    private static <R> R join(ForkJoinTask<R> task) throws BallerinaOpenApiException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaOpenApiException("Code generation was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            // The pool wraps the checked exceptions of the task in runtime exceptions.
+            for (Throwable wrapped = cause; wrapped != null; wrapped = wrapped.getCause()) {
+                if (wrapped instanceof BallerinaOpenApiException) {
+                    throw (BallerinaOpenApiException) wrapped;
+                }
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new BallerinaOpenApiException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Generation task applied to a single item.
+     *
+     * @param <I> type of the item
+     * @param <R> type of the result
+     */
+    @FunctionalInterface
+    public interface Task<I, R> {
+        R apply(I item) throws BallerinaOpenApiException;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class indexes the {@code $ref} values of an OpenAPI definition. Every reference to a component is mapped to
+ * the component name, the escaped Ballerina type name and the referenced schema once per definition, so the
+ * generators look up a reference instead of splitting the reference string and walking the components each time.
+ */
+public class ReferenceIndex {
+    private static final String SCHEMAS_PREFIX = "#/components/schemas/";
+    private static final String PARAMETERS_PREFIX = "#/components/parameters/";
+    private static final String REQUEST_BODIES_PREFIX = "#/components/requestBodies/";
+    private static final String RESPONSES_PREFIX = "#/components/responses/";
+    private static final String HEADERS_PREFIX = "#/components/headers/";
+
+    private final Map<String, Reference> references = new ConcurrentHashMap<>();
+    private final NamingService naming;
+
+    private ReferenceIndex(NamingService naming) {
+        this.naming = naming;
+    }
+
+    /**
+     * Build the reference index for the components of the given OpenAPI definition.
+     *
+     * @param openAPI parsed OpenAPI definition
+     * @return reference index of the definition
+     */
+    public static ReferenceIndex build(OpenAPI openAPI) {
+        return build(openAPI, NamingService.forDefinition(openAPI));
+    }
+
+    /**
+     * Build the reference index for the components of the given OpenAPI definition, taking the type names of the
+     * schemas from the given naming.
+     *
+     * @param openAPI parsed OpenAPI definition
+     * @param naming  naming of the generation
+     * @return reference index of the definition
+     */
+    public static ReferenceIndex build(OpenAPI openAPI, NamingService naming) {
+        ReferenceIndex index = new ReferenceIndex(naming);
+        Components components = openAPI.getComponents();
+        if (components != null) {
+            if (components.getSchemas() != null) {
+                for (Map.Entry<String, Schema> schema : components.getSchemas().entrySet()) {
+                    String name = schema.getKey();
+                    index.references.put(SCHEMAS_PREFIX + name,
+                            new Reference(name, naming.getTypeName(name), schema.getValue()));
+                }
+            }
+            index.addAll(PARAMETERS_PREFIX, components.getParameters());
+            index.addAll(REQUEST_BODIES_PREFIX, components.getRequestBodies());
+            index.addAll(RESPONSES_PREFIX, components.getResponses());
+            index.addAll(HEADERS_PREFIX, components.getHeaders());
+        }
+        return index;
+    }
+
+    private void addAll(String prefix, Map<String, ?> components) {
+        if (components != null) {
+            for (String name : components.keySet()) {
+                add(prefix, name);
+            }
+        }
+    }
+
+    private void add(String prefix, String name) {
+        references.put(prefix + name, new Reference(name, naming.getIdentifier(name), null));
+    }
+
+    /**
+     * Get the escaped Ballerina type name for the given reference. This gives the same result as
+     * {@link GeneratorUtils#extractReferenceType(String)}, except for schemas whose names collide with the name of
+     * another schema, see {@link NamingService#getTypeName(String)}.
+     *
+     * @param referenceVariable - Reference String
+     * @return Reference variable name
+     * @throws BallerinaOpenApiException - Throws an exception if the reference string is incompatible.
+     */
+    public String getTypeName(String referenceVariable) throws BallerinaOpenApiException {
+        return getReference(referenceVariable).getTypeName();
+    }
+
+    /**
+     * Get the schema component for the given reference.
+     *
+     * @param referenceVariable - Reference String
+     * @return the referenced schema, or empty if the reference does not point to a schema component
+     */
+    public Optional<Schema> getSchema(String referenceVariable) {
+        Reference reference = references.get(referenceVariable);
+        return reference == null ? Optional.empty() : Optional.ofNullable(reference.getSchema());
+    }
+
+    /**
+     * Get the indexed entry for the given reference. References which do not point to a known component are
+     * resolved from the reference string and added to the index, so each of them is split only once.
+     */
+    public Reference getReference(String referenceVariable) throws BallerinaOpenApiException {
+        Reference reference = references.get(referenceVariable);
+        if (reference == null) {
+            String typeName = GeneratorUtils.extractReferenceType(referenceVariable);
+            String name = referenceVariable.substring(referenceVariable.lastIndexOf('/') + 1);
+            reference = new Reference(name, typeName, null);
+            references.putIfAbsent(referenceVariable, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Resolved component of a {@code $ref} value.
+     */
+    public static class Reference {
+        private final String componentName;
+        private final String typeName;
+        private final Schema schema;
+
+        Reference(String componentName, String typeName, Schema schema) {
+            this.componentName = componentName;
+            this.typeName = typeName;
+            this.schema = schema;
+        }
+
+        public String getComponentName() {
+            return componentName;
+        }
+
+        public String getTypeName() {
+            return typeName;
+        }
+
+        public Schema getSchema() {
+            return schema;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+
+import java.util.Set;
+
+/**
+ * Writes the source of a generated syntax tree in a single pass over its tokens, separating the tokens with the
+ * whitespace the generators do not add themselves. Statements and members start on new lines, blocks are indented
+ * and the other tokens are separated by a space where the language needs one.
+ * <p>
+ * The result is valid and readable, though not laid out like the output of the Ballerina formatter. It is used when
+ * formatting is turned off, the formatter takes several times longer than generating the tree on large definitions.
+ */
+public class SourceLayout {
+    private static final String INDENT = "    ";
+    private static final Set<String> OPEN_BRACES = Set.of("{", "{|");
+    private static final Set<String> CLOSE_BRACES = Set.of("}", "|}");
+    private static final Set<String> NO_SPACE_BEFORE = Set.of(";", ",", ")", "]", ".", "?", ":", "(", "[", "<", ">",
+            "->");
+    private static final Set<String> NO_SPACE_AFTER = Set.of("(", "[", ".", "@", "<", ":", "->");
+
+    private final StringBuilder source = new StringBuilder();
+    private String previous;
+    private boolean previousHasMinutiae;
+    private boolean inTemplate;
+    private int depth;
+
+    private SourceLayout() {
+    }
+
+    /**
+     * Write the source of the given node.
+     *
+     * @param node root of the generated tree
+     * @return source of the node
+     */
+    public static String toSourceCode(Node node) {
+        SourceLayout layout = new SourceLayout();
+        layout.visit(node);
+        if (layout.source.length() > 0) {
+            layout.source.append(System.lineSeparator());
+        }
+        return layout.source.toString();
+    }
+
+    private void visit(Node node) {
+        if (node instanceof Token) {
+            append((Token) node);
+        } else if (node instanceof NonTerminalNode) {
+            for (Node child : ((NonTerminalNode) node).children()) {
+                visit(child);
+            }
+        }
+    }
+
+    private void append(Token token) {
+        String text = token.text().trim();
+        if (text.isEmpty()) {
+            return;
+        }
+        String tokenSource = token.toSourceCode();
+        boolean hasMinutiae = !tokenSource.equals(token.text());
+        if (previous != null) {
+            // The content of a template is kept as it is, whitespace in it is part of the value.
+            if (!inTemplate) {
+                String separator = getSeparator(text);
+                if (!separator.equals(" ") || !(previousHasMinutiae || hasMinutiae)) {
+                    source.append(separator);
+                }
+            }
+        }
+        if (token.kind() == SyntaxKind.BACKTICK_TOKEN) {
+            inTemplate = !inTemplate;
+        } else if (!inTemplate && OPEN_BRACES.contains(text)) {
+            depth++;
+        }
+        source.append(tokenSource);
+        previous = text;
+        previousHasMinutiae = hasMinutiae;
+    }
+
+    /*
+     * Whitespace between the previous token and the given one.
+     */
+    private String getSeparator(String text) {
+        if (NO_SPACE_BEFORE.contains(text)) {
+            return "";
+        }
+        if (CLOSE_BRACES.contains(text)) {
+            depth = Math.max(0, depth - 1);
+            return newLine();
+        }
+        if (OPEN_BRACES.contains(previous)) {
+            return newLine();
+        }
+        if (previous.equals(";") || CLOSE_BRACES.contains(previous)) {
+            // Module members are separated by an empty line, the imports are kept together.
+            boolean newMember = depth == 0 && !(previous.equals(";") && text.equals("import"));
+            return newMember ? System.lineSeparator() + newLine() : newLine();
+        }
+        if (NO_SPACE_AFTER.contains(previous)) {
+            return "";
+        }
+        return " ";
+    }
+
+    private String newLine() {
+        return System.lineSeparator() + INDENT.repeat(depth);
+    }
+}
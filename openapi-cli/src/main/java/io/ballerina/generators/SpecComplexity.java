@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.util.List;
+
+/**
+ * Size and shape of an OpenAPI definition, measured from its {@link SpecModel} before any source is generated, and the
+ * generation strategy chosen from it.
+ * <p>
+ * Small definitions are generated serially into a single file, which keeps the start up cost of a run low.
+ * Definitions above the thresholds are generated in parallel, and splitting their client into several files is
+ * suggested. The thresholds can be changed with the {@code openapi.parallel.threshold} and
+ * {@code openapi.shard.threshold} system properties.
+ */
+public class SpecComplexity {
+    public static final String PARALLEL_THRESHOLD_PROPERTY = "openapi.parallel.threshold";
+    public static final String SHARD_THRESHOLD_PROPERTY = "openapi.shard.threshold";
+
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 64;
+    private static final int DEFAULT_SHARD_THRESHOLD = 500;
+
+    private final int pathCount;
+    private final int operationCount;
+    private final int schemaCount;
+    private final int maxReferenceDepth;
+    private final int inlineSchemaCount;
+    private final boolean parallel;
+    private final boolean sharded;
+
+    private SpecComplexity(int pathCount, int operationCount, int schemaCount, int maxReferenceDepth,
+                           int inlineSchemaCount) {
+        this.pathCount = pathCount;
+        this.operationCount = operationCount;
+        this.schemaCount = schemaCount;
+        this.maxReferenceDepth = maxReferenceDepth;
+        this.inlineSchemaCount = inlineSchemaCount;
+        // Both the operations and the records are units of generation work.
+        int units = operationCount + schemaCount;
+        this.parallel = ParallelGeneration.getParallelism() > 1 &&
+                units >= Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, DEFAULT_PARALLEL_THRESHOLD);
+        this.sharded = operationCount >= Integer.getInteger(SHARD_THRESHOLD_PROPERTY, DEFAULT_SHARD_THRESHOLD);
+    }
+
+    /**
+     * Measure the given definition.
+     *
+     * @param openAPI   parsed OpenAPI definition
+     * @param specModel model of the definition
+     * @return complexity of the definition
+     */
+    public static SpecComplexity scan(OpenAPI openAPI, SpecModel specModel) {
+        int pathCount = openAPI.getPaths() == null ? 0 : openAPI.getPaths().size();
+        List<SpecModel.SchemaEntry> schemas = specModel.getSchemas();
+        int[] depths = new int[schemas.size()];
+        boolean[] visiting = new boolean[schemas.size()];
+        int maxReferenceDepth = 0;
+        for (SpecModel.OperationEntry operation : specModel.getOperations()) {
+            for (int schemaId : operation.getSchemaReferences()) {
+                maxReferenceDepth = Math.max(maxReferenceDepth,
+                        1 + getReferenceDepth(specModel, schemaId, depths, visiting));
+            }
+        }
+        return new SpecComplexity(pathCount, specModel.getOperations().size(), schemas.size(), maxReferenceDepth,
+                specModel.getInlineSchemaCount());
+    }
+
+    /*
+     * Length of the longest chain of references starting at the given schema. Depths are memoized, one plus the
+     * depth is stored so zero marks a schema not measured yet. A reference back to a schema on the current chain
+     * ends the chain.
+     */
+    private static int getReferenceDepth(SpecModel specModel, int schemaId, int[] depths, boolean[] visiting) {
+        if (depths[schemaId] != 0) {
+            return depths[schemaId] - 1;
+        }
+        if (visiting[schemaId]) {
+            return 0;
+        }
+        visiting[schemaId] = true;
+        int depth = 0;
+        for (int reference : specModel.getSchema(schemaId).getReferences()) {
+            depth = Math.max(depth, 1 + getReferenceDepth(specModel, reference, depths, visiting));
+        }
+        visiting[schemaId] = false;
+        depths[schemaId] = depth + 1;
+        return depth;
+    }
+
+    public int getPathCount() {
+        return pathCount;
+    }
+
+    public int getOperationCount() {
+        return operationCount;
+    }
+
+    public int getSchemaCount() {
+        return schemaCount;
+    }
+
+    /**
+     * Get the length of the longest chain of {@code $ref}s followed from an operation, counting the reference of the
+     * operation itself.
+     *
+     * @return maximum reference depth
+     */
+    public int getMaxReferenceDepth() {
+        return maxReferenceDepth;
+    }
+
+    public int getInlineSchemaCount() {
+        return inlineSchemaCount;
+    }
+
+    /**
+     * Check whether the operations and records should be generated in parallel.
+     *
+     * @return true for parallel generation, false for serial generation
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Check whether the definition is large enough to suggest splitting the generated client into several files. The
+     * client is only split when a sharding is chosen.
+     *
+     * @return true to suggest sharded output, false for a single output file
+     */
+    public boolean isSharded() {
+        return sharded;
+    }
+
+    /**
+     * Get a human readable summary of the measures and the chosen strategy.
+     *
+     * @return summary
+     */
+    public String getSummary() {
+        return "OpenAPI definition: " + pathCount + " paths, " + operationCount + " operations, " + schemaCount +
+                " schemas, " + inlineSchemaCount + " inline schemas, maximum $ref depth " + maxReferenceDepth + "." +
+                System.lineSeparator() + "Generation strategy: " + (parallel ? "parallel" : "serial") +
+                " generation, " + (sharded ? "sharded output suggested" : "single output file") + ".";
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.utils.SpecCache;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Stable fingerprints of the operations and the component schemas of a definition, used to find the parts of the
+ * generated sources which have to be generated again after the definition changed.
+ * <p>
+ * The fingerprint of an operation covers the operation, the parameters of its path item, the parameter components it
+ * refers to and the component schemas it refers to directly, since the remote function of the operation depends on
+ * all of them. The fingerprint of a schema covers the schema only, other schemas are referred to by name. Everything
+ * else in the definition, such as the info, the servers and the other components, is covered by a single global
+ * fingerprint, a change there changes the sources as a whole.
+ */
+public class SpecFingerprint {
+    private final String global;
+    private final Map<String, String> operations;
+    private final Map<String, String> schemas;
+
+    private SpecFingerprint(String global, Map<String, String> operations, Map<String, String> schemas) {
+        this.global = global;
+        this.operations = operations;
+        this.schemas = schemas;
+    }
+
+    /**
+     * Compute the fingerprints of the definition of the given context.
+     *
+     * @param context generation context of the definition
+     * @return fingerprints of the definition
+     * @throws BallerinaOpenApiException when a part of the definition cannot be serialized
+     */
+    public static SpecFingerprint of(GenerationContext context) throws BallerinaOpenApiException {
+        ObjectMapper mapper = Json.mapper();
+        OpenAPI openAPI = context.getOpenAPI();
+        SpecModel specModel = context.getSpecModel();
+        // The operation ids are part of the operations, derive the missing ones before the operations are hashed.
+        context.getOperationIds();
+
+        List<SpecModel.SchemaEntry> schemaEntries = specModel.getSchemas();
+        List<String> schemaFingerprints = new ArrayList<>(schemaEntries.size());
+        Map<String, String> schemas = new LinkedHashMap<>();
+        for (SpecModel.SchemaEntry schema : schemaEntries) {
+            String fingerprint = hash(mapper, schema.getName(), schema.getSchema());
+            schemaFingerprints.add(fingerprint);
+            schemas.put(schema.getTypeName(), fingerprint);
+        }
+
+        Map<String, String> operations = new LinkedHashMap<>();
+        for (SpecModel.OperationEntry operation : specModel.getOperations()) {
+            List<Object> parts = new ArrayList<>();
+            parts.add(operation.getPathEntry().getValue().getParameters());
+            parts.add(operation.getOperation());
+            for (SpecModel.ParameterEntry parameter : specModel.getParameters(operation)) {
+                parts.add(parameter.getParameter());
+            }
+            for (int schemaId : operation.getSchemaReferences()) {
+                parts.add(schemaFingerprints.get(schemaId));
+            }
+            operations.put(getOperationKey(operation), hash(mapper, getOperationKey(operation), parts));
+        }
+
+        // The definition without its paths and schemas, on a copy so the parsed model is left as it is.
+        OpenAPI rest = new OpenAPI()
+                .openapi(openAPI.getOpenapi())
+                .info(openAPI.getInfo())
+                .servers(openAPI.getServers())
+                .security(openAPI.getSecurity())
+                .tags(openAPI.getTags())
+                .extensions(openAPI.getExtensions());
+        Components components = openAPI.getComponents();
+        if (components != null) {
+            rest.components(new Components()
+                    .responses(components.getResponses())
+                    .parameters(components.getParameters())
+                    .examples(components.getExamples())
+                    .requestBodies(components.getRequestBodies())
+                    .headers(components.getHeaders())
+                    .securitySchemes(components.getSecuritySchemes())
+                    .links(components.getLinks())
+                    .callbacks(components.getCallbacks())
+                    .extensions(components.getExtensions()));
+        }
+        return new SpecFingerprint(hash(mapper, "global", rest), Collections.unmodifiableMap(operations),
+                Collections.unmodifiableMap(schemas));
+    }
+
+    /**
+     * Get the key identifying the given operation across versions of a definition, its HTTP method and its path.
+     *
+     * @param operation operation of the definition
+     * @return operation key
+     */
+    public static String getOperationKey(SpecModel.OperationEntry operation) {
+        return operation.getMethod().name().toLowerCase(Locale.ENGLISH) + " " + operation.getPath();
+    }
+
+    private static String hash(ObjectMapper mapper, String name, Object value) throws BallerinaOpenApiException {
+        try {
+            return SpecCache.getSignature(name, mapper.writeValueAsString(value));
+        } catch (JsonProcessingException e) {
+            throw new BallerinaOpenApiException("Failed to fingerprint '" + name + "' of the OpenAPI definition", e);
+        }
+    }
+
+    /**
+     * Get the fingerprint of everything in the definition except the operations and the component schemas.
+     *
+     * @return global fingerprint
+     */
+    public String getGlobal() {
+        return global;
+    }
+
+    /**
+     * Get the fingerprints of the operations, by operation key, in the order of the definition.
+     *
+     * @return operation fingerprints
+     */
+    public Map<String, String> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Get the fingerprints of the component schemas, by the type name of the schema, in the order of the definition.
+     *
+     * @return schema fingerprints
+     */
+    public Map<String, String> getSchemas() {
+        return schemas;
+    }
+}
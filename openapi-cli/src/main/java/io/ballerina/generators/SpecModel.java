@@ -0,0 +1,583 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.ballerina.openapi.cmd.Filter;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact, immutable view of a parsed OpenAPI definition used by the generators. The operations and their parameters
+ * are held in flat arrays in the order of the definition, and the component schemas are numbered so references
+ * between schemas and from operations to schemas are plain integer indexes.
+ * <p>
+ * While the model is built, the names, tags, types and formats of the swagger object graph are interned in place,
+ * so the many identical strings read by the parser (media types, tags, parameter names, schema types) share a single
+ * instance. The model itself refers to the swagger objects instead of copying them.
+ */
+public class SpecModel {
+    private static final String SCHEMAS_PREFIX = "#/components/schemas/";
+    private static final String PARAMETERS_PREFIX = "#/components/parameters/";
+    private static final String REQUEST_BODIES_PREFIX = "#/components/requestBodies/";
+    private static final String RESPONSES_PREFIX = "#/components/responses/";
+    private static final int[] NO_REFERENCES = new int[0];
+
+    private final OperationEntry[] operations;
+    private final ParameterEntry[] parameters;
+    private final SchemaEntry[] schemas;
+    private final Map<String, Integer> schemaIds;
+    private final int inlineSchemaCount;
+
+    private SpecModel(OperationEntry[] operations, ParameterEntry[] parameters, SchemaEntry[] schemas,
+                      Map<String, Integer> schemaIds, int inlineSchemaCount) {
+        this.operations = operations;
+        this.parameters = parameters;
+        this.schemas = schemas;
+        this.schemaIds = schemaIds;
+        this.inlineSchemaCount = inlineSchemaCount;
+    }
+
+    /**
+     * Build the model for the given OpenAPI definition.
+     *
+     * @param openAPI parsed OpenAPI definition
+     * @return model of the definition
+     */
+    public static SpecModel build(OpenAPI openAPI) {
+        return build(openAPI, NamingService.forDefinition(openAPI));
+    }
+
+    /**
+     * Build the model for the given OpenAPI definition, taking the type names of the schemas from the given naming.
+     *
+     * @param openAPI parsed OpenAPI definition
+     * @param naming  naming of the generation
+     * @return model of the definition
+     */
+    public static SpecModel build(OpenAPI openAPI, NamingService naming) {
+        return new Builder(openAPI, naming).build();
+    }
+
+    /**
+     * Get the operations of the definition, in the order of their paths and the HTTP methods of each path.
+     *
+     * @return operations of the definition
+     */
+    public List<OperationEntry> getOperations() {
+        return Collections.unmodifiableList(Arrays.asList(operations));
+    }
+
+    /**
+     * Get the parameters declared by the given operation. Parameters referring to a parameter component are
+     * resolved to the component.
+     *
+     * @param operation operation of this model
+     * @return parameters of the operation
+     */
+    public List<ParameterEntry> getParameters(OperationEntry operation) {
+        return Collections.unmodifiableList(Arrays.asList(parameters)
+                .subList(operation.parameterStart, operation.parameterStart + operation.parameterCount));
+    }
+
+    /**
+     * Get the component schemas of the definition, in the order of the definition.
+     *
+     * @return component schemas
+     */
+    public List<SchemaEntry> getSchemas() {
+        return Collections.unmodifiableList(Arrays.asList(schemas));
+    }
+
+    /**
+     * Get the component schemas used by the operations selected with the given filter, directly or through other
+     * schemas. All the schemas are returned when the filter selects every operation.
+     *
+     * @param filter tags and operations to be generated, or null to generate all of them
+     * @return used component schemas, in the order of the definition
+     */
+    public List<SchemaEntry> getSchemas(Filter filter) {
+        if (filter == null || (filter.getTags().isEmpty() && filter.getOperations().isEmpty())) {
+            return getSchemas();
+        }
+        BitSet reachable = new BitSet(schemas.length);
+        Deque<Integer> pending = new ArrayDeque<>();
+        for (OperationEntry operation : operations) {
+            if (operation.isSelected(filter)) {
+                for (int schemaId : operation.schemaReferences) {
+                    pending.add(schemaId);
+                }
+            }
+        }
+        while (!pending.isEmpty()) {
+            int schemaId = pending.poll();
+            if (!reachable.get(schemaId)) {
+                reachable.set(schemaId);
+                for (int reference : schemas[schemaId].references) {
+                    pending.add(reference);
+                }
+            }
+        }
+        List<SchemaEntry> reachableSchemas = new ArrayList<>(reachable.cardinality());
+        for (int schemaId = reachable.nextSetBit(0); schemaId >= 0; schemaId = reachable.nextSetBit(schemaId + 1)) {
+            reachableSchemas.add(schemas[schemaId]);
+        }
+        return reachableSchemas;
+    }
+
+    public SchemaEntry getSchema(int schemaId) {
+        return schemas[schemaId];
+    }
+
+    /**
+     * Get the index of the component schema with the given name or {@code #/components/schemas/} reference.
+     *
+     * @param nameOrReference schema name or reference
+     * @return index of the schema, or -1 if there is no such component schema
+     */
+    public int getSchemaId(String nameOrReference) {
+        String name = nameOrReference.startsWith(SCHEMAS_PREFIX) ?
+                nameOrReference.substring(SCHEMAS_PREFIX.length()) : nameOrReference;
+        Integer schemaId = schemaIds.get(name);
+        return schemaId == null ? -1 : schemaId;
+    }
+
+    /**
+     * Get the number of distinct inline object and composed schemas of the definition, nested in the component
+     * schemas or declared in the parameters, request bodies and responses of the operations.
+     *
+     * @return number of inline schemas
+     */
+    public int getInlineSchemaCount() {
+        return inlineSchemaCount;
+    }
+
+    /**
+     * Operation of a path.
+     */
+    public static class OperationEntry {
+        private final Map.Entry<String, PathItem> path;
+        private final Map.Entry<PathItem.HttpMethod, Operation> operation;
+        private final String[] tags;
+        private final int parameterStart;
+        private final int parameterCount;
+        private final int[] schemaReferences;
+
+        OperationEntry(Map.Entry<String, PathItem> path, Map.Entry<PathItem.HttpMethod, Operation> operation,
+                       String[] tags, int parameterStart, int parameterCount, int[] schemaReferences) {
+            this.path = path;
+            this.operation = operation;
+            this.tags = tags;
+            this.parameterStart = parameterStart;
+            this.parameterCount = parameterCount;
+            this.schemaReferences = schemaReferences;
+        }
+
+        public String getPath() {
+            return path.getKey();
+        }
+
+        public Map.Entry<String, PathItem> getPathEntry() {
+            return path;
+        }
+
+        public PathItem.HttpMethod getMethod() {
+            return operation.getKey();
+        }
+
+        public Operation getOperation() {
+            return operation.getValue();
+        }
+
+        public Map.Entry<PathItem.HttpMethod, Operation> getOperationEntry() {
+            return operation;
+        }
+
+        public List<String> getTags() {
+            return Collections.unmodifiableList(Arrays.asList(tags));
+        }
+
+        /**
+         * Check whether the operation is selected by the given tag and operation filter. When the filter is empty
+         * every operation is selected, otherwise operations having one of the tags or one of the operation ids are.
+         *
+         * @param filter tags and operations to be generated
+         * @return true if the operation should be generated
+         */
+        public boolean isSelected(Filter filter) {
+            List<String> filterTags = filter.getTags();
+            List<String> filterOperations = filter.getOperations();
+            if (filterTags.isEmpty() && filterOperations.isEmpty()) {
+                return true;
+            }
+            List<String> operationTags = getOperation().getTags();
+            if (operationTags != null && GeneratorUtils.hasTags(operationTags, filterTags)) {
+                return true;
+            }
+            String operationId = getOperation().getOperationId();
+            return operationId != null && filterOperations.contains(operationId.trim());
+        }
+
+        /**
+         * Get the indexes of the component schemas referred directly from the parameters, request body and
+         * responses of the operation.
+         *
+         * @return schema indexes
+         */
+        public int[] getSchemaReferences() {
+            return schemaReferences.clone();
+        }
+    }
+
+    /**
+     * Parameter of an operation.
+     */
+    public static class ParameterEntry {
+        private final String name;
+        private final String in;
+        private final Parameter parameter;
+        private final int schemaReference;
+
+        ParameterEntry(String name, String in, Parameter parameter, int schemaReference) {
+            this.name = name;
+            this.in = in;
+            this.parameter = parameter;
+            this.schemaReference = schemaReference;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getIn() {
+            return in;
+        }
+
+        public Parameter getParameter() {
+            return parameter;
+        }
+
+        /**
+         * Get the index of the component schema of the parameter.
+         *
+         * @return schema index, or -1 if the parameter schema is not a component reference
+         */
+        public int getSchemaReference() {
+            return schemaReference;
+        }
+    }
+
+    /**
+     * Component schema.
+     */
+    public static class SchemaEntry {
+        private final int id;
+        private final String name;
+        private final String typeName;
+        private final Schema schema;
+        private int[] references = NO_REFERENCES;
+
+        SchemaEntry(int id, String name, String typeName, Schema schema) {
+            this.id = id;
+            this.name = name;
+            this.typeName = typeName;
+            this.schema = schema;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the escaped Ballerina type name of the schema.
+         *
+         * @return type name
+         */
+        public String getTypeName() {
+            return typeName;
+        }
+
+        public Schema getSchema() {
+            return schema;
+        }
+
+        /**
+         * Get the indexes of the component schemas referred directly from this schema, through its properties,
+         * items, additional properties and composed schemas.
+         *
+         * @return schema indexes
+         */
+        public int[] getReferences() {
+            return references.clone();
+        }
+    }
+
+    /**
+     * Builds the model in a single walk over the definition.
+     */
+    private static class Builder {
+        private final OpenAPI openAPI;
+        private final Components components;
+        private final NamingService naming;
+        private final Map<String, String> strings = new HashMap<>();
+        private final Map<Schema, Boolean> interned = new IdentityHashMap<>();
+        private final Set<Schema> componentSchemas = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<String, Integer> schemaIds = new HashMap<>();
+        private final List<SchemaEntry> schemas = new ArrayList<>();
+        private final List<ParameterEntry> parameters = new ArrayList<>();
+        private final List<OperationEntry> operations = new ArrayList<>();
+        private int inlineSchemaCount;
+
+        Builder(OpenAPI openAPI, NamingService naming) {
+            this.openAPI = openAPI;
+            this.components = openAPI.getComponents();
+            this.naming = naming;
+        }
+
+        SpecModel build() {
+            if (components != null && components.getSchemas() != null) {
+                // Number all the schemas first, so references to schemas defined later resolve.
+                for (Map.Entry<String, Schema> schema : components.getSchemas().entrySet()) {
+                    String name = intern(schema.getKey());
+                    SchemaEntry entry = new SchemaEntry(schemas.size(), name,
+                            naming.getTypeName(name), schema.getValue());
+                    schemaIds.put(name, entry.id);
+                    schemas.add(entry);
+                    componentSchemas.add(schema.getValue());
+                }
+                for (SchemaEntry entry : schemas) {
+                    Set<Integer> references = new LinkedHashSet<>();
+                    collectReferences(entry.schema, references, Collections.newSetFromMap(new IdentityHashMap<>()));
+                    entry.references = toArray(references);
+                }
+            }
+            if (openAPI.getPaths() != null) {
+                for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+                    for (Map.Entry<PathItem.HttpMethod, Operation> operation :
+                            path.getValue().readOperationsMap().entrySet()) {
+                        addOperation(path, operation);
+                    }
+                }
+            }
+            return new SpecModel(operations.toArray(new OperationEntry[0]),
+                    parameters.toArray(new ParameterEntry[0]), schemas.toArray(new SchemaEntry[0]),
+                    Collections.unmodifiableMap(schemaIds), inlineSchemaCount);
+        }
+
+        private void addOperation(Map.Entry<String, PathItem> path,
+                                  Map.Entry<PathItem.HttpMethod, Operation> operationEntry) {
+            Operation operation = operationEntry.getValue();
+            Set<Integer> references = new LinkedHashSet<>();
+            Set<Schema> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+            String[] tags = new String[0];
+            if (operation.getTags() != null) {
+                tags = new String[operation.getTags().size()];
+                for (int i = 0; i < tags.length; i++) {
+                    tags[i] = intern(operation.getTags().get(i));
+                }
+                operation.setTags(new ArrayList<>(Arrays.asList(tags)));
+            }
+
+            int parameterStart = parameters.size();
+            if (operation.getParameters() != null) {
+                for (Parameter parameter : operation.getParameters()) {
+                    Parameter resolved = resolve(parameter);
+                    resolved.setName(intern(resolved.getName()));
+                    resolved.setIn(intern(resolved.getIn()));
+                    int schemaReference = -1;
+                    if (resolved.getSchema() != null) {
+                        schemaReference = getReference(resolved.getSchema().get$ref());
+                        collectReferences(resolved.getSchema(), references, visited);
+                    }
+                    collectReferences(resolved.getContent(), references, visited);
+                    parameters.add(new ParameterEntry(resolved.getName(), resolved.getIn(), resolved,
+                            schemaReference));
+                }
+            }
+
+            RequestBody requestBody = operation.getRequestBody();
+            if (requestBody != null) {
+                collectReferences(resolve(requestBody).getContent(), references, visited);
+            }
+            if (operation.getResponses() != null) {
+                for (ApiResponse response : operation.getResponses().values()) {
+                    collectReferences(resolve(response).getContent(), references, visited);
+                }
+            }
+            operations.add(new OperationEntry(path, Map.entry(operationEntry.getKey(), operation), tags,
+                    parameterStart, parameters.size() - parameterStart, toArray(references)));
+        }
+
+        private Parameter resolve(Parameter parameter) {
+            String ref = parameter.get$ref();
+            if (ref != null && ref.startsWith(PARAMETERS_PREFIX) && components != null &&
+                    components.getParameters() != null) {
+                Parameter component = components.getParameters().get(ref.substring(PARAMETERS_PREFIX.length()));
+                if (component != null) {
+                    return component;
+                }
+            }
+            return parameter;
+        }
+
+        private RequestBody resolve(RequestBody requestBody) {
+            String ref = requestBody.get$ref();
+            if (ref != null && ref.startsWith(REQUEST_BODIES_PREFIX) && components != null &&
+                    components.getRequestBodies() != null) {
+                RequestBody component =
+                        components.getRequestBodies().get(ref.substring(REQUEST_BODIES_PREFIX.length()));
+                if (component != null) {
+                    return component;
+                }
+            }
+            return requestBody;
+        }
+
+        private ApiResponse resolve(ApiResponse response) {
+            String ref = response.get$ref();
+            if (ref != null && ref.startsWith(RESPONSES_PREFIX) && components != null &&
+                    components.getResponses() != null) {
+                ApiResponse component = components.getResponses().get(ref.substring(RESPONSES_PREFIX.length()));
+                if (component != null) {
+                    return component;
+                }
+            }
+            return response;
+        }
+
+        private void collectReferences(Content content, Set<Integer> references, Set<Schema> visited) {
+            if (content != null) {
+                for (MediaType mediaType : content.values()) {
+                    if (mediaType != null) {
+                        collectReferences(mediaType.getSchema(), references, visited);
+                    }
+                }
+            }
+        }
+
+        /*
+         * Collect the component schemas referred from the given schema without following the references, and
+         * intern the strings of the nested schemas and count the inline ones on the way.
+         */
+        private void collectReferences(Schema<?> schema, Set<Integer> references, Set<Schema> visited) {
+            if (schema == null || !visited.add(schema)) {
+                return;
+            }
+            if (intern(schema) && schema.get$ref() == null && !componentSchemas.contains(schema) &&
+                    (schema.getProperties() != null || schema instanceof ComposedSchema)) {
+                inlineSchemaCount++;
+            }
+            int reference = getReference(schema.get$ref());
+            if (reference != -1) {
+                references.add(reference);
+            }
+            if (schema.getProperties() != null) {
+                for (Schema<?> property : schema.getProperties().values()) {
+                    collectReferences(property, references, visited);
+                }
+            }
+            if (schema.getAdditionalProperties() instanceof Schema) {
+                collectReferences((Schema<?>) schema.getAdditionalProperties(), references, visited);
+            }
+            collectReferences(schema.getNot(), references, visited);
+            if (schema instanceof ArraySchema) {
+                collectReferences(((ArraySchema) schema).getItems(), references, visited);
+            }
+            if (schema instanceof ComposedSchema) {
+                ComposedSchema composedSchema = (ComposedSchema) schema;
+                collectReferences(composedSchema.getAllOf(), references, visited);
+                collectReferences(composedSchema.getOneOf(), references, visited);
+                collectReferences(composedSchema.getAnyOf(), references, visited);
+            }
+        }
+
+        private void collectReferences(List<Schema> schemaList, Set<Integer> references, Set<Schema> visited) {
+            if (schemaList != null) {
+                for (Schema<?> schema : schemaList) {
+                    collectReferences(schema, references, visited);
+                }
+            }
+        }
+
+        private int getReference(String ref) {
+            if (ref == null || !ref.startsWith(SCHEMAS_PREFIX)) {
+                return -1;
+            }
+            Integer schemaId = schemaIds.get(ref.substring(SCHEMAS_PREFIX.length()));
+            return schemaId == null ? -1 : schemaId;
+        }
+
+        /* Intern the type and format of the schema, returns false if the schema was already seen. */
+        private boolean intern(Schema<?> schema) {
+            if (interned.put(schema, Boolean.TRUE) != null) {
+                return false;
+            }
+            schema.setType(intern(schema.getType()));
+            schema.setFormat(intern(schema.getFormat()));
+            return true;
+        }
+
+        private String intern(String value) {
+            if (value == null) {
+                return null;
+            }
+            String existing = strings.putIfAbsent(value, value);
+            return existing == null ? value : existing;
+        }
+
+        private static int[] toArray(Set<Integer> values) {
+            if (values.isEmpty()) {
+                return NO_REFERENCES;
+            }
+            int[] array = new int[values.size()];
+            int i = 0;
+            for (int value : values) {
+                array[i++] = value;
+            }
+            return array;
+        }
+    }
+}
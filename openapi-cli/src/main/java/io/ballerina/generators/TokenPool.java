@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
+import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.MinutiaeList;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tokens and minutiae shared by the generators. Tokens are immutable and the node factories only keep their internal
+ * node, so the same token can be used in any number of places of any number of trees, including trees built
+ * concurrently. The generators create the same punctuation, keywords and type names for every record, field and
+ * function, and take them from here instead of allocating them again.
+ * <p>
+ * Identifiers are pooled up to {@link #MAX_IDENTIFIERS}, which is enough for the keywords and the names repeated in a
+ * definition while keeping the pool bounded for a long running process generating many definitions.
+ */
+public final class TokenPool {
+    /**
+     * Empty leading or trailing minutiae.
+     */
+    public static final MinutiaeList EMPTY_MINUTIAE = AbstractNodeFactory.createEmptyMinutiaeList();
+    /**
+     * Minutiae of a single space.
+     */
+    public static final MinutiaeList SINGLE_SPACE_MINUTIAE = AbstractNodeFactory.createMinutiaeList(
+            AbstractNodeFactory.createWhitespaceMinutiae(" "));
+
+    static final int MAX_IDENTIFIERS = 4096;
+    private static final int MAX_IDENTIFIER_LENGTH = 64;
+
+    private static final Map<SyntaxKind, Token> TOKENS = new ConcurrentHashMap<>();
+    private static final Map<String, IdentifierToken> IDENTIFIERS = new ConcurrentHashMap<>();
+
+    private TokenPool() {
+    }
+
+    /**
+     * Get the token of the given kind, without minutiae.
+     *
+     * @param kind kind of the token
+     * @return shared token
+     */
+    public static Token createToken(SyntaxKind kind) {
+        return TOKENS.computeIfAbsent(kind, AbstractNodeFactory::createToken);
+    }
+
+    /**
+     * Get the identifier token of the given text, without minutiae. Long texts and texts beyond the size of the pool
+     * get a token of their own.
+     *
+     * @param text text of the token
+     * @return shared token
+     */
+    public static IdentifierToken createIdentifierToken(String text) {
+        IdentifierToken token = IDENTIFIERS.get(text);
+        if (token != null) {
+            return token;
+        }
+        token = AbstractNodeFactory.createIdentifierToken(text);
+        if (text.length() <= MAX_IDENTIFIER_LENGTH && IDENTIFIERS.size() < MAX_IDENTIFIERS) {
+            IdentifierToken pooled = IDENTIFIERS.putIfAbsent(text, token);
+            return pooled != null ? pooled : token;
+        }
+        return token;
+    }
+}
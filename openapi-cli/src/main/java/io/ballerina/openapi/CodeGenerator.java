@@ -25,22 +25,23 @@ import com.github.jknack.handlebars.context.MapValueResolver;
 import com.github.jknack.handlebars.helper.StringHelpers;
 import com.github.jknack.handlebars.io.ClassPathTemplateLoader;
 import com.github.jknack.handlebars.io.FileTemplateLoader;
-import io.ballerina.generators.BallerinaClientGenerator;
-import io.ballerina.generators.BallerinaSchemaGenerator;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.generators.BallerinaServiceGenerator;
+import io.ballerina.generators.ClientSharding;
+import io.ballerina.generators.GenerationContext;
 import io.ballerina.generators.GeneratorConstants;
 import io.ballerina.generators.OpenApiException;
+import io.ballerina.generators.SpecComplexity;
 import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.cmd.OverwritePolicy;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.model.GenSrcFile;
 import io.ballerina.openapi.utils.CodegenUtils;
+import io.ballerina.openapi.utils.DirectoryIndex;
+import io.ballerina.openapi.utils.SpecCache;
 import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.parser.OpenAPIV3Parser;
-import io.swagger.v3.parser.core.models.SwaggerParseResult;
-import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.PrintWriter;
@@ -49,10 +50,12 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -73,8 +76,18 @@ import static io.ballerina.generators.GeneratorConstants.UNTITLED_SERVICE;
  */
 public class CodeGenerator {
     private String srcPackage;
-
-    private static final PrintStream outStream = System.err;
+    private boolean cacheEnabled = true;
+    private boolean verbose;
+    private boolean formatEnabled = true;
+    private ClientSharding clientSharding;
+    private OverwritePolicy overwritePolicy = OverwritePolicy.PROMPT;
+    private SpecCache specCache;
+    private PrintStream outStream = System.err;
+
+    private static final String SHARD_HINT_MESSAGE = "The OpenAPI contract has many operations. Use the " +
+            "'--shard tag' or '--shard path' option to split the remote functions of the client into several files.";
+    private static final String UP_TO_DATE_MESSAGE = "The OpenAPI contract has not changed since the last " +
+            "generation. Generated sources are up to date at ";
 
     /**
      * Generates ballerina source for provided Open API Definition in {@code definitionPath}.
@@ -101,8 +114,23 @@ public class CodeGenerator {
 
         Path srcPath = Paths.get(outPath);
         Path implPath = CodegenUtils.getImplPath(srcPackage, srcPath);
-        List<GenSrcFile> genFiles = generateBalSource(type, definitionPath, reldefinitionPath, serviceName, filter);
-        writeGeneratedSources(genFiles, srcPath, implPath, type);
+        String signature = getGenerationSignature(type, serviceName, srcPath, filter);
+        String contractKey = getContractKey(definitionPath);
+        if (contractKey != null && IncrementalGeneration.isUpToDate(srcPath, signature, contractKey)) {
+            outStream.println(UP_TO_DATE_MESSAGE + srcPath + ".");
+            return;
+        }
+        GenerationContext context = createGenerationContext(definitionPath, serviceName);
+        IncrementalGeneration incremental = IncrementalGeneration.prepare(context, filter, srcPath, signature,
+                contractKey, new SourceFormatter(formatEnabled));
+        List<GenSrcFile> genFiles = generateBalSource(type, context, serviceName, filter, incremental);
+        List<Path> generatedFiles = writeGeneratedSources(genFiles, srcPath, implPath, type,
+                getOverwritePolicy(incremental));
+        incremental.removeStaleShards(getFileNames(genFiles));
+        incremental.writeManifest(generatedFiles);
+        if (verbose) {
+            outStream.println(incremental.getSummary());
+        }
     }
 
     public void generateBothFiles(GeneratorConstants.GenType type, String definitionPath,
@@ -110,13 +138,126 @@ public class CodeGenerator {
             throws IOException, BallerinaOpenApiException, FormatterException, OpenApiException {
         Path srcPath = Paths.get(outPath);
         Path implPath = CodegenUtils.getImplPath(srcPackage, srcPath);
+        String signature = getGenerationSignature(type, serviceName, srcPath, filter);
+        String contractKey = getContractKey(definitionPath);
+        if (contractKey != null && IncrementalGeneration.isUpToDate(srcPath, signature, contractKey)) {
+            outStream.println(UP_TO_DATE_MESSAGE + srcPath + ".");
+            return;
+        }
+        // Parse the definition once and share it between the service and the client generation. Both of them take
+        // the missing operation ids from the shared context.
+        GenerationContext context = createGenerationContext(definitionPath, serviceName);
+        IncrementalGeneration incremental = IncrementalGeneration.prepare(context, filter, srcPath, signature,
+                contractKey, new SourceFormatter(formatEnabled));
         List<GenSrcFile> genFiles =  new ArrayList<>();
-        genFiles.addAll(generateBalSource(GEN_SERVICE,
-                definitionPath, reldefinitionPath, serviceName, filter));
-        genFiles.addAll(generateBalSource(GEN_CLIENT, definitionPath, reldefinitionPath, serviceName, filter));
+        genFiles.addAll(generateBallerinaService(context, serviceName, filter, incremental));
+        setClientTitle(context, serviceName);
+        genFiles.addAll(generateClient(context, serviceName, filter, false, incremental));
         List<GenSrcFile> newGenFiles = genFiles.stream().filter(distinctByKey(
                 GenSrcFile::getFileName)).collect(Collectors.toList());
-        writeGeneratedSources(newGenFiles, srcPath, implPath, type);
+        List<Path> generatedFiles = writeGeneratedSources(newGenFiles, srcPath, implPath, type,
+                getOverwritePolicy(incremental));
+        incremental.removeStaleShards(getFileNames(newGenFiles));
+        incremental.writeManifest(generatedFiles);
+        if (verbose) {
+            outStream.println(incremental.getSummary());
+        }
+    }
+
+    /**
+     * Enable or disable the cache of parsed OpenAPI definitions and generated sources.
+     *
+     * @param cacheEnabled false to always parse and generate from scratch
+     */
+    public void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+        this.specCache = null;
+    }
+
+    /**
+     * Enable or disable printing the complexity of the definition and the chosen generation strategy.
+     *
+     * @param verbose true to print the summary of the definition before generating
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    /**
+     * Enable or disable the Ballerina formatter. Without it the generated sources are laid out in a single pass,
+     * which is valid and readable Ballerina but not formatted like the output of the formatter.
+     *
+     * @param formatEnabled false to skip the formatter
+     */
+    public void setFormatEnabled(boolean formatEnabled) {
+        this.formatEnabled = formatEnabled;
+    }
+
+    /**
+     * Set how the remote functions of the generated client are split into several files. By default the client is
+     * generated into a single file, and splitting it is only suggested for a large definition, see
+     * {@link SpecComplexity#isSharded()}.
+     *
+     * @param clientSharding sharding of the client, null for a single file
+     */
+    public void setClientSharding(ClientSharding clientSharding) {
+        this.clientSharding = clientSharding;
+    }
+
+    /**
+     * Set what to do with the generated files which already exist in the output directory. The default policy asks
+     * on the console, batch generations pick a policy which does not need a console.
+     *
+     * @param overwritePolicy policy for the existing files
+     */
+    public void setOverwritePolicy(OverwritePolicy overwritePolicy) {
+        this.overwritePolicy = overwritePolicy;
+    }
+
+    /**
+     * Set the stream the generated files and the summaries are printed to. It is the standard error by default.
+     *
+     * @param outStream stream of the messages of the generation
+     */
+    public void setOutStream(PrintStream outStream) {
+        this.outStream = outStream;
+    }
+
+    private static Set<String> getFileNames(List<GenSrcFile> sources) {
+        return sources.stream().map(GenSrcFile::getFileName).collect(Collectors.toSet());
+    }
+
+    /**
+     * Files of a previous generation are replaced without asking when the manifest shows they were not edited since.
+     */
+    private OverwritePolicy getOverwritePolicy(IncrementalGeneration incremental) {
+        return incremental.isIncremental() ? OverwritePolicy.OVERWRITE : overwritePolicy;
+    }
+
+    /**
+     * Cache key of the contract, which the manifest of the output directory records to find out that the contract
+     * has not changed since the last generation. Without the cache the sources are always generated again.
+     */
+    private String getContractKey(String definitionPath) throws IOException {
+        SpecCache cache = getSpecCache();
+        return cache != null ? cache.getSpecKey(Paths.get(definitionPath)) : null;
+    }
+
+    private SpecCache getSpecCache() {
+        if (cacheEnabled && specCache == null) {
+            specCache = SpecCache.getDefault().orElse(null);
+        }
+        return cacheEnabled ? specCache : null;
+    }
+
+    /**
+     * Signature of the generation options which affect the content and the location of the generated sources.
+     */
+    private String getGenerationSignature(GeneratorConstants.GenType type, String serviceName, Path srcPath,
+                                          Filter filter) {
+        return SpecCache.getSignature(type.name(), serviceName, srcPath.toAbsolutePath().normalize().toString(),
+                String.join(",", filter.getTags()), String.join(",", filter.getOperations()),
+                String.valueOf(formatEnabled), String.valueOf(clientSharding));
     }
 
     public static <T> Predicate<T> distinctByKey(
@@ -185,24 +326,18 @@ public class CodeGenerator {
                                               String definitionPath,
                                               String reldefinitionPath, String serviceName, Filter filter)
             throws IOException, BallerinaOpenApiException, FormatterException, OpenApiException {
-        String openAPIFileContent = Files.readString(Paths.get(definitionPath));
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent);
-        if (parseResult.getMessages().size() > 0) {
-            throw new BallerinaOpenApiException("Couldn't read or parse the definition from file: " + definitionPath);
-        }
-        OpenAPI api = parseResult.getOpenAPI();
-
-        if (api.getInfo() == null) {
-            throw new BallerinaOpenApiException("Info section of the definition file cannot be empty/null: " +
-                    definitionPath);
-        }
-
-        if (api.getInfo().getTitle().isBlank() && (serviceName == null || serviceName.isBlank())) {
-            api.getInfo().setTitle(UNTITLED_SERVICE);
-        } else {
-            api.getInfo().setTitle(serviceName);
-        }
+        GenerationContext context = createGenerationContext(definitionPath, serviceName);
+        return generateBalSource(type, context, serviceName, filter,
+                IncrementalGeneration.fromScratch(context, filter, new SourceFormatter(formatEnabled)));
+    }
 
+    /**
+     * Generate the sources of a parsed definition. The previously generated sources are updated through the given
+     * incremental generation.
+     */
+    private List<GenSrcFile> generateBalSource(GeneratorConstants.GenType type, GenerationContext context,
+                                               String serviceName, Filter filter, IncrementalGeneration incremental)
+            throws BallerinaOpenApiException, FormatterException {
         List<GenSrcFile> sourceFiles;
 
         switch (type) {
@@ -210,13 +345,11 @@ public class CodeGenerator {
                 // modelPackage is not in use at the moment. All models will be written into same package
                 // as other src files.
                 // Therefore value set to modelPackage is ignored here
-                if (serviceName != null) {
-                    api.getInfo().setTitle(serviceName.replaceAll(ESCAPE_PATTERN, "\\\\$1"));
-                }
-                sourceFiles = generateClient(serviceName, Paths.get(definitionPath), filter);
+                setClientTitle(context, serviceName);
+                sourceFiles = generateClient(context, serviceName, filter, true, incremental);
                 break;
             case GEN_SERVICE:
-                sourceFiles = generateBallerinaService(Paths.get(definitionPath), serviceName, filter);
+                sourceFiles = generateBallerinaService(context, serviceName, filter, incremental);
                 break;
             default:
                 return null;
@@ -225,6 +358,43 @@ public class CodeGenerator {
         return sourceFiles;
     }
 
+    /**
+     * Parse the Open API Definition in {@code definitionPath} and wrap it in a {@link GenerationContext} which
+     * is shared by all the generators run against the definition.
+     *
+     * @param definitionPath Input Open Api Definition file path
+     * @param serviceName    Name of the service
+     * @return generation context for the parsed definition
+     * @throws IOException               when the definition cannot be read
+     * @throws BallerinaOpenApiException when the definition cannot be parsed
+     */
+    private GenerationContext createGenerationContext(String definitionPath, String serviceName)
+            throws IOException, BallerinaOpenApiException {
+        GenerationContext context = GenerationContext.fromDefinition(Paths.get(definitionPath), getSpecCache());
+        OpenAPI api = context.getOpenAPI();
+        if (api.getInfo().getTitle().isBlank() && (serviceName == null || serviceName.isBlank())) {
+            api.getInfo().setTitle(UNTITLED_SERVICE);
+        } else {
+            api.getInfo().setTitle(serviceName);
+        }
+        // Scan the definition before generating, the generators pick their strategy from the result.
+        SpecComplexity complexity = context.getComplexity();
+        if (verbose) {
+            outStream.println(complexity.getSummary());
+        }
+        return context;
+    }
+
+    /**
+     * The client takes its title from the service name with the special characters escaped, whether it is generated
+     * on its own or along with the service.
+     */
+    private static void setClientTitle(GenerationContext context, String serviceName) {
+        if (serviceName != null) {
+            context.getOpenAPI().getInfo().setTitle(serviceName.replaceAll(ESCAPE_PATTERN, "\\\\$1"));
+        }
+    }
+
     /**
      * Write ballerina definition of a <code>object</code> to a file as described by <code>template.</code>
      *
@@ -294,31 +464,39 @@ public class CodeGenerator {
         return handlebars.compile(templateName);
     }
 
-    private void writeGeneratedSources(List<GenSrcFile> sources, Path srcPath, Path implPath,
-                                        GeneratorConstants.GenType type)
+    /*
+     * Write the generated files. Files which already have the generated content are left as they are.
+     */
+    private List<Path> writeGeneratedSources(List<GenSrcFile> sources, Path srcPath, Path implPath,
+                                             GeneratorConstants.GenType type, OverwritePolicy overwritePolicy)
             throws IOException {
         //  Remove old generated file with same name
-        if (Files.exists(srcPath)) {
-            final File[] listFiles = new File(String.valueOf(srcPath)).listFiles();
-            if (listFiles != null) {
-                for (File file : listFiles) {
-                    for (GenSrcFile gFile : sources) {
-                        if (file.getName().equals(gFile.getFileName())) {
-                            if (System.console() != null) {
-                                String userInput = System.console().readLine("There is already a/an " + file.getName() +
-                                        " in the location. Do you want to override the file? [y/N] ");
-                                if (!Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
-                                    int duplicateCount = 0;
-                                    setGeneratedFileName(listFiles, gFile, duplicateCount);
-                                }
-                            }
-                        }
-                    }
+        List<GenSrcFile> skippedFiles = new ArrayList<>();
+        DirectoryIndex existingFiles = DirectoryIndex.of(srcPath);
+        for (GenSrcFile gFile : sources) {
+            if (existingFiles.contains(gFile.getFileName())) {
+                OverwritePolicy policy = overwritePolicy;
+                if (policy == OverwritePolicy.PROMPT && System.console() != null) {
+                    String userInput = System.console().readLine("There is already a/an " + gFile.getFileName() +
+                            " in the location. Do you want to override the file? [y/N] ");
+                    policy = userInput != null &&
+                            Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y") ?
+                            OverwritePolicy.OVERWRITE : OverwritePolicy.RENAME;
+                }
+                if (policy == OverwritePolicy.RENAME) {
+                    gFile.setFileName(existingFiles.rename(gFile.getFileName(), ".bal"));
+                } else if (policy == OverwritePolicy.SKIP) {
+                    skippedFiles.add(gFile);
                 }
             }
         }
 
+        List<Path> generatedFiles = new ArrayList<>();
+        List<GenSrcFile> unchangedFiles = new ArrayList<>();
         for (GenSrcFile file : sources) {
+            if (skippedFiles.contains(file)) {
+                continue;
+            }
             Path filePath;
 
             // We only overwrite files of overwritable type.
@@ -330,8 +508,11 @@ public class CodeGenerator {
                 }
             } else {
                 filePath = Paths.get(srcPath.resolve(file.getFileName()).toFile().getCanonicalPath());
-                CodegenUtils.writeFile(filePath, file.getContent());
+                if (!CodegenUtils.writeFileIfChanged(filePath, file.getContent())) {
+                    unchangedFiles.add(file);
+                }
             }
+            generatedFiles.add(filePath);
         }
 
         //This will print the generated files to the console
@@ -344,75 +525,98 @@ public class CodeGenerator {
         outStream.println("Following files were created.");
         Iterator<GenSrcFile> iterator = sources.iterator();
         while (iterator.hasNext()) {
-            outStream.println("-- " + iterator.next().getFileName());
-        }
-    }
-
-    /**
-     *  This method for setting the file name for generated file.
-     * @param listFiles         generated files
-     * @param gFile             GenSrcFile object
-     * @param duplicateCount    add the tag with duplicate number if file already exist
-     */
-    private void setGeneratedFileName(File[] listFiles, GenSrcFile gFile, int duplicateCount) {
-
-        for (File listFile : listFiles) {
-            String listFileName = listFile.getName();
-            if (listFileName.contains(".") && ((listFileName.split("\\.")).length >= 2)
-                    && (listFileName.split("\\.")[0]
-                    .equals(gFile.getFileName().split("\\.")[0]))) {
-                duplicateCount = 1 + duplicateCount;
+            GenSrcFile file = iterator.next();
+            String note = "";
+            if (skippedFiles.contains(file)) {
+                note = " (kept the existing file)";
+            } else if (unchangedFiles.contains(file)) {
+                note = " (unchanged)";
             }
+            outStream.println("-- " + file.getFileName() + note);
         }
-        gFile.setFileName(gFile.getFileName().split("\\.")[0] + "." + (duplicateCount) +
-                ".bal");
+        return generatedFiles;
     }
 
     /**
      * Generate code for ballerina client.
      *
+     * @param withTypes   whether the record types of the definition should be generated along with the client
+     * @param incremental update of the previously generated sources
      * @return generated source files as a list of {@link GenSrcFile}
-     * @throws IOException when code generation with specified templates fails
+     * @throws BallerinaOpenApiException when code generation fails
      */
-    private List<GenSrcFile> generateClient(String serviceName, Path openAPI, Filter filter)
-            throws IOException, BallerinaOpenApiException, FormatterException, OpenApiException {
+    private List<GenSrcFile> generateClient(GenerationContext context, String serviceName, Filter filter,
+                                            boolean withTypes, IncrementalGeneration incremental)
+            throws BallerinaOpenApiException, FormatterException {
         if (srcPackage == null || srcPackage.isEmpty()) {
             srcPackage =  DEFAULT_CLIENT_PKG;
         }
         List<GenSrcFile> sourceFiles = new ArrayList<>();
+        Map<GenSrcFile, SyntaxTree> syntaxTrees = new LinkedHashMap<>();
         String srcFile = "client.bal";
 
         // Generate ballerina service and resources.
-        String mainContent = Formatter.format(BallerinaClientGenerator.generateSyntaxTree(openAPI, filter)).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, mainContent));
-
-        // Generate ballerina records to represent schemas.
-        String schemaContent = Formatter.format(BallerinaSchemaGenerator.generateSyntaxTree(openAPI)).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage,  TYPE_FILE_NAME,
-                schemaContent));
+        ClientSharding sharding = clientSharding != null ? clientSharding : ClientSharding.NONE;
+        if (clientSharding == null && context.getComplexity().isSharded()) {
+            outStream.println(SHARD_HINT_MESSAGE);
+        }
+        if (sharding == ClientSharding.NONE) {
+            GenSrcFile clientFile = new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile,
+                    incremental.updateClient());
+            if (clientFile.getContent() == null) {
+                syntaxTrees.put(clientFile, incremental.generateClient());
+            }
+            sourceFiles.add(clientFile);
+        } else {
+            // The Client class and the shards, each in a file of its own.
+            for (Map.Entry<String, SyntaxTree> shard : incremental.generateShardedClient(sharding).entrySet()) {
+                GenSrcFile shardFile = new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, shard.getKey(),
+                        null);
+                syntaxTrees.put(shardFile, shard.getValue());
+                sourceFiles.add(shardFile);
+            }
+        }
 
+        if (withTypes) {
+            // Generate ballerina records to represent schemas.
+            sourceFiles.add(generateTypes(GenSrcFile.GenFileType.MODEL_SRC, incremental, syntaxTrees));
+        }
+        // The files are independent of each other, their trees are formatted concurrently.
+        new SourceFormatter(formatEnabled).setContents(syntaxTrees);
         return sourceFiles;
     }
 
-    private List<GenSrcFile> generateBallerinaService(Path openAPI, String serviceName,
-                                                      Filter filter)
-            throws IOException, FormatterException, BallerinaOpenApiException, OpenApiException {
+    private List<GenSrcFile> generateBallerinaService(GenerationContext context, String serviceName,
+                                                      Filter filter, IncrementalGeneration incremental)
+            throws FormatterException, BallerinaOpenApiException {
         if (srcPackage == null || srcPackage.isEmpty()) {
             srcPackage =  DEFAULT_MOCK_PKG;
         }
 
         List<GenSrcFile> sourceFiles = new ArrayList<>();
+        Map<GenSrcFile, SyntaxTree> syntaxTrees = new LinkedHashMap<>();
         String concatTitle = serviceName.toLowerCase(Locale.ENGLISH);
         String srcFile = concatTitle + "_service.bal";
 
-        String mainContent = Formatter.format(BallerinaServiceGenerator.generateSyntaxTree(openAPI, serviceName,
-                        filter)).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, mainContent));
-
-        String schemaContent = Formatter.format(BallerinaSchemaGenerator.generateSyntaxTree(openAPI)).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,  TYPE_FILE_NAME,
-                schemaContent));
+        GenSrcFile serviceFile = new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, null);
+        syntaxTrees.put(serviceFile, new BallerinaServiceGenerator(context, filter).generateSyntaxTree(serviceName));
+        sourceFiles.add(serviceFile);
 
+        sourceFiles.add(generateTypes(GenSrcFile.GenFileType.GEN_SRC, incremental, syntaxTrees));
+        new SourceFormatter(formatEnabled).setContents(syntaxTrees);
         return sourceFiles;
     }
+
+    /*
+     * Add the records file, updated in place or added to the trees to be formatted.
+     */
+    private GenSrcFile generateTypes(GenSrcFile.GenFileType fileType, IncrementalGeneration incremental,
+                                     Map<GenSrcFile, SyntaxTree> syntaxTrees)
+            throws BallerinaOpenApiException, FormatterException {
+        GenSrcFile typesFile = new GenSrcFile(fileType, srcPackage, TYPE_FILE_NAME, incremental.updateTypes());
+        if (typesFile.getContent() == null) {
+            syntaxTrees.put(typesFile, incremental.generateTypes());
+        }
+        return typesFile;
+    }
 }
@@ -0,0 +1,648 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.openapi;
+
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.generators.BallerinaClientGenerator;
+import io.ballerina.generators.BallerinaSchemaGenerator;
+import io.ballerina.generators.ClientSharding;
+import io.ballerina.generators.GenerationContext;
+import io.ballerina.generators.GeneratorConstants;
+import io.ballerina.generators.SpecFingerprint;
+import io.ballerina.generators.SpecModel;
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.utils.GenerationManifest;
+import io.ballerina.openapi.utils.SpecCache;
+import io.ballerina.tools.text.TextDocuments;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the client and the records of a definition into a directory holding the sources generated from a
+ * previous version of the definition. Only the remote functions of the changed operations and the records of the
+ * changed schemas are generated and formatted again, and they are spliced into the syntax trees of the previously
+ * generated files. The rest of the files is kept as it is.
+ * <p>
+ * The fingerprints of the previous generation are read from the {@link GenerationManifest} of the directory. When
+ * the manifest is stale, or when a change reaches beyond the changed functions, such as a new import or the query
+ * parameter helper function, the file is generated from scratch instead.
+ */
+class IncrementalGeneration {
+    static final String CLIENT_FILE_NAME = "client.bal";
+
+    private final GenerationContext context;
+    private final Filter filter;
+    private final SourceFormatter formatter;
+    private final Path srcPath;
+    private final SpecFingerprint fingerprint;
+    private final String contractKey;
+    private final GenerationManifest previous;
+    private final GenerationManifest manifest;
+    private final List<SpecModel.OperationEntry> operations = new ArrayList<>();
+    private final Map<String, GenerationManifest.Operation> generatedOperations = new HashMap<>();
+    private int regeneratedOperations = -1;
+    private int regeneratedSchemas = -1;
+
+    private IncrementalGeneration(GenerationContext context, Filter filter, SourceFormatter formatter, Path srcPath,
+                                  SpecFingerprint fingerprint, String contractKey, GenerationManifest previous,
+                                  GenerationManifest manifest) {
+        this.context = context;
+        this.filter = filter;
+        this.formatter = formatter;
+        this.srcPath = srcPath;
+        this.fingerprint = fingerprint;
+        this.contractKey = contractKey;
+        this.previous = previous;
+        this.manifest = manifest;
+        for (SpecModel.OperationEntry operation : context.getSpecModel().getOperations()) {
+            if (operation.isSelected(filter)) {
+                operations.add(operation);
+            }
+        }
+    }
+
+    /**
+     * Check whether the manifest of the given directory shows the sources were generated with the given options
+     * from the same contract and were not edited since, before the contract is parsed.
+     *
+     * @param srcPath     directory of the generated sources
+     * @param signature   signature of the generation options
+     * @param contractKey cache key of the contract
+     * @return true if there is nothing to generate
+     */
+    static boolean isUpToDate(Path srcPath, String signature, String contractKey) {
+        String manifestSignature = getManifestSignature(signature);
+        return GenerationManifest.read(srcPath)
+                .map(manifest -> manifest.isUpToDate(srcPath, manifestSignature, contractKey))
+                .orElse(false);
+    }
+
+    /**
+     * Fingerprint the definition of the given context and read the manifest of the previous generation.
+     *
+     * @param context     generation context of the definition
+     * @param filter      tags and operations to be generated
+     * @param srcPath     directory of the generated sources
+     * @param signature   signature of the generation options
+     * @param contractKey cache key of the contract recorded in the manifest, or null to always generate again
+     * @param formatter   formatter of the generated sources
+     * @return incremental generation into the directory
+     * @throws BallerinaOpenApiException when the definition cannot be fingerprinted
+     */
+    static IncrementalGeneration prepare(GenerationContext context, Filter filter, Path srcPath, String signature,
+                                         String contractKey, SourceFormatter formatter)
+            throws BallerinaOpenApiException {
+        // The fingerprints are taken before generating, the client generation completes the operation ids.
+        SpecFingerprint fingerprint = SpecFingerprint.of(context);
+        String manifestSignature = getManifestSignature(signature);
+        GenerationManifest previous = GenerationManifest.read(srcPath)
+                .filter(manifest -> manifest.isValid(srcPath, manifestSignature, fingerprint.getGlobal()))
+                .orElse(null);
+        return new IncrementalGeneration(context, filter, formatter, srcPath, fingerprint, contractKey, previous,
+                new GenerationManifest(manifestSignature, fingerprint.getGlobal()));
+    }
+
+    private static String getManifestSignature(String signature) {
+        return SpecCache.getSignature(signature, SpecCache.getToolVersion());
+    }
+
+    /**
+     * Create a generation which always generates from scratch and keeps no manifest, for sources which are not
+     * written to an output directory.
+     *
+     * @param context   generation context of the definition
+     * @param filter    tags and operations to be generated
+     * @param formatter formatter of the generated sources
+     * @return generation from scratch
+     */
+    static IncrementalGeneration fromScratch(GenerationContext context, Filter filter, SourceFormatter formatter) {
+        return new IncrementalGeneration(context, filter, formatter, null, null, null, null, null);
+    }
+
+    /**
+     * Check whether the previously generated sources are updated rather than generated from scratch.
+     *
+     * @return true if a valid manifest of a previous generation was found
+     */
+    boolean isIncremental() {
+        return previous != null;
+    }
+
+    /**
+     * Update the previously generated client file with the changed operations.
+     *
+     * @return formatted client source, or null when the client has to be generated from scratch
+     * @throws BallerinaOpenApiException when a remote function cannot be generated
+     * @throws FormatterException        when the generated remote functions cannot be formatted
+     */
+    String updateClient() throws BallerinaOpenApiException, FormatterException {
+        // A previously sharded client is replaced as a whole.
+        if (previous != null && previous.hasFile(CLIENT_FILE_NAME) && getShardNames(previous).isEmpty()) {
+            try {
+                return updateClient(Files.readString(srcPath.resolve(CLIENT_FILE_NAME)));
+            } catch (IOException e) {
+                // Generate the client from scratch.
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Generate the whole client. The tree is formatted along with the other generated files.
+     *
+     * @return syntax tree of the client
+     * @throws BallerinaOpenApiException when the client cannot be generated
+     */
+    SyntaxTree generateClient() throws BallerinaOpenApiException {
+        BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(context, filter);
+        SyntaxTree syntaxTree = clientGenerator.generateSyntaxTree();
+        if (fingerprint != null) {
+            recordOperations(clientGenerator.getOperationSources());
+        }
+        regeneratedOperations = operations.size();
+        return syntaxTree;
+    }
+
+    /**
+     * Generate the whole client split into shards. The trees are formatted along with the other generated files.
+     *
+     * @param sharding how the remote functions are split into shards
+     * @return syntax trees by the name of their file
+     * @throws BallerinaOpenApiException when the client cannot be generated
+     */
+    Map<String, SyntaxTree> generateShardedClient(ClientSharding sharding) throws BallerinaOpenApiException {
+        // The remote functions of sharded clients are not recorded, they are always generated from scratch.
+        Map<String, SyntaxTree> syntaxTrees =
+                new BallerinaClientGenerator(context, filter).generateShardedSyntaxTrees(sharding);
+        regeneratedOperations = operations.size();
+        return syntaxTrees;
+    }
+
+    /**
+     * Delete the client shards of the previous generation which are not generated any more.
+     *
+     * @param fileNames names of the files of this generation
+     */
+    void removeStaleShards(Set<String> fileNames) {
+        if (previous == null) {
+            return;
+        }
+        for (String fileName : getShardNames(previous)) {
+            if (!fileNames.contains(fileName)) {
+                try {
+                    Files.deleteIfExists(srcPath.resolve(fileName));
+                } catch (IOException e) {
+                    // The stale shard is left in place.
+                }
+            }
+        }
+    }
+
+    private static List<String> getShardNames(GenerationManifest manifest) {
+        List<String> shardNames = new ArrayList<>();
+        for (String fileName : manifest.getFileNames()) {
+            if (fileName.startsWith(GeneratorConstants.CLIENT + "_")) {
+                shardNames.add(fileName);
+            }
+        }
+        return shardNames;
+    }
+
+    /**
+     * Update the previously generated records file with the changed schemas.
+     *
+     * @return formatted records source, or null when the records have to be generated from scratch
+     * @throws BallerinaOpenApiException when a record cannot be generated
+     * @throws FormatterException        when the generated records cannot be formatted
+     */
+    String updateTypes() throws BallerinaOpenApiException, FormatterException {
+        if (previous != null && previous.hasFile(GeneratorConstants.TYPE_FILE_NAME)) {
+            try {
+                return updateTypes(Files.readString(srcPath.resolve(GeneratorConstants.TYPE_FILE_NAME)));
+            } catch (IOException e) {
+                // Generate the records from scratch.
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Generate all the records. The tree is formatted along with the other generated files.
+     *
+     * @return syntax tree of the records
+     * @throws BallerinaOpenApiException when a record cannot be generated
+     */
+    SyntaxTree generateTypes() throws BallerinaOpenApiException {
+        regeneratedSchemas = getSchemaNames().size();
+        return new BallerinaSchemaGenerator(context, filter).generateSyntaxTree();
+    }
+
+    /*
+     * Splice the remote functions of the changed operations into the previous client. Returns null when the client
+     * has to be generated from scratch.
+     */
+    private String updateClient(String previousSource) throws BallerinaOpenApiException, FormatterException {
+        Set<String> changed = new LinkedHashSet<>();
+        for (SpecModel.OperationEntry operation : operations) {
+            String key = SpecFingerprint.getOperationKey(operation);
+            GenerationManifest.Operation previousOperation = previous.getOperation(key);
+            if (previousOperation == null || previousOperation.getFunction() == null ||
+                    !previousOperation.getFingerprint().equals(fingerprint.getOperations().get(key))) {
+                changed.add(key);
+            }
+        }
+
+        BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(context, filter);
+        SyntaxTree changedTree = formatter.format(clientGenerator.generateSyntaxTree(changed));
+        Map<String, BallerinaClientGenerator.OperationSource> changedSources = clientGenerator.getOperationSources();
+
+        // The imports and the query parameter helper function are shared by all the functions, a change of them
+        // needs the whole client.
+        Set<String> previousTypes = new LinkedHashSet<>();
+        Set<String> previousImports = new LinkedHashSet<>();
+        Set<String> previousFunctions = new LinkedHashSet<>();
+        boolean previousQuery = false;
+        for (String key : previous.getOperationKeys()) {
+            GenerationManifest.Operation previousOperation = previous.getOperation(key);
+            if (previousOperation.getFunction() != null) {
+                previousTypes.addAll(previousOperation.getTypes());
+                previousImports.addAll(previousOperation.getImports());
+                previousFunctions.add(previousOperation.getFunction());
+                previousQuery = previousQuery || previousOperation.isQuery();
+            }
+        }
+        Set<String> types = new LinkedHashSet<>();
+        Set<String> imports = new LinkedHashSet<>();
+        boolean query = false;
+        for (SpecModel.OperationEntry operation : operations) {
+            String key = SpecFingerprint.getOperationKey(operation);
+            GenerationManifest.Operation generated = changed.contains(key) ?
+                    toRecord(key, changedSources.get(key)) : previous.getOperation(key);
+            types.addAll(generated.getTypes());
+            imports.addAll(generated.getImports());
+            query = query || generated.isQuery();
+            generatedOperations.put(key, generated);
+        }
+        if (query != previousQuery || !imports.equals(previousImports)) {
+            generatedOperations.clear();
+            return null;
+        }
+
+        ModulePartNode previousModule = SyntaxTree.from(TextDocuments.from(previousSource)).rootNode();
+        Map<String, TypeDefinitionNode> changedTypes = new HashMap<>();
+        Map<String, FunctionDefinitionNode> changedFunctions = new HashMap<>();
+        ModulePartNode changedModule = changedTree.rootNode();
+        MemberLayout classLayout = new MemberLayout();
+        for (ModuleMemberDeclarationNode member : changedModule.members()) {
+            if (member instanceof TypeDefinitionNode) {
+                TypeDefinitionNode typeDefinition = (TypeDefinitionNode) member;
+                changedTypes.put(typeDefinition.typeName().text(), typeDefinition);
+            } else if (member instanceof ClassDefinitionNode) {
+                classLayout.learn(((ClassDefinitionNode) member).members());
+                for (Node classMember : ((ClassDefinitionNode) member).members()) {
+                    if (classMember instanceof FunctionDefinitionNode) {
+                        FunctionDefinitionNode function = (FunctionDefinitionNode) classMember;
+                        changedFunctions.put(function.functionName().text(), function);
+                    }
+                }
+            }
+        }
+
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>();
+        Set<String> keptTypes = new LinkedHashSet<>();
+        int typesEnd = 0;
+        ClassDefinitionNode previousClass = null;
+        for (ModuleMemberDeclarationNode member : previousModule.members()) {
+            if (member instanceof TypeDefinitionNode) {
+                String typeName = ((TypeDefinitionNode) member).typeName().text();
+                // Types of removed or changed operations which are not used any more are dropped.
+                if (types.contains(typeName) || !previousTypes.contains(typeName)) {
+                    members.add(member);
+                    keptTypes.add(typeName);
+                    typesEnd = members.size();
+                }
+            } else {
+                if (member instanceof ClassDefinitionNode &&
+                        GeneratorConstants.CLIENT_CLASS.equals(((ClassDefinitionNode) member).className().text())) {
+                    previousClass = (ClassDefinitionNode) member;
+                }
+                members.add(member);
+            }
+        }
+        if (previousClass == null) {
+            generatedOperations.clear();
+            return null;
+        }
+        List<ModuleMemberDeclarationNode> newTypes = new ArrayList<>();
+        for (String typeName : types) {
+            if (!keptTypes.contains(typeName)) {
+                if (!changedTypes.containsKey(typeName)) {
+                    generatedOperations.clear();
+                    return null;
+                }
+                newTypes.add(changedTypes.get(typeName));
+            }
+        }
+        members.addAll(typesEnd, newTypes);
+
+        // The fields and the init function are kept, the remote functions follow in the order of the operations.
+        Map<String, FunctionDefinitionNode> previousRemoteFunctions = new HashMap<>();
+        List<Node> classMembers = new ArrayList<>();
+        for (Node classMember : previousClass.members()) {
+            if (classMember instanceof FunctionDefinitionNode &&
+                    previousFunctions.contains(((FunctionDefinitionNode) classMember).functionName().text())) {
+                FunctionDefinitionNode function = (FunctionDefinitionNode) classMember;
+                previousRemoteFunctions.put(function.functionName().text(), function);
+            } else {
+                classMembers.add(classMember);
+            }
+        }
+        for (SpecModel.OperationEntry operation : operations) {
+            String key = SpecFingerprint.getOperationKey(operation);
+            String functionName = generatedOperations.get(key).getFunction();
+            FunctionDefinitionNode function = changed.contains(key) ? changedFunctions.get(functionName) :
+                    previousRemoteFunctions.get(functionName);
+            if (function == null) {
+                generatedOperations.clear();
+                return null;
+            }
+            classMembers.add(function);
+        }
+
+        // The members are laid out like the formatter lays out the members of a full generation.
+        classLayout.learn(previousClass.members());
+        MemberLayout moduleLayout = new MemberLayout();
+        moduleLayout.learn(previousModule.members());
+        moduleLayout.learn(changedModule.members());
+        String classMembersSource = classLayout.layOut(toSources(classMembers));
+        if (classMembersSource == null) {
+            generatedOperations.clear();
+            return null;
+        }
+        int membersStart = previousClass.openBrace().textRangeWithMinutiae().endOffset() -
+                previousClass.textRangeWithMinutiae().startOffset();
+        String classSource = previousClass.toSourceCode().substring(0, membersStart) + classMembersSource +
+                previousClass.closeBrace().toSourceCode();
+        List<String> memberSources = toSources(members);
+        memberSources.set(members.indexOf(previousClass), classSource);
+        String source = toSource(previousModule, moduleLayout, memberSources);
+        if (source == null) {
+            generatedOperations.clear();
+            return null;
+        }
+        regeneratedOperations = changed.size();
+        return source;
+    }
+
+    /*
+     * Splice the records of the changed schemas into the previous records.
+     */
+    private String updateTypes(String previousSource) throws BallerinaOpenApiException, FormatterException {
+        List<String> typeNames = getSchemaNames();
+        Set<String> changed = new LinkedHashSet<>();
+        for (String typeName : typeNames) {
+            if (!fingerprint.getSchemas().get(typeName).equals(previous.getSchema(typeName))) {
+                changed.add(typeName);
+            }
+        }
+        regeneratedSchemas = changed.size();
+        if (changed.isEmpty() && previous.getSchemaNames().equals(new LinkedHashSet<>(typeNames))) {
+            return previousSource;
+        }
+
+        ModulePartNode changedModule = formatter.format(
+                new BallerinaSchemaGenerator(context, filter).generateSyntaxTree(changed)).rootNode();
+        Map<String, ModuleMemberDeclarationNode> changedRecords = getTypeDefinitions(changedModule);
+        ModulePartNode previousModule = SyntaxTree.from(TextDocuments.from(previousSource)).rootNode();
+        Map<String, ModuleMemberDeclarationNode> previousRecords = getTypeDefinitions(previousModule);
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>();
+        for (String typeName : typeNames) {
+            ModuleMemberDeclarationNode record = changed.contains(typeName) ? changedRecords.get(typeName) :
+                    previousRecords.get(typeName);
+            // No record is generated for some schemas.
+            if (record != null) {
+                members.add(record);
+            }
+        }
+        MemberLayout layout = new MemberLayout();
+        layout.learn(previousModule.members());
+        layout.learn(changedModule.members());
+        return toSource(previousModule, layout, toSources(members));
+    }
+
+    /*
+     * Source of the given module with its members replaced by the given member sources, or null when the layout
+     * does not know the whitespace of a position.
+     */
+    private static String toSource(ModulePartNode module, MemberLayout layout, List<String> memberSources) {
+        String membersSource = layout.layOut(memberSources);
+        if (membersSource == null) {
+            return null;
+        }
+        StringBuilder source = new StringBuilder();
+        for (ImportDeclarationNode importNode : module.imports()) {
+            source.append(importNode.toSourceCode());
+        }
+        return source.append(membersSource).append(module.eofToken().toSourceCode()).toString();
+    }
+
+    private static List<String> toSources(List<? extends Node> nodes) {
+        List<String> sources = new ArrayList<>(nodes.size());
+        for (Node node : nodes) {
+            sources.add(node.toSourceCode());
+        }
+        return sources;
+    }
+
+    private static Map<String, ModuleMemberDeclarationNode> getTypeDefinitions(ModulePartNode module) {
+        Map<String, ModuleMemberDeclarationNode> typeDefinitions = new HashMap<>();
+        for (ModuleMemberDeclarationNode member : module.members()) {
+            if (member instanceof TypeDefinitionNode) {
+                typeDefinitions.put(((TypeDefinitionNode) member).typeName().text(), member);
+            }
+        }
+        return typeDefinitions;
+    }
+
+    /*
+     * Type names of the schemas generated as records, in the order of the definition.
+     */
+    private List<String> getSchemaNames() {
+        List<String> typeNames = new ArrayList<>();
+        for (SpecModel.SchemaEntry schema : context.getSpecModel().getSchemas(filter)) {
+            typeNames.add(schema.getTypeName());
+        }
+        return typeNames;
+    }
+
+    private void recordOperations(Map<String, BallerinaClientGenerator.OperationSource> operationSources) {
+        for (Map.Entry<String, BallerinaClientGenerator.OperationSource> operationSource :
+                operationSources.entrySet()) {
+            generatedOperations.put(operationSource.getKey(),
+                    toRecord(operationSource.getKey(), operationSource.getValue()));
+        }
+    }
+
+    private GenerationManifest.Operation toRecord(String key, BallerinaClientGenerator.OperationSource source) {
+        List<String> imports = new ArrayList<>();
+        for (ImportDeclarationNode importNode : source.getImports()) {
+            // Generated nodes are not formatted yet, the whitespace is dropped so the imports compare equal.
+            imports.add(importNode.toSourceCode().replaceAll("\\s+", ""));
+        }
+        return new GenerationManifest.Operation(fingerprint.getOperations().get(key),
+                source.getFunction().functionName().text().trim(),
+                new ArrayList<>(source.getTypeDefinitions().keySet()), imports, source.isQuery());
+    }
+
+    /**
+     * Write the manifest of this generation into the output directory.
+     *
+     * @param generatedFiles files written by the generation
+     */
+    void writeManifest(List<Path> generatedFiles) {
+        if (manifest == null) {
+            return;
+        }
+        try {
+            boolean allFilesRecorded = true;
+            for (Path generatedFile : generatedFiles) {
+                if (srcPath.toRealPath().equals(generatedFile.toRealPath().getParent())) {
+                    manifest.putFile(generatedFile.getFileName().toString(), Files.readString(generatedFile));
+                } else {
+                    allFilesRecorded = false;
+                }
+            }
+            // The sources are only up to date when the manifest can tell that none of them was edited.
+            if (contractKey != null && allFilesRecorded) {
+                manifest.setContractKey(contractKey);
+            }
+            for (String typeName : getSchemaNames()) {
+                manifest.putSchema(typeName, fingerprint.getSchemas().get(typeName));
+            }
+            for (SpecModel.OperationEntry operation : operations) {
+                String key = SpecFingerprint.getOperationKey(operation);
+                GenerationManifest.Operation generated = generatedOperations.get(key);
+                manifest.putOperation(key, generated != null ? generated : new GenerationManifest.Operation(
+                        fingerprint.getOperations().get(key), null, List.of(), List.of(), false));
+            }
+            manifest.write(srcPath);
+        } catch (IOException e) {
+            // Ignore, the sources are simply generated from scratch in the next run.
+        }
+    }
+
+    /**
+     * Get a summary of the parts generated again.
+     *
+     * @return summary
+     */
+    String getSummary() {
+        StringBuilder summary = new StringBuilder(isIncremental() ? "Updated the previously generated sources" :
+                "Generated the sources from scratch");
+        if (regeneratedOperations >= 0) {
+            summary.append(", ").append(regeneratedOperations).append(" of ").append(operations.size())
+                    .append(" remote functions generated");
+        }
+        if (regeneratedSchemas >= 0) {
+            summary.append(", ").append(regeneratedSchemas).append(" of ").append(getSchemaNames().size())
+                    .append(" records generated");
+        }
+        return summary.append('.').toString();
+    }
+
+    /**
+     * Whitespace around the members of a formatted list, such as the members of a module or of a class. The
+     * formatter separates the members by their position, the first and the last member of a list may be surrounded by
+     * other whitespace than the members in between. A member spliced into a list from another tree, or moved to
+     * another position, takes the whitespace of its new position, so the spliced source is the same as the source of
+     * a full generation.
+     */
+    private static class MemberLayout {
+        private String firstLeading;
+        private String otherLeading;
+        private String middleTrailing;
+        private String lastTrailing;
+
+        /**
+         * Learn the whitespace of the positions from a formatted list.
+         *
+         * @param members members of the formatted list
+         */
+        void learn(Iterable<? extends Node> members) {
+            List<String> sources = new ArrayList<>();
+            for (Node member : members) {
+                sources.add(member.toSourceCode());
+            }
+            for (int i = 0; i < sources.size(); i++) {
+                String source = sources.get(i);
+                if (i == 0) {
+                    firstLeading = firstLeading != null ? firstLeading : getLeading(source);
+                } else {
+                    otherLeading = otherLeading != null ? otherLeading : getLeading(source);
+                }
+                if (i == sources.size() - 1) {
+                    lastTrailing = lastTrailing != null ? lastTrailing : getTrailing(source);
+                } else {
+                    middleTrailing = middleTrailing != null ? middleTrailing : getTrailing(source);
+                }
+            }
+        }
+
+        /**
+         * Lay out the given members with the whitespace of their positions.
+         *
+         * @param sources sources of the members, in the order of the list
+         * @return source of the list, or null when the whitespace of a position was not learnt
+         */
+        String layOut(List<String> sources) {
+            StringBuilder source = new StringBuilder();
+            for (int i = 0; i < sources.size(); i++) {
+                String leading = i == 0 ? firstLeading : otherLeading;
+                String trailing = i == sources.size() - 1 ? lastTrailing : middleTrailing;
+                if (leading == null || trailing == null) {
+                    return null;
+                }
+                source.append(leading).append(sources.get(i).strip()).append(trailing);
+            }
+            return source.toString();
+        }
+
+        private static String getLeading(String source) {
+            return source.substring(0, source.length() - source.stripLeading().length());
+        }
+
+        private static String getTrailing(String source) {
+            return source.substring(source.stripTrailing().length());
+        }
+    }
+}
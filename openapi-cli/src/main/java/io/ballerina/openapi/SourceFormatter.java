@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.openapi;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.generators.ParallelGeneration;
+import io.ballerina.generators.SourceLayout;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.model.GenSrcFile;
+import io.ballerina.tools.text.TextDocuments;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns the generated syntax trees into the content of the generated files. The trees of the files of a generation
+ * are independent of each other and are formatted concurrently. When formatting is turned off the trees are written
+ * with {@link SourceLayout} instead of the Ballerina formatter.
+ */
+class SourceFormatter {
+    private final boolean formatEnabled;
+
+    SourceFormatter(boolean formatEnabled) {
+        this.formatEnabled = formatEnabled;
+    }
+
+    /**
+     * Format the given tree into a tree whose tokens carry the whitespace of the formatted source.
+     *
+     * @param syntaxTree generated tree
+     * @return formatted tree
+     * @throws FormatterException when the tree cannot be formatted
+     */
+    SyntaxTree format(SyntaxTree syntaxTree) throws FormatterException {
+        if (formatEnabled) {
+            return Formatter.format(syntaxTree);
+        }
+        return SyntaxTree.from(TextDocuments.from(SourceLayout.toSourceCode(syntaxTree.rootNode())));
+    }
+
+    /**
+     * Get the source of the given tree.
+     *
+     * @param syntaxTree generated tree
+     * @return source of the tree
+     * @throws FormatterException when the tree cannot be formatted
+     */
+    String toSourceCode(SyntaxTree syntaxTree) throws FormatterException {
+        if (formatEnabled) {
+            return Formatter.format(syntaxTree).toString();
+        }
+        return SourceLayout.toSourceCode(syntaxTree.rootNode());
+    }
+
+    /**
+     * Set the content of each of the given files from its tree, formatting the trees concurrently.
+     *
+     * @param syntaxTrees generated trees by the file they are written to
+     * @throws BallerinaOpenApiException when the formatting is interrupted
+     * @throws FormatterException        when a tree cannot be formatted
+     */
+    void setContents(Map<GenSrcFile, SyntaxTree> syntaxTrees) throws BallerinaOpenApiException, FormatterException {
+        List<GenSrcFile> files = new ArrayList<>(syntaxTrees.keySet());
+        List<String> contents;
+        if (files.size() > 1 && ParallelGeneration.getParallelism() > 1) {
+            try {
+                contents = ParallelGeneration.map(files, file -> {
+                    try {
+                        return toSourceCode(syntaxTrees.get(file));
+                    } catch (FormatterException e) {
+                        throw new BallerinaOpenApiException(e.getMessage(), e);
+                    }
+                });
+            } catch (BallerinaOpenApiException e) {
+                if (e.getCause() instanceof FormatterException) {
+                    throw (FormatterException) e.getCause();
+                }
+                throw e;
+            }
+        } else {
+            contents = new ArrayList<>(files.size());
+            for (GenSrcFile file : files) {
+                contents.add(toSourceCode(syntaxTrees.get(file)));
+            }
+        }
+        for (int i = 0; i < files.size(); i++) {
+            files.get(i).setContent(contents.get(i));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.ballerina.OpenApiConverterException;
+import io.ballerina.ballerina.OpenApiConverterUtils;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * The Ballerina to OpenAPI direction of the openapi command, which writes the OpenAPI contracts of the services of a
+ * Ballerina file. The command refers to the converter only through this class, so the Ballerina project and compiler
+ * classes the converter needs are loaded and initialized when a service is converted, and not when a contract is
+ * generated.
+ */
+final class BallerinaToOpenApi {
+
+    private BallerinaToOpenApi() {
+    }
+
+    /**
+     * This util method to generate openApi contract based on the given service ballerina file.
+     *
+     * @param balFile          input resource file
+     * @param targetOutputPath output directory
+     * @param serviceName      service to convert, all the services of the file when empty
+     * @param json             true to write JSON contracts instead of YAML ones
+     * @param interactive      whether to ask on the console before replacing an existing contract
+     * @param outStream        stream the errors are printed to
+     * @return true if the contracts were written
+     */
+    static boolean convert(Path balFile, Path targetOutputPath, Optional<String> serviceName, boolean json,
+                           boolean interactive, PrintStream outStream) throws IOException {
+        Path balFilePath = Paths.get(balFile.toFile().getCanonicalPath());
+        // Check service name it is mandatory
+        try {
+            OpenApiConverterUtils.generateOAS3DefinitionsAllService(balFilePath, targetOutputPath, serviceName,
+                    json, interactive);
+            return true;
+        } catch (IOException | OpenApiConverterException e) {
+            outStream.println(e.getLocalizedMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.generators.OpenApiException;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates the Ballerina sources of many OpenAPI contracts in one process, so the start up of the JVM, the loading
+ * of the Ballerina compiler classes and the warm up of the formatter are paid once for all the contracts.
+ * <p>
+ * The inputs can be contract files, directories searched for contracts, or glob patterns such as
+ * {@code specs/**.yaml}. The contracts are generated on a bounded pool of workers, each one into its own directory
+ * under the output path, and a summary of the time taken and the failure of each contract is printed at the end.
+ */
+public class BatchGenerator {
+    private static final String GLOB_CHARACTERS = "*?[{";
+
+    private final Generation generation;
+    private final int workers;
+    private final PrintStream outStream;
+
+    /**
+     * Create a batch generator.
+     *
+     * @param generation generation run for each contract
+     * @param workers    maximum number of contracts generated at once
+     * @param outStream  stream the summary is printed to
+     */
+    public BatchGenerator(Generation generation, int workers, PrintStream outStream) {
+        this.generation = generation;
+        this.workers = Math.max(1, workers);
+        this.outStream = outStream;
+    }
+
+    /**
+     * Check whether the given command line inputs need a batch generation, that is more than one input, a directory
+     * or a glob pattern.
+     *
+     * @param inputs        command line inputs
+     * @param executionPath directory the relative inputs are resolved against
+     * @return true if the inputs should be generated in batch mode
+     */
+    public static boolean isBatch(List<String> inputs, Path executionPath) {
+        if (inputs.size() > 1) {
+            return true;
+        }
+        String input = inputs.get(0);
+        return isGlob(input) || Files.isDirectory(executionPath.resolve(input));
+    }
+
+    /**
+     * Expand the given command line inputs to the list of contract files. Directories are searched recursively for
+     * {@code .yaml}, {@code .yml} and {@code .json} files. Each contract is listed once, in the order of the inputs
+     * and sorted by path within a directory or a pattern.
+     *
+     * @param inputs        contract files, directories or glob patterns
+     * @param executionPath directory the relative inputs are resolved against
+     * @return contract files to be generated
+     * @throws IOException when a directory cannot be read
+     */
+    public static List<Path> resolveInputs(List<String> inputs, Path executionPath) throws IOException {
+        Set<Path> definitions = new LinkedHashSet<>();
+        for (String input : inputs) {
+            if (isGlob(input)) {
+                definitions.addAll(findMatches(input, executionPath));
+            } else {
+                Path inputPath = executionPath.resolve(input).toAbsolutePath().normalize();
+                if (Files.isDirectory(inputPath)) {
+                    definitions.addAll(findDefinitions(inputPath, path -> true));
+                } else {
+                    definitions.add(inputPath);
+                }
+            }
+        }
+        return new ArrayList<>(definitions);
+    }
+
+    /*
+     * The pattern is matched against the paths under its longest leading directory without glob characters.
+     */
+    private static List<Path> findMatches(String pattern, Path executionPath) throws IOException {
+        String normalizedPattern = pattern.replace('\\', '/');
+        int firstGlob = normalizedPattern.length();
+        for (char c : GLOB_CHARACTERS.toCharArray()) {
+            int index = normalizedPattern.indexOf(c);
+            if (index >= 0) {
+                firstGlob = Math.min(firstGlob, index);
+            }
+        }
+        int baseEnd = normalizedPattern.lastIndexOf('/', firstGlob);
+        Path baseDir = executionPath.resolve(baseEnd < 0 ? "." : normalizedPattern.substring(0, baseEnd + 1))
+                .toAbsolutePath().normalize();
+        if (!Files.isDirectory(baseDir)) {
+            return new ArrayList<>();
+        }
+        PathMatcher matcher = baseDir.getFileSystem().getPathMatcher("glob:" +
+                normalizedPattern.substring(baseEnd + 1));
+        return findDefinitions(baseDir, path -> matcher.matches(baseDir.relativize(path)));
+    }
+
+    private static List<Path> findDefinitions(Path directory, Predicate<Path> filter) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(path -> Files.isRegularFile(path) && isDefinition(path) && filter.test(path))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static boolean isDefinition(Path path) {
+        String fileName = path.getFileName().toString().toLowerCase(Locale.ENGLISH);
+        return fileName.endsWith(".yaml") || fileName.endsWith(".yml") || fileName.endsWith(".json");
+    }
+
+    private static boolean isGlob(String input) {
+        for (char c : GLOB_CHARACTERS.toCharArray()) {
+            if (input.indexOf(c) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Generate the given contracts and print the summary.
+     *
+     * @param definitions contract files to be generated
+     * @param outputPath  directory under which the sources of each contract are generated
+     * @return results of the contracts, in the order of the contracts
+     */
+    public List<Result> generate(List<Path> definitions, Path outputPath) {
+        long start = System.nanoTime();
+        List<Result> results = new ArrayList<>(definitions.size());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(workers, Math.max(1, definitions.size())));
+        try {
+            List<Future<Result>> futures = new ArrayList<>(definitions.size());
+            Set<String> outputNames = new HashSet<>();
+            for (Path definitionPath : definitions) {
+                Path outputDir = outputPath.resolve(getOutputName(definitionPath, outputNames));
+                futures.add(executor.submit(() -> generate(definitionPath, outputDir)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(getResult(futures.get(i), definitions.get(i)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        printSummary(results, (System.nanoTime() - start) / 1_000_000);
+        return results;
+    }
+
+    private Result generate(Path definitionPath, Path outputDir) {
+        long start = System.nanoTime();
+        String error = null;
+        if (!Files.isRegularFile(definitionPath)) {
+            error = "OpenAPI contract not found";
+        } else if (!isDefinition(definitionPath)) {
+            error = "Not an OpenAPI contract, expected a .yaml, .yml or .json file";
+        } else {
+            try {
+                Files.createDirectories(outputDir);
+                generation.generate(definitionPath, outputDir);
+            } catch (IOException | BallerinaOpenApiException | FormatterException | OpenApiException |
+                    RuntimeException e) {
+                // A failed contract does not stop the rest of the batch.
+                error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            }
+        }
+        return new Result(definitionPath, outputDir, (System.nanoTime() - start) / 1_000_000, error);
+    }
+
+    private static Result getResult(Future<Result> future, Path definitionPath) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(definitionPath, null, 0, "Generation was interrupted");
+        } catch (ExecutionException e) {
+            return new Result(definitionPath, null, 0, String.valueOf(e.getCause()));
+        }
+    }
+
+    /*
+     * Contracts with the same file name in different directories get numbered output directories.
+     */
+    private static String getOutputName(Path definitionPath, Set<String> outputNames) {
+        String name = definitionPath.getFileName().toString().split("\\.")[0];
+        String outputName = name;
+        int suffix = 1;
+        while (!outputNames.add(outputName.toLowerCase(Locale.ENGLISH))) {
+            outputName = name + "_" + suffix++;
+        }
+        return outputName;
+    }
+
+    private void printSummary(List<Result> results, long elapsedMillis) {
+        int failed = 0;
+        outStream.println("Batch generation summary:");
+        for (Result result : results) {
+            if (result.isSuccessful()) {
+                outStream.println(String.format("  OK     %8d ms  %s -> %s", result.getElapsedMillis(),
+                        result.getDefinitionPath(), result.getOutputPath()));
+            } else {
+                failed++;
+                outStream.println(String.format("  FAILED %8d ms  %s: %s", result.getElapsedMillis(),
+                        result.getDefinitionPath(), result.getError()));
+            }
+        }
+        outStream.println("Generated " + (results.size() - failed) + " of " + results.size() +
+                " OpenAPI contracts in " + elapsedMillis + " ms with " + workers + " workers, " + failed +
+                " failed.");
+    }
+
+    /**
+     * Generation of the sources of a single contract.
+     */
+    @FunctionalInterface
+    public interface Generation {
+        void generate(Path definitionPath, Path outputPath) throws IOException, BallerinaOpenApiException,
+                FormatterException, OpenApiException;
+    }
+
+    /**
+     * Outcome of the generation of a single contract.
+     */
+    public static class Result {
+        private final Path definitionPath;
+        private final Path outputPath;
+        private final long elapsedMillis;
+        private final String error;
+
+        Result(Path definitionPath, Path outputPath, long elapsedMillis, String error) {
+            this.definitionPath = definitionPath;
+            this.outputPath = outputPath;
+            this.elapsedMillis = elapsedMillis;
+            this.error = error;
+        }
+
+        public Path getDefinitionPath() {
+            return definitionPath;
+        }
+
+        public Path getOutputPath() {
+            return outputPath;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public boolean isSuccessful() {
+            return error == null;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ballerina.openapi.utils.SpecCache;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Sends openapi commands to a running {@link GenerationDaemon}. When no daemon of the same version of the tool is
+ * running the client does nothing, and the caller runs the command in its own process. The client of a command
+ * checks for the state file of the daemon before loading the JSON classes, so a command run without a daemon loads
+ * nothing it does not use.
+ */
+public class DaemonClient {
+    private static final String STATE_FILE_NAME = "openapi-daemon.json";
+    private static final int CONNECT_TIMEOUT_MILLIS = 500;
+
+    private final Path stateFile;
+
+    /**
+     * Create a client of the daemon of the given state file.
+     *
+     * @param stateFile state file written by the daemon
+     */
+    public DaemonClient(Path stateFile) {
+        this.stateFile = stateFile;
+    }
+
+    /**
+     * Get the state file of the daemon of the current user.
+     *
+     * @return path of the state file
+     */
+    public static Path getDefaultStateFile() {
+        return Paths.get(System.getProperty("user.home"), ".ballerina", STATE_FILE_NAME);
+    }
+
+    /**
+     * Run a command on the daemon and print its output.
+     *
+     * @param directory directory the command is run in
+     * @param arguments arguments of the command
+     * @param outStream stream the output of the command is printed to
+     * @return exit code of the command, or empty when no daemon of this version is running
+     */
+    public OptionalInt run(Path directory, List<String> arguments, PrintStream outStream) {
+        if (!Files.isRegularFile(stateFile)) {
+            return OptionalInt.empty();
+        }
+        ObjectNode request = GenerationDaemon.newMessage();
+        request.put(GenerationDaemon.TYPE, GenerationDaemon.TYPE_RUN);
+        request.put(GenerationDaemon.DIRECTORY, directory.toAbsolutePath().toString());
+        ArrayNode requestArguments = request.putArray(GenerationDaemon.ARGUMENTS);
+        arguments.forEach(requestArguments::add);
+
+        Socket socket = connect(request, true);
+        if (socket == null) {
+            return OptionalInt.empty();
+        }
+        // The command may have started, so from here a failure is reported instead of running the command again.
+        try (socket) {
+            JsonNode response = readResponse(socket);
+            if (response == null) {
+                outStream.println("The OpenAPI generation daemon stopped before completing the command.");
+                return OptionalInt.of(1);
+            }
+            String output = response.path(GenerationDaemon.OUTPUT).asText();
+            if (!output.isEmpty()) {
+                outStream.print(output);
+            }
+            return OptionalInt.of(response.path(GenerationDaemon.EXIT_CODE).asInt(1));
+        } catch (IOException e) {
+            outStream.println("The OpenAPI generation daemon failed to complete the command. " + e.getMessage());
+            return OptionalInt.of(1);
+        }
+    }
+
+    /**
+     * Check whether a daemon of this version of the tool is running.
+     *
+     * @return true if the daemon answered with the same version
+     */
+    public boolean isRunning() {
+        return send(GenerationDaemon.TYPE_PING, true);
+    }
+
+    /**
+     * Ask the daemon to stop once its running commands complete. A daemon of another version of the tool is stopped
+     * as well.
+     *
+     * @return true if a daemon was running
+     */
+    public boolean stop() {
+        return send(GenerationDaemon.TYPE_STOP, false);
+    }
+
+    private boolean send(String type, boolean sameVersion) {
+        if (!Files.isRegularFile(stateFile)) {
+            return false;
+        }
+        ObjectNode request = GenerationDaemon.newMessage();
+        request.put(GenerationDaemon.TYPE, type);
+        Socket socket = connect(request, sameVersion);
+        if (socket == null) {
+            return false;
+        }
+        try (socket) {
+            JsonNode response = readResponse(socket);
+            return response != null && response.path(GenerationDaemon.EXIT_CODE).asInt(1) == 0 &&
+                    (!sameVersion || isSameVersion(response));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /*
+     * Connect to the daemon and send the request, adding the token of the daemon. Returns null when there is no
+     * daemon, including when the state file was left behind by a daemon which did not stop cleanly, and when the
+     * daemon runs another version of the tool and the same version is asked for.
+     */
+    private Socket connect(ObjectNode request, boolean sameVersion) {
+        JsonNode state;
+        try {
+            state = GenerationDaemon.readState(stateFile);
+        } catch (IOException e) {
+            return null;
+        }
+        if (state == null || (sameVersion && !isSameVersion(state))) {
+            return null;
+        }
+        Socket socket = new Socket();
+        try {
+            request.put(GenerationDaemon.TOKEN, state.path(GenerationDaemon.TOKEN).asText());
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                    state.path(GenerationDaemon.PORT).asInt()), CONNECT_TIMEOUT_MILLIS);
+            GenerationDaemon.writeMessage(socket.getOutputStream(), request);
+            return socket;
+        } catch (IOException | IllegalArgumentException e) {
+            close(socket);
+            return null;
+        }
+    }
+
+    private static boolean isSameVersion(JsonNode message) {
+        return SpecCache.getToolVersion().equals(message.path(GenerationDaemon.VERSION).asText());
+    }
+
+    private static JsonNode readResponse(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                StandardCharsets.UTF_8));
+        return GenerationDaemon.readMessage(reader);
+    }
+
+    private static void close(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Nothing was sent on the socket.
+        }
+    }
+}
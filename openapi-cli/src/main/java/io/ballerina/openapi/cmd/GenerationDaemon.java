@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ballerina.openapi.utils.CodegenUtils;
+import io.ballerina.openapi.utils.SpecCache;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Long running process which runs the openapi commands of other processes, so the start up of the JVM, the loading
+ * of the generator, parser and formatter classes and their warm up are paid once for many commands.
+ * <p>
+ * The daemon listens on a port of the loopback interface and writes the port, a random token and the version of the
+ * tool into a state file readable by its owner only. Clients of another version of the tool run their commands in
+ * their own process, so a daemon left running across an update never generates with the old generators. Clients
+ * connect to the port and send one request per connection, a single line of JSON:
+ * <pre>
+ * {"token": "...", "type": "run", "directory": "/work", "arguments": ["-i", "petstore.yaml", "--mode", "client"]}
+ * </pre>
+ * where the type is {@code run}, {@code ping} or {@code stop}. The daemon answers with a single line of JSON holding
+ * the exit code and the output of the command, {@code {"exitCode": 0, "output": "..."}}, and the answer to a ping
+ * also holds the version of the daemon. Commands run concurrently on a bounded pool, and the daemon stops once no
+ * command has run for the idle timeout.
+ */
+public class GenerationDaemon {
+    static final String TYPE_RUN = "run";
+    static final String TYPE_PING = "ping";
+    static final String TYPE_STOP = "stop";
+    static final String TOKEN = "token";
+    static final String TYPE = "type";
+    static final String DIRECTORY = "directory";
+    static final String ARGUMENTS = "arguments";
+    static final String PORT = "port";
+    static final String VERSION = "version";
+    static final String EXIT_CODE = "exitCode";
+    static final String OUTPUT = "output";
+
+    /**
+     * Time after the last command the daemon stops when no other timeout is given.
+     */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(15);
+
+    private static final int BACKLOG = 50;
+    private static final int TOKEN_BYTES = 32;
+    private static final int REQUEST_TIMEOUT_MILLIS = 10_000;
+    private static final long IDLE_CHECK_MILLIS = 1_000;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path stateFile;
+    private final Duration idleTimeout;
+    private final int workers;
+    private final PrintStream outStream;
+    private final Command command;
+    private final AtomicInteger activeCommands = new AtomicInteger();
+    private final AtomicLong lastActivity = new AtomicLong();
+    private volatile ServerSocket serverSocket;
+    private volatile boolean stopped;
+
+    /**
+     * Create a daemon.
+     *
+     * @param stateFile   file the port and the token of the daemon are written to
+     * @param idleTimeout time after the last command the daemon stops
+     * @param workers     number of commands run at once
+     * @param outStream   stream the daemon reports its start and stop to
+     * @param command     runs a command of a client
+     */
+    public GenerationDaemon(Path stateFile, Duration idleTimeout, int workers, PrintStream outStream,
+                            Command command) {
+        this.stateFile = stateFile;
+        this.idleTimeout = idleTimeout;
+        this.workers = workers;
+        this.outStream = outStream;
+        this.command = command;
+    }
+
+    /**
+     * Run the daemon until it is stopped by a client or has been idle for the idle timeout.
+     *
+     * @throws IOException when the daemon cannot listen or write its state file
+     */
+    public void run() throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "openapi-daemon");
+            thread.setDaemon(true);
+            return thread;
+        });
+        String token = newToken();
+        try (ServerSocket server = new ServerSocket(0, BACKLOG, InetAddress.getLoopbackAddress())) {
+            serverSocket = server;
+            server.setSoTimeout((int) IDLE_CHECK_MILLIS);
+            writeState(server.getLocalPort(), token);
+            warmUp();
+            outStream.println("OpenAPI generation daemon started on port " + server.getLocalPort() + ".");
+            lastActivity.set(System.nanoTime());
+            while (!stopped && !isIdle()) {
+                Socket socket;
+                try {
+                    socket = server.accept();
+                } catch (SocketTimeoutException e) {
+                    continue;
+                } catch (SocketException e) {
+                    // The server socket was closed by a stop request.
+                    break;
+                }
+                pool.execute(() -> serve(socket, token));
+            }
+        } finally {
+            stopped = true;
+            pool.shutdown();
+            try {
+                pool.awaitTermination(idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            deleteState(token);
+            outStream.println("OpenAPI generation daemon stopped.");
+        }
+    }
+
+    /*
+     * Whether no command is running and none has run for the idle timeout.
+     */
+    private boolean isIdle() {
+        return activeCommands.get() == 0 &&
+                System.nanoTime() - lastActivity.get() > idleTimeout.toNanos();
+    }
+
+    private void serve(Socket socket, String token) {
+        try (socket) {
+            socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.UTF_8));
+            String line = reader.readLine();
+            if (line == null) {
+                return;
+            }
+            JsonNode request = MAPPER.readTree(line);
+            ObjectNode response = MAPPER.createObjectNode();
+            if (!isAuthorized(request, token)) {
+                response.put(EXIT_CODE, 1);
+                response.put(OUTPUT, "The request to the OpenAPI generation daemon is not authorized.");
+            } else {
+                String type = request.path(TYPE).asText();
+                switch (type) {
+                    case TYPE_RUN:
+                        runCommand(request, response);
+                        break;
+                    case TYPE_PING:
+                        response.put(EXIT_CODE, 0);
+                        response.put(VERSION, SpecCache.getToolVersion());
+                        break;
+                    case TYPE_STOP:
+                        response.put(EXIT_CODE, 0);
+                        stop();
+                        break;
+                    default:
+                        response.put(EXIT_CODE, 1);
+                        response.put(OUTPUT, "Unknown request type '" + type + "'.");
+                        break;
+                }
+            }
+            writeMessage(socket.getOutputStream(), response);
+        } catch (IOException e) {
+            outStream.println("OpenAPI generation daemon failed to serve a request. " + e.getMessage());
+        }
+    }
+
+    private void runCommand(JsonNode request, ObjectNode response) {
+        List<String> arguments = new ArrayList<>();
+        request.path(ARGUMENTS).forEach(argument -> arguments.add(argument.asText()));
+        Path directory = Paths.get(request.path(DIRECTORY).asText());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        activeCommands.incrementAndGet();
+        int exitCode;
+        try (PrintStream commandStream = new PrintStream(output, true, StandardCharsets.UTF_8)) {
+            try {
+                exitCode = command.run(directory, arguments, commandStream);
+            } catch (RuntimeException e) {
+                commandStream.println(e.toString());
+                exitCode = 1;
+            }
+        } finally {
+            lastActivity.set(System.nanoTime());
+            activeCommands.decrementAndGet();
+        }
+        response.put(EXIT_CODE, exitCode);
+        response.put(OUTPUT, output.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Stop accepting requests. The running commands complete before the daemon exits.
+     */
+    public void stop() {
+        stopped = true;
+        ServerSocket server = serverSocket;
+        if (server != null) {
+            try {
+                server.close();
+            } catch (IOException e) {
+                // The accept loop exits on the stopped flag.
+            }
+        }
+    }
+
+    /*
+     * Load and initialize the generator, parser and formatter classes, so the first command runs as fast as the
+     * following ones. A class which cannot be loaded is loaded by the first command which needs it instead.
+     */
+    private static void warmUp() {
+        String[] classNames = {
+                "io.ballerina.openapi.CodeGenerator",
+                "io.ballerina.generators.BallerinaClientGenerator",
+                "io.ballerina.generators.BallerinaServiceGenerator",
+                "io.ballerina.generators.BallerinaSchemaGenerator",
+                "io.ballerina.generators.TokenPool",
+                "io.ballerina.generators.NamingService",
+                "io.ballerina.ballerina.OpenApiConverterUtils",
+                "io.swagger.v3.parser.OpenAPIV3Parser",
+                "org.ballerinalang.formatter.core.Formatter"
+        };
+        ClassLoader classLoader = GenerationDaemon.class.getClassLoader();
+        for (String className : classNames) {
+            try {
+                Class.forName(className, true, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                // Not needed to run the daemon.
+            }
+        }
+    }
+
+    private void writeState(int port, String token) throws IOException {
+        ObjectNode state = MAPPER.createObjectNode();
+        state.put(PORT, port);
+        state.put(TOKEN, token);
+        state.put(VERSION, SpecCache.getToolVersion());
+        Files.createDirectories(stateFile.toAbsolutePath().getParent());
+        // The token is a secret of the user, so no other user may read the file.
+        CodegenUtils.writeOwnerOnlyFile(stateFile, MAPPER.writeValueAsString(state));
+    }
+
+    /*
+     * Delete the state file unless a daemon started since has replaced it.
+     */
+    private void deleteState(String token) {
+        try {
+            JsonNode state = readState(stateFile);
+            if (state != null && token.equals(state.path(TOKEN).asText())) {
+                Files.deleteIfExists(stateFile);
+            }
+        } catch (IOException e) {
+            outStream.println("Could not delete the state file " + stateFile + ". " + e.getMessage());
+        }
+    }
+
+    static JsonNode readState(Path stateFile) throws IOException {
+        if (!Files.isRegularFile(stateFile)) {
+            return null;
+        }
+        return MAPPER.readTree(Files.readString(stateFile));
+    }
+
+    static void writeMessage(OutputStream outputStream, JsonNode message) throws IOException {
+        outputStream.write(MAPPER.writeValueAsBytes(message));
+        outputStream.write('\n');
+        outputStream.flush();
+    }
+
+    static JsonNode readMessage(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        return line != null ? MAPPER.readTree(line) : null;
+    }
+
+    static ObjectNode newMessage() {
+        return MAPPER.createObjectNode();
+    }
+
+    private static boolean isAuthorized(JsonNode request, String token) {
+        byte[] given = request.path(TOKEN).asText().getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(given, token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder token = new StringBuilder(TOKEN_BYTES * 2);
+        for (byte b : bytes) {
+            token.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return token.toString();
+    }
+
+    /**
+     * Runs a command sent to the daemon.
+     */
+    @FunctionalInterface
+    public interface Command {
+        /**
+         * Run the command.
+         *
+         * @param directory directory the command was run in
+         * @param arguments arguments of the command
+         * @param outStream stream the output of the command is printed to
+         * @return exit code of the command
+         */
+        int run(Path directory, List<String> arguments, PrintStream outStream);
+    }
+}
@@ -17,15 +17,9 @@
  */
 package io.ballerina.openapi.cmd;
 
-import io.ballerina.ballerina.OpenApiConverterException;
-import io.ballerina.ballerina.OpenApiConverterUtils;
 import io.ballerina.cli.BLauncherCmd;
-import io.ballerina.generators.GeneratorConstants;
-import io.ballerina.generators.OpenApiException;
-import io.ballerina.openapi.CodeGenerator;
+import io.ballerina.generators.ClientSharding;
 import io.ballerina.openapi.OpenApiMesseges;
-import io.ballerina.openapi.exception.BallerinaOpenApiException;
-import org.ballerinalang.formatter.core.FormatterException;
 import picocli.CommandLine;
 
 import java.io.File;
@@ -33,10 +27,12 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
  * Main class to implement "openapi" command for ballerina. Commands for Client Stub, Service file and OpenApi contract
@@ -53,6 +49,9 @@ public class OpenApiCmd implements BLauncherCmd {
     private Path executionPath = Paths.get(System.getProperty("user.dir"));
     private Path targetOutputPath;
     private boolean exitWhenFinish;
+    private boolean daemonClientEnabled;
+    private boolean runByDaemon;
+    private boolean failed;
 
     @CommandLine.Option(names = {"-h", "--help"}, hidden = true)
     private boolean helpFlag;
@@ -84,6 +83,47 @@ public class OpenApiCmd implements BLauncherCmd {
     @CommandLine.Option(names = {"--json"}, description = "Generate json file")
     private boolean generatedFileType;
 
+    @CommandLine.Option(names = {"--no-cache"}, description = "Parse and generate from scratch without using the " +
+            "cache of previously parsed OpenAPI contracts")
+    private boolean noCache;
+
+    @CommandLine.Option(names = {"--no-format"}, description = "Lay out the generated sources without running the " +
+            "Ballerina formatter, which is faster for large OpenAPI contracts")
+    private boolean noFormat;
+
+    @CommandLine.Option(names = {"--verbose"}, description = "Print the complexity of the OpenAPI contract and " +
+            "the chosen generation strategy")
+    private boolean verbose;
+
+    @CommandLine.Option(names = {"--overwrite"}, description = "What to do with generated files which already " +
+            "exist: prompt, overwrite, skip or rename. Batch generations overwrite them by default")
+    private String overwrite;
+
+    @CommandLine.Option(names = {"--workers"}, description = "Number of OpenAPI contracts generated at once when " +
+            "several contracts, directories or glob patterns are given")
+    private int workers;
+
+    @CommandLine.Option(names = {"--shard"}, description = "Split the remote functions of the generated client " +
+            "into several files: none, tag or path. The client is generated into a single file by default")
+    private String shard;
+
+    @CommandLine.Option(names = {"--daemon"}, description = "Run a generation daemon which keeps the generators " +
+            "loaded and runs the openapi commands of the other processes of the user")
+    private boolean daemon;
+
+    @CommandLine.Option(names = {"--stop-daemon"}, description = "Stop the running generation daemon")
+    private boolean stopDaemon;
+
+    @CommandLine.Option(names = {"--no-daemon"}, description = "Run the command in this process even when a " +
+            "generation daemon is running")
+    private boolean noDaemon;
+
+    @CommandLine.Option(names = {"--idle-timeout"}, description = "Minutes the generation daemon keeps running " +
+            "without commands to run, 15 by default")
+    private int idleTimeout;
+
+    private ClientSharding clientSharding;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -91,6 +131,8 @@ public class OpenApiCmd implements BLauncherCmd {
         this.outStream = System.err;
         this.executionPath = Paths.get(System.getProperty("user.dir"));
         this.exitWhenFinish = true;
+        // Only the command run by the Ballerina CLI uses the daemon, the commands created in code run in process.
+        this.daemonClientEnabled = true;
     }
 
     public OpenApiCmd(PrintStream outStream, Path executionDir) {
@@ -104,15 +146,22 @@ public class OpenApiCmd implements BLauncherCmd {
     }
     @Override
     public void execute() {
-        //User notification of using an experimental tool
-        outStream.println(OpenApiMesseges.EXPERIMENTAL_FEATURE);
+        //User notification of using an experimental tool, the client of the daemon has already printed it
+        if (!runByDaemon) {
+            outStream.println(OpenApiMesseges.EXPERIMENTAL_FEATURE);
+        }
         if (helpFlag) {
             String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(getName());
             outStream.println(commandUsageInfo);
             return;
         }
-        //Check if cli input argument is present
-        if (inputPath) {
+        if (daemon) {
+            runDaemon();
+        } else if (stopDaemon) {
+            if (!new DaemonClient(DaemonClient.getDefaultStateFile()).stop()) {
+                outStream.println("There is no running OpenAPI generation daemon.");
+            }
+        } else if (inputPath) {
             //Check if an OpenApi definition is provided
             if (argList == null) {
                 outStream.println(OpenApiMesseges.MESSAGE_FOR_MISSING_INPUT);
@@ -122,19 +171,28 @@ public class OpenApiCmd implements BLauncherCmd {
             // If given input is yaml contract, it generates service file and client stub
             // else if given ballerina service file it generates openapi contract file
             // else it generates error message to enter correct input file
+            boolean batch = BatchGenerator.isBatch(argList, executionPath);
+            OverwritePolicy overwritePolicy;
+            try {
+                overwritePolicy = getOverwritePolicy(batch);
+                clientSharding = shard != null ? ClientSharding.fromString(shard) : null;
+            } catch (IllegalArgumentException e) {
+                outStream.println(e.getMessage());
+                exitError(this.exitWhenFinish);
+                return;
+            }
             String fileName = argList.get(0);
-            if (fileName.endsWith(".yaml") || fileName.endsWith(".json") || fileName.endsWith(".yml")) {
-                List<String> tag = new ArrayList<>();
-                List<String> operation = new ArrayList<>();
-                if (tags != null) {
-                     tag.addAll(Arrays.asList(tags.split(",")));
-                }
-                if (operations != null) {
-                    operation.addAll(Arrays.asList(operations.split(",")));
+            if (runOnDaemon(batch, fileName, overwritePolicy)) {
+                // The daemon has run the command and the client has printed its output.
+                return;
+            } else if (batch) {
+                if (!openApiToBallerinaBatch(getFilter(), overwritePolicy)) {
+                    exitError(this.exitWhenFinish);
                 }
-                Filter filter = new Filter(tag, operation);
+            } else if (fileName.endsWith(".yaml") || fileName.endsWith(".json") || fileName.endsWith(".yml")) {
+                Filter filter = getFilter();
                 try {
-                    openApiToBallerina(fileName, filter);
+                    openApiToBallerina(fileName, filter, overwritePolicy);
                 } catch (IOException e) {
                     outStream.println(e.getLocalizedMessage());
                     exitError(this.exitWhenFinish);
@@ -162,21 +220,160 @@ public class OpenApiCmd implements BLauncherCmd {
         }
     }
 
+    /**
+     * A util to create the filter of the tags and operations given in the command.
+     */
+    private Filter getFilter() {
+        List<String> tag = new ArrayList<>();
+        List<String> operation = new ArrayList<>();
+        if (tags != null) {
+            tag.addAll(Arrays.asList(tags.split(",")));
+        }
+        if (operations != null) {
+            operation.addAll(Arrays.asList(operations.split(",")));
+        }
+        return new Filter(tag, operation);
+    }
+
+    /**
+     * A util to get the policy for the existing generated files. Batch generations run without a console, so they
+     * overwrite the existing files unless another policy is given. So do the commands run by the daemon, which has
+     * no console of the client to prompt on.
+     */
+    private OverwritePolicy getOverwritePolicy(boolean batch) {
+        if (overwrite != null) {
+            OverwritePolicy overwritePolicy = OverwritePolicy.fromString(overwrite);
+            if (batch && overwritePolicy == OverwritePolicy.PROMPT) {
+                throw new IllegalArgumentException("The prompt overwrite policy cannot be used when generating " +
+                        "several OpenAPI contracts.");
+            }
+            return runByDaemon && overwritePolicy == OverwritePolicy.PROMPT ? OverwritePolicy.OVERWRITE :
+                    overwritePolicy;
+        }
+        return batch || runByDaemon ? OverwritePolicy.OVERWRITE : OverwritePolicy.PROMPT;
+    }
+
+    /**
+     * A util to run the command on the generation daemon of the user, if one is running. Commands which may prompt
+     * on the console run in process, as the daemon cannot prompt on the console of the client.
+     *
+     * @return true if the daemon has run the command
+     */
+    private boolean runOnDaemon(boolean batch, String fileName, OverwritePolicy overwritePolicy) {
+        if (!daemonClientEnabled || noDaemon) {
+            return false;
+        }
+        boolean mayPrompt = !batch && (fileName.endsWith(".bal") || overwritePolicy == OverwritePolicy.PROMPT);
+        if (mayPrompt && System.console() != null) {
+            return false;
+        }
+        OptionalInt exitCode = new DaemonClient(DaemonClient.getDefaultStateFile()).run(executionPath,
+                getDaemonArguments(), outStream);
+        if (exitCode.isEmpty()) {
+            return false;
+        }
+        if (exitCode.getAsInt() != 0) {
+            exitError(this.exitWhenFinish);
+        } else if (this.exitWhenFinish) {
+            Runtime.getRuntime().exit(0);
+        }
+        return true;
+    }
+
+    /**
+     * A util to get the arguments the daemon runs this command with.
+     */
+    private List<String> getDaemonArguments() {
+        List<String> arguments = new ArrayList<>();
+        arguments.add("--input");
+        addOption(arguments, "--output", outputPath);
+        addOption(arguments, "--mode", mode);
+        addOption(arguments, "--service", service);
+        addOption(arguments, "--tags", tags);
+        addOption(arguments, "--operations", operations);
+        addOption(arguments, "--service-name", generatedServiceName);
+        addOption(arguments, "--overwrite", overwrite);
+        addOption(arguments, "--shard", shard);
+        if (workers > 0) {
+            addOption(arguments, "--workers", String.valueOf(workers));
+        }
+        if (generatedFileType) {
+            arguments.add("--json");
+        }
+        if (noCache) {
+            arguments.add("--no-cache");
+        }
+        if (noFormat) {
+            arguments.add("--no-format");
+        }
+        if (verbose) {
+            arguments.add("--verbose");
+        }
+        arguments.add("--");
+        arguments.addAll(argList);
+        return arguments;
+    }
+
+    private static void addOption(List<String> arguments, String name, String value) {
+        if (value != null) {
+            arguments.add(name);
+            arguments.add(value);
+        }
+    }
+
+    /**
+     * A util to run the generation daemon until it is stopped or idle for the idle timeout.
+     */
+    private void runDaemon() {
+        Path stateFile = DaemonClient.getDefaultStateFile();
+        if (new DaemonClient(stateFile).isRunning()) {
+            outStream.println("An OpenAPI generation daemon is already running.");
+            exitError(this.exitWhenFinish);
+            return;
+        }
+        Duration timeout = idleTimeout > 0 ? Duration.ofMinutes(idleTimeout) : GenerationDaemon.DEFAULT_IDLE_TIMEOUT;
+        int daemonWorkers = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        try {
+            new GenerationDaemon(stateFile, timeout, daemonWorkers, outStream, OpenApiCmd::runDaemonCommand).run();
+        } catch (IOException e) {
+            outStream.println(e.getLocalizedMessage());
+            exitError(this.exitWhenFinish);
+        }
+    }
+
+    /**
+     * Run a command sent to the generation daemon.
+     *
+     * @param directory directory the command was run in
+     * @param arguments arguments of the command
+     * @param outStream stream the output of the command is printed to
+     * @return exit code of the command
+     */
+    static int runDaemonCommand(Path directory, List<String> arguments, PrintStream outStream) {
+        OpenApiCmd cmd = new OpenApiCmd(outStream, directory, false);
+        cmd.runByDaemon = true;
+        try {
+            new CommandLine(cmd).parseArgs(arguments.toArray(new String[0]));
+        } catch (CommandLine.ParameterException e) {
+            outStream.println(e.getMessage());
+            return 1;
+        }
+        if (cmd.daemon || cmd.stopDaemon) {
+            outStream.println("The OpenAPI generation daemon cannot run daemon commands.");
+            return 1;
+        }
+        cmd.execute();
+        return cmd.failed ? 1 : 0;
+    }
+
     /**
      * This util method to generate openApi contract based on the given service ballerina file.
      * @param fileName  input resource file
      */
     private void ballerinaToOpenApi(String fileName) throws IOException {
-        final File balFile = new File(fileName);
-        Path balFilePath = Paths.get(balFile.getCanonicalPath());
-        Optional<String> serviceName = Optional.ofNullable(service);
         getTargetOutputPath();
-        // Check service name it is mandatory
-        try {
-            OpenApiConverterUtils.generateOAS3DefinitionsAllService(balFilePath, targetOutputPath, serviceName,
-                    generatedFileType);
-        } catch (IOException | OpenApiConverterException e) {
-            outStream.println(e.getLocalizedMessage());
+        if (!BallerinaToOpenApi.convert(executionPath.resolve(fileName), targetOutputPath,
+                Optional.ofNullable(service), generatedFileType, !runByDaemon, outStream)) {
             exitError(this.exitWhenFinish);
         }
     }
@@ -185,32 +382,43 @@ public class OpenApiCmd implements BLauncherCmd {
      * A util method for generating service and client stub using given contract file.
      * @param fileName input resource file
      */
-    private void openApiToBallerina(String fileName, Filter filter) throws IOException {
-        CodeGenerator generator = new CodeGenerator();
-        final File openApiFile = new File(fileName);
-        String serviceName;
-        if (generatedServiceName != null) {
-            serviceName = generatedServiceName;
-        } else {
-            serviceName = openApiFile.getName().split("\\.")[0];
+    private void openApiToBallerina(String fileName, Filter filter, OverwritePolicy overwritePolicy)
+            throws IOException {
+        getTargetOutputPath();
+        if (!createGeneration(filter, overwritePolicy).generate(fileName, generatedServiceName, targetOutputPath)) {
+            exitError(this.exitWhenFinish);
         }
+    }
+
+    /**
+     * A util method for generating the services and clients of many contracts in one run. The inputs can be contract
+     * files, directories and glob patterns, each contract is generated into its own directory under the output path.
+     *
+     * @return true if all the contracts were generated
+     */
+    private boolean openApiToBallerinaBatch(Filter filter, OverwritePolicy overwritePolicy) {
         getTargetOutputPath();
-        Path relativePath = getRelativePath(openApiFile, this.targetOutputPath.toString());
-        Path resourcePath = Paths.get(openApiFile.getCanonicalPath());
-        if (mode != null) {
-            switch (mode) {
-                case "service":
-                    generateServiceFile(generator, serviceName, resourcePath, relativePath, filter);
-                    break;
-                case "client":
-                    generatesClientFile(generator, serviceName, resourcePath, filter);
-                    break;
-                default:
-                    break;
-            }
-        } else {
-            generateBothFiles(generator, serviceName, resourcePath, relativePath, filter);
+        List<Path> definitions;
+        try {
+            definitions = BatchGenerator.resolveInputs(argList, executionPath);
+        } catch (IOException e) {
+            outStream.println(e.getLocalizedMessage());
+            return false;
+        }
+        if (definitions.isEmpty()) {
+            outStream.println(OpenApiMesseges.MESSAGE_FOR_MISSING_INPUT);
+            return false;
         }
+        int batchWorkers = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        OpenApiToBallerina generation = createGeneration(filter, overwritePolicy);
+        BatchGenerator batchGenerator = new BatchGenerator(generation::generateContract, batchWorkers, outStream);
+        return batchGenerator.generate(definitions, targetOutputPath).stream()
+                .allMatch(BatchGenerator.Result::isSuccessful);
+    }
+
+    private OpenApiToBallerina createGeneration(Filter filter, OverwritePolicy overwritePolicy) {
+        return new OpenApiToBallerina(executionPath, outStream, mode, filter, overwritePolicy, clientSharding,
+                !noCache, verbose, !noFormat);
     }
 
     /**
@@ -220,14 +428,7 @@ public class OpenApiCmd implements BLauncherCmd {
      * @return path of given resource file
      */
     public Path getRelativePath(File resourceFile, String targetOutputPath) {
-        Path resourcePath = Paths.get(resourceFile.getAbsoluteFile().getParentFile().toString());
-        Path targetPath = Paths.get(targetOutputPath).toAbsolutePath();        
-        try {
-            Path relativePath = targetPath.relativize(resourcePath);
-            return relativePath.resolve(resourceFile.getName());
-        } catch (IllegalArgumentException iaex) {
-            return resourcePath.resolve(resourceFile.getName());
-        }
+        return OpenApiToBallerina.getRelativePath(resourceFile, targetOutputPath);
     }
 
     /**
@@ -244,68 +445,6 @@ public class OpenApiCmd implements BLauncherCmd {
         }
     }
 
-    /**
-     * A Util to Client generation.
-     * @param generator         generator object
-     * @param clientName        file name uses to name the generated file
-     * @param resourcePath      resource Path
-     */
-    private void generatesClientFile(CodeGenerator generator, String clientName, Path resourcePath, Filter filter) {
-
-        try {
-            generator.generateClient(executionPath.toString(), resourcePath.toString(), clientName,
-                    targetOutputPath.toString(), filter);
-        } catch (IOException | BallerinaOpenApiException | FormatterException | OpenApiException e) {
-            if (e.getLocalizedMessage() != null) {
-                outStream.println(e.getLocalizedMessage());
-                exitError(this.exitWhenFinish);
-            } else {
-                outStream.println(OpenApiMesseges.OPENAPI_CLIENT_EXCEPTION);
-                exitError(this.exitWhenFinish);
-            }
-        }
-    }
-
-    /**
-     * A util to generate service file.
-     * @param generator     generator object
-     * @param serviceName   service name uses for naming the generated file
-     * @param resourcePath  resource Path
-     */
-    private void generateServiceFile(CodeGenerator generator, String serviceName, Path resourcePath,
-                                     Path relativePath, Filter filter) {
-
-        try {
-            assert resourcePath != null;
-            generator.generateService(executionPath.toString(), resourcePath.toString(),
-                    relativePath.toString(), serviceName, targetOutputPath.toString(), filter);
-        } catch (IOException | BallerinaOpenApiException | FormatterException | OpenApiException e) {
-            outStream.println("Error occurred when generating service for OpenAPI contract at " + argList.get(0) +
-                    ". " + e.getMessage() + ".");
-            exitError(this.exitWhenFinish);
-        }
-    }
-
-    /**
-     * A util method to generate both service and client stub files based on the given yaml contract file.
-     * @param generator         generator object
-     * @param fileName          service name  use for naming the files
-     * @param resourcePath      resource path
-     */
-    private void generateBothFiles(CodeGenerator generator, String fileName, Path resourcePath, Path relativePath,
-                                   Filter filter) {
-        try {
-            assert resourcePath != null;
-            generator.generateBothFiles(
-                    GeneratorConstants.GenType.GEN_BOTH, resourcePath.toString(), relativePath.toString(),
-                    fileName, targetOutputPath.toString(), filter);
-        } catch (IOException | BallerinaOpenApiException | FormatterException | OpenApiException e) {
-            outStream.println("Error occurred when generating service for openAPI contract at " + argList.get(0) + "." +
-                    " " + e.getMessage() + ".");
-            exitError(this.exitWhenFinish);
-        }
-    }
-
     @Override
     public String getName() {
         return CMD_NAME;
@@ -328,7 +467,8 @@ public class OpenApiCmd implements BLauncherCmd {
      *
      * @param exit Whether to exit or not.
      */
-    private static void exitError(boolean exit) {
+    private void exitError(boolean exit) {
+        failed = true;
         if (exit) {
             Runtime.getRuntime().exit(1);
         }
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.generators.ClientSharding;
+import io.ballerina.generators.GeneratorConstants;
+import io.ballerina.generators.OpenApiException;
+import io.ballerina.openapi.CodeGenerator;
+import io.ballerina.openapi.OpenApiMesseges;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * The OpenAPI to Ballerina direction of the openapi command, which generates the Ballerina service and client of
+ * OpenAPI contracts. The command refers to the generators only through this class, so they are loaded and initialized
+ * when a contract is generated, and not when a Ballerina service is converted or the command is sent to the daemon.
+ */
+class OpenApiToBallerina {
+    private final Path executionPath;
+    private final PrintStream outStream;
+    private final String mode;
+    private final Filter filter;
+    private final OverwritePolicy overwritePolicy;
+    private final ClientSharding clientSharding;
+    private final boolean cacheEnabled;
+    private final boolean verbose;
+    private final boolean formatEnabled;
+
+    OpenApiToBallerina(Path executionPath, PrintStream outStream, String mode, Filter filter,
+                       OverwritePolicy overwritePolicy, ClientSharding clientSharding, boolean cacheEnabled,
+                       boolean verbose, boolean formatEnabled) {
+        this.executionPath = executionPath;
+        this.outStream = outStream;
+        this.mode = mode;
+        this.filter = filter;
+        this.overwritePolicy = overwritePolicy;
+        this.clientSharding = clientSharding;
+        this.cacheEnabled = cacheEnabled;
+        this.verbose = verbose;
+        this.formatEnabled = formatEnabled;
+    }
+
+    /**
+     * A util method for generating service and client stub using given contract file.
+     *
+     * @param fileName         input resource file
+     * @param serviceName      service name given in the command, null to name the files after the contract
+     * @param targetOutputPath output directory
+     * @return true if the sources were generated
+     */
+    boolean generate(String fileName, String serviceName, Path targetOutputPath) throws IOException {
+        CodeGenerator generator = createGenerator();
+        final File openApiFile = executionPath.resolve(fileName).toFile();
+        if (serviceName == null) {
+            serviceName = openApiFile.getName().split("\\.")[0];
+        }
+        Path relativePath = getRelativePath(openApiFile, targetOutputPath.toString());
+        Path resourcePath = Paths.get(openApiFile.getCanonicalPath());
+        try {
+            if (mode == null) {
+                generator.generateBothFiles(GeneratorConstants.GenType.GEN_BOTH, resourcePath.toString(),
+                        relativePath.toString(), serviceName, targetOutputPath.toString(), filter);
+            } else if (mode.equals("service")) {
+                generator.generateService(executionPath.toString(), resourcePath.toString(),
+                        relativePath.toString(), serviceName, targetOutputPath.toString(), filter);
+            } else if (mode.equals("client")) {
+                generator.generateClient(executionPath.toString(), resourcePath.toString(), serviceName,
+                        targetOutputPath.toString(), filter);
+            }
+            return true;
+        } catch (IOException | BallerinaOpenApiException | FormatterException | OpenApiException e) {
+            if ("client".equals(mode)) {
+                outStream.println(e.getLocalizedMessage() != null ? e.getLocalizedMessage() :
+                        OpenApiMesseges.OPENAPI_CLIENT_EXCEPTION);
+            } else {
+                outStream.println("Error occurred when generating service for OpenAPI contract at " + fileName +
+                        ". " + e.getMessage() + ".");
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A util to generate the sources of one contract of a batch. Unlike the single contract generation the failures
+     * are thrown, they are reported in the summary of the batch.
+     */
+    void generateContract(Path definitionPath, Path outputPath)
+            throws IOException, BallerinaOpenApiException, FormatterException, OpenApiException {
+        CodeGenerator generator = createGenerator();
+        String serviceName = definitionPath.getFileName().toString().split("\\.")[0];
+        Path relativePath = getRelativePath(definitionPath.toFile(), outputPath.toString());
+        if (mode == null) {
+            generator.generateBothFiles(GeneratorConstants.GenType.GEN_BOTH, definitionPath.toString(),
+                    relativePath.toString(), serviceName, outputPath.toString(), filter);
+        } else if (mode.equals("service")) {
+            generator.generateService(executionPath.toString(), definitionPath.toString(), relativePath.toString(),
+                    serviceName, outputPath.toString(), filter);
+        } else if (mode.equals("client")) {
+            generator.generateClient(executionPath.toString(), definitionPath.toString(), serviceName,
+                    outputPath.toString(), filter);
+        }
+    }
+
+    /**
+     * A util to take the resource Path.
+     *
+     * @param resourceFile      resource file path
+     * @return path of given resource file
+     */
+    static Path getRelativePath(File resourceFile, String targetOutputPath) {
+        Path resourcePath = Paths.get(resourceFile.getAbsoluteFile().getParentFile().toString());
+        Path targetPath = Paths.get(targetOutputPath).toAbsolutePath();
+        try {
+            Path relativePath = targetPath.relativize(resourcePath);
+            return relativePath.resolve(resourceFile.getName());
+        } catch (IllegalArgumentException iaex) {
+            return resourcePath.resolve(resourceFile.getName());
+        }
+    }
+
+    private CodeGenerator createGenerator() {
+        CodeGenerator generator = new CodeGenerator();
+        generator.setCacheEnabled(cacheEnabled);
+        generator.setVerbose(verbose);
+        generator.setFormatEnabled(formatEnabled);
+        generator.setClientSharding(clientSharding);
+        generator.setOverwritePolicy(overwritePolicy);
+        generator.setOutStream(outStream);
+        return generator;
+    }
+}
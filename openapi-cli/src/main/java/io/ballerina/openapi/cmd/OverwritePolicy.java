@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import java.util.Locale;
+
+/**
+ * What to do when a generated file already exists in the output directory.
+ */
+public enum OverwritePolicy {
+    /**
+     * Ask on the console, overwriting the file when there is no console.
+     */
+    PROMPT,
+    /**
+     * Replace the existing file.
+     */
+    OVERWRITE,
+    /**
+     * Keep the existing file and do not write the generated one.
+     */
+    SKIP,
+    /**
+     * Keep the existing file and write the generated one with a numbered name, such as {@code client.1.bal}.
+     */
+    RENAME;
+
+    /**
+     * Get the policy of the given command line value.
+     *
+     * @param value policy name, case insensitive
+     * @return the policy
+     * @throws IllegalArgumentException when the value is not a policy name
+     */
+    public static OverwritePolicy fromString(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid overwrite policy '" + value + "'. Expected one of prompt, " +
+                    "overwrite, skip or rename.", e);
+        }
+    }
+}
@@ -17,13 +17,27 @@
 package io.ballerina.openapi.utils;
 
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Utilities used by ballerina openapi code generator.
  */
 public class CodegenUtils {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     /**
      * Resolves path to write generated implementation source files.
@@ -37,21 +51,135 @@ public class CodegenUtils {
     }
 
     /**
-     * Writes a file with content to specified {@code filePath}.
+     * Writes a file with content to specified {@code filePath}. The content is written to a temporary file next to
+     * the target, which then replaces the target in a single move, so a reader never sees a partially written file.
+     * The file keeps the permissions of the file it replaces, and a new file gets the default permissions of the
+     * user.
      *
      * @param filePath valid file path to write the content
      * @param content  content of the file
      * @throws IOException when a file operation fails
      */
     public static void writeFile(Path filePath, String content) throws IOException {
-        PrintWriter writer = null;
+        writeAtomically(filePath, ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)), false);
+    }
+
+    /**
+     * Writes a file which only its owner can read and write, such as a file holding a secret. The file is replaced
+     * in a single move like {@link #writeFile(Path, String)}, and is never readable by other users while written.
+     *
+     * @param filePath valid file path to write the content
+     * @param content  content of the file
+     * @throws IOException when a file operation fails
+     */
+    public static void writeOwnerOnlyFile(Path filePath, String content) throws IOException {
+        writeAtomically(filePath, ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)), true);
+    }
+
+    /**
+     * Writes a file with content to specified {@code filePath} unless the file already has the same content. An
+     * unchanged file keeps its modification time, so builds and IDEs watching the generated sources do not compile
+     * them again.
+     *
+     * @param filePath valid file path to write the content
+     * @param content  content of the file
+     * @return true when the file was written, false when it was left as it is
+     * @throws IOException when a file operation fails
+     */
+    public static boolean writeFileIfChanged(Path filePath, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (hasContent(filePath, bytes)) {
+            return false;
+        }
+        writeAtomically(filePath, ByteBuffer.wrap(bytes), false);
+        return true;
+    }
+
+    /*
+     * Whether the file exists with the given content. The sizes are compared first, so only a file of the same size is
+     * read and hashed.
+     */
+    private static boolean hasContent(Path filePath, byte[] content) throws IOException {
+        if (!Files.isRegularFile(filePath) || Files.size(filePath) != content.length) {
+            return false;
+        }
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return MessageDigest.isEqual(digest.digest(), newDigest().digest(content));
+    }
+
+    private static void writeAtomically(Path filePath, ByteBuffer content, boolean ownerOnly) throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        String prefix = "." + filePath.getFileName();
+        // Files.createTempFile creates a file readable by its owner only on POSIX file systems.
+        Path tempFile = ownerOnly ? Files.createTempFile(directory, prefix, TEMP_FILE_SUFFIX) :
+                createFile(directory, prefix);
         try {
-            writer = new PrintWriter(filePath.toString(), "UTF-8");
-            writer.print(content);
+            if (!ownerOnly) {
+                copyPermissions(filePath, tempFile);
+            }
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+            }
+            moveAtomically(tempFile, filePath);
         } finally {
-            if (writer != null) {
-                writer.close();
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /*
+     * Replace the target with the source in a single move, falling back to a plain replace on file systems which do
+     * not support atomic moves.
+     */
+    static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /*
+     * Create a new file with a unique name, which gets the default permissions of a new file of the user.
+     */
+    private static Path createFile(Path directory, String prefix) throws IOException {
+        while (true) {
+            Path filePath = directory.resolve(prefix + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) +
+                    TEMP_FILE_SUFFIX);
+            try {
+                return Files.createFile(filePath);
+            } catch (FileAlreadyExistsException e) {
+                // Another write took the name, try the next one.
             }
         }
     }
+
+    /*
+     * Give the target the POSIX permissions of the source, when the source exists on a POSIX file system.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (sourceView != null && Files.isRegularFile(source)) {
+            Files.setPosixFilePermissions(target, sourceView.readAttributes().permissions());
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is a mandatory algorithm of every Java platform.
+            throw new IllegalStateException(e);
+        }
+    }
 }
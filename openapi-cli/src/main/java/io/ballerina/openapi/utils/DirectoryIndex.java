@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.openapi.utils;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the names of the files in an output directory, read once per generation. It tells whether a generated
+ * file would replace an existing one and gives the name a generated file is renamed to instead, in constant time
+ * whatever the number of files in the directory.
+ * <p>
+ * A renamed file is named {@code <stem>.<suffix><extension>}, where the stem is the part of the name before the first
+ * dot and the suffix is one more than the highest suffix taken by a file of the same stem. A file named after the stem
+ * alone, such as {@code client.bal}, takes the suffix 0.
+ */
+public class DirectoryIndex {
+    private final Set<String> fileNames = new HashSet<>();
+    private final Map<String, Integer> highestSuffixes = new HashMap<>();
+
+    private DirectoryIndex() {
+    }
+
+    /**
+     * Index the files of the given directory.
+     *
+     * @param directory output directory, which need not exist
+     * @return index of the files in the directory
+     * @throws IOException when the directory cannot be listed
+     */
+    public static DirectoryIndex of(Path directory) throws IOException {
+        DirectoryIndex index = new DirectoryIndex();
+        if (Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    index.add(file.getFileName().toString());
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Check whether there is a file of the given name.
+     *
+     * @param fileName name of the file
+     * @return true if the directory has a file of the name
+     */
+    public boolean contains(String fileName) {
+        return fileNames.contains(fileName);
+    }
+
+    /**
+     * Add a file written to the directory after it was indexed.
+     *
+     * @param fileName name of the file
+     */
+    public void add(String fileName) {
+        if (!fileNames.add(fileName)) {
+            return;
+        }
+        int stemEnd = fileName.indexOf('.');
+        if (stemEnd < 0 || stemEnd == fileName.length() - 1) {
+            return;
+        }
+        String stem = fileName.substring(0, stemEnd);
+        int suffixEnd = fileName.indexOf('.', stemEnd + 1);
+        int suffix = 0;
+        if (suffixEnd > 0) {
+            String suffixText = fileName.substring(stemEnd + 1, suffixEnd);
+            if (isNumber(suffixText)) {
+                suffix = Integer.parseInt(suffixText);
+            }
+        }
+        highestSuffixes.merge(stem, suffix, Math::max);
+    }
+
+    /**
+     * Get the name the given file is renamed to, so it does not replace a file of the directory, and add the new name
+     * to the index.
+     *
+     * @param fileName  name of the generated file
+     * @param extension extension of the renamed file, with the leading dot
+     * @return name of the renamed file
+     */
+    public String rename(String fileName, String extension) {
+        int stemEnd = fileName.indexOf('.');
+        String stem = stemEnd < 0 ? fileName : fileName.substring(0, stemEnd);
+        Integer highestSuffix = highestSuffixes.get(stem);
+        String renamed = stem + "." + (highestSuffix == null ? 0 : highestSuffix + 1) + extension;
+        add(renamed);
+        return renamed;
+    }
+
+    private static boolean isNumber(String text) {
+        if (text.isEmpty() || text.length() > 9) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
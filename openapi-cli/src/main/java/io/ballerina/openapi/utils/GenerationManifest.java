@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.openapi.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Manifest written next to the generated sources, recording the fingerprints of the operations and schemas the
+ * sources were generated from and the hashes of the generated files. The next generation into the same directory
+ * compares the fingerprints with the changed definition and generates again only the remote functions and records of
+ * the changed operations and schemas.
+ * <p>
+ * A manifest is stale, and the sources are generated from scratch, when it was written for other generation options,
+ * when the global part of the definition changed or when a generated file was edited or removed since.
+ */
+public class GenerationManifest {
+    public static final String FILE_NAME = ".openapi-generation.manifest";
+
+    private static final String FORMAT_VERSION = "1";
+    private static final String VERSION_KEY = "version";
+    private static final String SIGNATURE_KEY = "signature";
+    private static final String GLOBAL_KEY = "global";
+    private static final String CONTRACT_KEY = "contract";
+    private static final String FILE_PREFIX = "file.";
+    private static final String SCHEMA_PREFIX = "schema.";
+    private static final String OPERATION_PREFIX = "operation.";
+    private static final String FUNCTION_PREFIX = "function.";
+    private static final String TYPES_PREFIX = "types.";
+    private static final String IMPORTS_PREFIX = "imports.";
+    private static final String QUERY_PREFIX = "query.";
+    private static final String SEPARATOR = ",";
+
+    private final Properties properties;
+
+    /**
+     * Create an empty manifest.
+     *
+     * @param signature signature of the generation options
+     * @param global    fingerprint of the definition without its operations and schemas
+     */
+    public GenerationManifest(String signature, String global) {
+        this.properties = new Properties();
+        properties.setProperty(VERSION_KEY, FORMAT_VERSION);
+        properties.setProperty(SIGNATURE_KEY, signature);
+        properties.setProperty(GLOBAL_KEY, global);
+    }
+
+    private GenerationManifest(Properties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Read the manifest of the given output directory.
+     *
+     * @param outputDir directory of the generated sources
+     * @return the manifest, or empty if there is no readable manifest of this format
+     */
+    public static Optional<GenerationManifest> read(Path outputDir) {
+        Path manifestPath = outputDir.resolve(FILE_NAME);
+        if (!Files.isRegularFile(manifestPath)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!FORMAT_VERSION.equals(properties.getProperty(VERSION_KEY))) {
+            return Optional.empty();
+        }
+        return Optional.of(new GenerationManifest(properties));
+    }
+
+    /**
+     * Write the manifest into the given output directory, replacing the previous manifest at once.
+     *
+     * @param outputDir directory of the generated sources
+     * @throws IOException when the manifest cannot be written
+     */
+    public void write(Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        StringWriter writer = new StringWriter();
+        properties.store(writer, "Generated by the Ballerina OpenAPI tool, do not edit");
+        CodegenUtils.writeFile(outputDir.resolve(FILE_NAME), writer.toString());
+    }
+
+    /**
+     * Check whether the manifest can be used for a generation with the given options and definition.
+     *
+     * @param outputDir directory of the generated sources
+     * @param signature signature of the generation options
+     * @param global    fingerprint of the definition without its operations and schemas
+     * @return true if the recorded fingerprints and files still describe the generated sources
+     */
+    public boolean isValid(Path outputDir, String signature, String global) {
+        return signature.equals(properties.getProperty(SIGNATURE_KEY)) &&
+                global.equals(properties.getProperty(GLOBAL_KEY)) && hasUnchangedFiles(outputDir);
+    }
+
+    /**
+     * Check whether the sources were generated with the given options from the same contract, and no generated
+     * file was edited or removed since, so there is nothing to generate.
+     *
+     * @param outputDir   directory of the generated sources
+     * @param signature   signature of the generation options
+     * @param contractKey cache key of the contract, see {@link SpecCache#getSpecKey(Path)}
+     * @return true if the generated sources are up to date
+     */
+    public boolean isUpToDate(Path outputDir, String signature, String contractKey) {
+        return signature.equals(properties.getProperty(SIGNATURE_KEY)) &&
+                contractKey.equals(properties.getProperty(CONTRACT_KEY)) && !getFileNames().isEmpty() &&
+                hasUnchangedFiles(outputDir);
+    }
+
+    /**
+     * Record the contract the sources were generated from. Without it the sources are never up to date and the
+     * next generation compares the fingerprints of the operations and schemas instead.
+     *
+     * @param contractKey cache key of the contract, see {@link SpecCache#getSpecKey(Path)}
+     */
+    public void setContractKey(String contractKey) {
+        properties.setProperty(CONTRACT_KEY, contractKey);
+    }
+
+    private boolean hasUnchangedFiles(Path outputDir) {
+        for (String fileName : getKeys(FILE_PREFIX)) {
+            Path filePath = outputDir.resolve(fileName);
+            try {
+                if (!Files.isRegularFile(filePath) ||
+                        !properties.getProperty(FILE_PREFIX + fileName).equals(hash(Files.readString(filePath)))) {
+                    return false;
+                }
+            } catch (IOException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the given file was recorded as generated.
+     *
+     * @param fileName name of the file in the output directory
+     * @return true if the file was generated
+     */
+    public boolean hasFile(String fileName) {
+        return properties.getProperty(FILE_PREFIX + fileName) != null;
+    }
+
+    /**
+     * Get the names of the recorded files.
+     *
+     * @return file names
+     */
+    public Set<String> getFileNames() {
+        return getKeys(FILE_PREFIX);
+    }
+
+    /**
+     * Record a generated file.
+     *
+     * @param fileName name of the file in the output directory
+     * @param content  content of the file
+     */
+    public void putFile(String fileName, String content) {
+        properties.setProperty(FILE_PREFIX + fileName, hash(content));
+    }
+
+    /**
+     * Get the type names of the recorded schemas.
+     *
+     * @return type names
+     */
+    public Set<String> getSchemaNames() {
+        return getKeys(SCHEMA_PREFIX);
+    }
+
+    public String getSchema(String typeName) {
+        return properties.getProperty(SCHEMA_PREFIX + typeName);
+    }
+
+    public void putSchema(String typeName, String fingerprint) {
+        properties.setProperty(SCHEMA_PREFIX + typeName, fingerprint);
+    }
+
+    /**
+     * Get the keys of the recorded operations.
+     *
+     * @return operation keys
+     */
+    public Set<String> getOperationKeys() {
+        return getKeys(OPERATION_PREFIX);
+    }
+
+    /**
+     * Get the record of the given operation.
+     *
+     * @param key operation key
+     * @return the operation record, or null if the operation was not generated
+     */
+    public Operation getOperation(String key) {
+        String fingerprint = properties.getProperty(OPERATION_PREFIX + key);
+        if (fingerprint == null) {
+            return null;
+        }
+        return new Operation(fingerprint, properties.getProperty(FUNCTION_PREFIX + key),
+                split(properties.getProperty(TYPES_PREFIX + key)), split(properties.getProperty(IMPORTS_PREFIX + key)),
+                Boolean.parseBoolean(properties.getProperty(QUERY_PREFIX + key)));
+    }
+
+    /**
+     * Record a generated operation.
+     *
+     * @param key       operation key
+     * @param operation generated operation
+     */
+    public void putOperation(String key, Operation operation) {
+        properties.setProperty(OPERATION_PREFIX + key, operation.getFingerprint());
+        if (operation.getFunction() != null) {
+            properties.setProperty(FUNCTION_PREFIX + key, operation.getFunction());
+            properties.setProperty(TYPES_PREFIX + key, String.join(SEPARATOR, operation.getTypes()));
+            properties.setProperty(IMPORTS_PREFIX + key, String.join(SEPARATOR, operation.getImports()));
+            properties.setProperty(QUERY_PREFIX + key, Boolean.toString(operation.isQuery()));
+        }
+    }
+
+    /**
+     * Hash of the content of a generated file.
+     *
+     * @param content file content
+     * @return hex encoded SHA-256 of the content
+     */
+    public static String hash(String content) {
+        return SpecCache.getSignature(content);
+    }
+
+    private Set<String> getKeys(String prefix) {
+        Set<String> keys = new HashSet<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(prefix)) {
+                keys.add(name.substring(prefix.length()));
+            }
+        }
+        return keys;
+    }
+
+    private static List<String> split(String value) {
+        if (value == null || value.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(value.split(SEPARATOR)));
+    }
+
+    /**
+     * Record of a generated operation. The remote function, the type definitions and the imports of the operation
+     * are recorded only when a client was generated for it.
+     */
+    public static class Operation {
+        private final String fingerprint;
+        private final String function;
+        private final List<String> types;
+        private final List<String> imports;
+        private final boolean query;
+
+        public Operation(String fingerprint, String function, List<String> types, List<String> imports,
+                         boolean query) {
+            this.fingerprint = fingerprint;
+            this.function = function;
+            this.types = types;
+            this.imports = imports;
+            this.query = query;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        /**
+         * Get the name of the remote function generated for the operation.
+         *
+         * @return function name, or null if no client was generated
+         */
+        public String getFunction() {
+            return function;
+        }
+
+        /**
+         * Get the names of the type definitions generated along with the remote function.
+         *
+         * @return type names
+         */
+        public List<String> getTypes() {
+            return types;
+        }
+
+        /**
+         * Get the imports needed by the remote function, as their source code.
+         *
+         * @return imports
+         */
+        public List<String> getImports() {
+            return imports;
+        }
+
+        /**
+         * Check whether the remote function uses the query parameter helper function of the client.
+         *
+         * @return true if the function has query parameters
+         */
+        public boolean isQuery() {
+            return query;
+        }
+    }
+}
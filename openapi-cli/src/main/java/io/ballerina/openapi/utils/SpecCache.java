@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.openapi.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.openapi.loader.MultiFileSpecLoader;
+import io.swagger.v3.core.util.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Persistent cache of parsed OpenAPI definitions. Entries are keyed by the SHA-256 of the contract bytes together
+ * with the tool version and hold the contract tree, bundled with the files it refers to, in a gzipped JSON form.
+ * The tree is deserialized and resolved again when it is loaded, so a cached contract gives the same model as a
+ * parsed one without parsing the YAML and bundling the referenced files again. The cache key also tells the
+ * generation whether the contract changed since the sources of an output directory were generated, see
+ * {@link GenerationManifest}.
+ * The cache directory is bounded in size and the least recently used entries are evicted first.
+ */
+public class SpecCache {
+    public static final String CACHE_DIR_PROPERTY = "openapi.cache.dir";
+    public static final String CACHE_MAX_SIZE_PROPERTY = "openapi.cache.maxSize";
+    public static final String CACHE_DISABLED_PROPERTY = "openapi.cache.disabled";
+
+    private static final long DEFAULT_MAX_SIZE = 256L * 1024 * 1024;
+    private static final String CONTRACT_SUFFIX = ".contract.json.gz";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String VERSION_RESOURCE = "/openapi-cli.properties";
+    private static final String UNKNOWN_VERSION = "unknown";
+
+    private static volatile SpecCache defaultCache;
+    private static volatile String toolVersion;
+
+    private final Path cacheDir;
+    private final long maxSize;
+    private final Map<Path, SpecKey> specKeys = new ConcurrentHashMap<>();
+
+    public SpecCache(Path cacheDir, long maxSize) {
+        this.cacheDir = cacheDir;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cache configured through the system properties. By default the cache is stored under
+     * {@code <user.home>/.ballerina/openapi-cache} and is bounded to 256MB.
+     *
+     * @return the default cache, or empty if the cache is disabled
+     */
+    public static Optional<SpecCache> getDefault() {
+        if (Boolean.getBoolean(CACHE_DISABLED_PROPERTY)) {
+            return Optional.empty();
+        }
+        if (defaultCache == null) {
+            synchronized (SpecCache.class) {
+                if (defaultCache == null) {
+                    String dir = System.getProperty(CACHE_DIR_PROPERTY);
+                    Path cacheDir = dir != null ? Paths.get(dir) :
+                            Paths.get(System.getProperty("user.home"), ".ballerina", "openapi-cache");
+                    defaultCache = new SpecCache(cacheDir, Long.getLong(CACHE_MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE));
+                }
+            }
+        }
+        return Optional.of(defaultCache);
+    }
+
+    /**
+     * Computes the cache key of the given contract, which is the SHA-256 of the contract content, the content of
+     * the files it refers to and the tool version. Keys are remembered for the modification times and the sizes of
+     * the contract file and of the files it refers to, so an unchanged contract is hashed only once by a long running
+     * process, and a change of any of its files gives a new key.
+     *
+     * @param definitionPath path to the OpenAPI contract
+     * @return cache key of the contract
+     * @throws IOException when the contract cannot be read
+     */
+    public String getSpecKey(Path definitionPath) throws IOException {
+        Path path = definitionPath.toAbsolutePath().normalize();
+        SpecKey specKey = specKeys.get(path);
+        // A new reference can only be added by changing one of the files, so the files of the key are enough.
+        if (specKey != null && specKey.fileIds.equals(getFileIds(specKey.files))) {
+            return specKey.key;
+        }
+        List<Path> contractFiles = new ArrayList<>();
+        contractFiles.add(path);
+        contractFiles.addAll(MultiFileSpecLoader.findReferencedFiles(path));
+        String fileIds = getFileIds(contractFiles);
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[8192];
+        for (Path contractFile : contractFiles) {
+            try (InputStream inputStream = Files.newInputStream(contractFile)) {
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+        }
+        digest.update(getToolVersion().getBytes(StandardCharsets.UTF_8));
+        String key = toHex(digest.digest());
+        specKeys.put(path, new SpecKey(contractFiles, fileIds, key));
+        return key;
+    }
+
+    /*
+     * Modification time and size of each of the files, a missing file included.
+     */
+    private static String getFileIds(List<Path> files) throws IOException {
+        StringBuilder fileIds = new StringBuilder();
+        for (Path file : files) {
+            fileIds.append(file).append(':');
+            if (Files.isRegularFile(file)) {
+                fileIds.append(Files.getLastModifiedTime(file).toMillis()).append(':').append(Files.size(file));
+            }
+            fileIds.append('\n');
+        }
+        return fileIds.toString();
+    }
+
+    /**
+     * Loads the contract tree cached for the given key.
+     *
+     * @param specKey cache key of the contract
+     * @return the cached contract tree, or empty if there is no usable entry
+     */
+    public Optional<JsonNode> readContract(String specKey) {
+        Path contractPath = cacheDir.resolve(specKey + CONTRACT_SUFFIX);
+        if (!Files.isRegularFile(contractPath)) {
+            return Optional.empty();
+        }
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(contractPath))) {
+            JsonNode contract = Json.mapper().readTree(inputStream);
+            touch(contractPath);
+            return Optional.ofNullable(contract);
+        } catch (IOException e) {
+            // A corrupted entry is treated as a miss and replaced by the next write.
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the contract tree of a contract, bundled with the files it refers to. Failures are ignored since the
+     * cache is only an optimisation.
+     *
+     * @param specKey  cache key of the contract
+     * @param contract tree of the contract
+     */
+    public void writeContract(String specKey, JsonNode contract) {
+        try {
+            Files.createDirectories(cacheDir);
+            Path tempPath = Files.createTempFile(cacheDir, specKey, TEMP_SUFFIX);
+            try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(tempPath))) {
+                Json.mapper().writeValue(outputStream, contract);
+            }
+            moveInPlace(tempPath, cacheDir.resolve(specKey + CONTRACT_SUFFIX));
+            evict();
+        } catch (IOException e) {
+            // Ignore, the contract is simply read again in the next run.
+        }
+    }
+
+    /**
+     * Computes a signature for the options which affect the generated sources.
+     *
+     * @param options generation options
+     * @return hex encoded SHA-256 of the options
+     */
+    public static String getSignature(String... options) {
+        MessageDigest digest = newDigest();
+        for (String option : options) {
+            digest.update(String.valueOf(option).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Returns the version of the tool, used to invalidate cached entries written by other tool versions.
+     *
+     * @return tool version
+     */
+    public static String getToolVersion() {
+        if (toolVersion == null) {
+            String version = UNKNOWN_VERSION;
+            try (InputStream inputStream = SpecCache.class.getResourceAsStream(VERSION_RESOURCE)) {
+                if (inputStream != null) {
+                    Properties properties = new Properties();
+                    properties.load(inputStream);
+                    version = properties.getProperty("version", UNKNOWN_VERSION);
+                }
+            } catch (IOException e) {
+                // Fall back to the unknown version.
+            }
+            toolVersion = version;
+        }
+        return toolVersion;
+    }
+
+    /**
+     * Removes the least recently used entries until the cache fits in the configured size.
+     */
+    private void evict() throws IOException {
+        List<Path> entries;
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            entries = files.filter(path -> !path.getFileName().toString().endsWith(TEMP_SUFFIX))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+        long totalSize = 0;
+        for (Path entry : entries) {
+            totalSize += Files.size(entry);
+        }
+        if (totalSize <= maxSize) {
+            return;
+        }
+        entries.sort(Comparator.comparing(SpecCache::lastModifiedTime));
+        for (Path entry : entries) {
+            if (totalSize <= maxSize) {
+                break;
+            }
+            long size = Files.size(entry);
+            if (Files.deleteIfExists(entry)) {
+                totalSize -= size;
+            }
+        }
+    }
+
+    private static FileTime lastModifiedTime(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void touch(Path path) throws IOException {
+        Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    private static void moveInPlace(Path source, Path target) throws IOException {
+        try {
+            CodegenUtils.moveAtomically(source, target);
+        } catch (IOException e) {
+            Files.deleteIfExists(source);
+            throw e;
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is a mandatory algorithm of every Java platform.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Cache key of a contract and the files it was computed from.
+     */
+    private static class SpecKey {
+        private final List<Path> files;
+        private final String fileIds;
+        private final String key;
+
+        SpecKey(List<Path> files, String fileIds, String key) {
+            this.files = files;
+            this.fileIds = fileIds;
+            this.key = key;
+        }
+    }
+}
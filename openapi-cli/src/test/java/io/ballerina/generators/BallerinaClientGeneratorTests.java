@@ -44,6 +44,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -203,6 +204,74 @@ public class BallerinaClientGeneratorTests {
         Assert.assertEquals(generatePathWithPathParameter("/v1/{age}/v2/{name}"), "/v1/${age}/v2/${name}");
     }
 
+    @Test(description = "Generate the remote functions in parallel and compare the client with the serial generation")
+    public void generateRemoteFunctionsInParallel() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/jira_openapi.yaml");
+        String serialClient = generateClient(definitionPath, false);
+        String parallelClient = generateClient(definitionPath, true);
+        Assert.assertEquals(parallelClient, serialClient);
+    }
+
+    @Test(description = "Generate a client sharded by tag, with a shard client field for each tag")
+    public void generateShardedClient() throws IOException, BallerinaOpenApiException, FormatterException {
+        Path definitionPath = RES_DIR.resolve("swagger/covid19_openapi.yaml");
+        GenerationContext context = new GenerationContext(
+                GeneratorUtils.getBallerinaOpenApiType(definitionPath, null), definitionPath);
+        Map<String, SyntaxTree> syntaxTrees = new BallerinaClientGenerator(context, filter)
+                .generateShardedSyntaxTrees(ClientSharding.TAG);
+        Assert.assertEquals(new ArrayList<>(syntaxTrees.keySet()), List.of("client.bal",
+                "client_data_for_all_countries.bal", "client_countries_list.bal", "client_data_for_country.bal"));
+
+        String client = syntaxTrees.get("client.bal").toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(client.contains("publicDataForAllCountriesClientdataForAllCountries;"));
+        Assert.assertTrue(client.contains("self.dataForAllCountries=new(httpEp);"));
+        Assert.assertFalse(client.contains("remoteisolatedfunction"));
+        String shard = syntaxTrees.get("client_countries_list.bal").toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(shard.contains("publicclientclassCountriesListClient"));
+        Assert.assertTrue(shard.contains("getCountryList"));
+        Assert.assertFalse(shard.contains("getCountryByName"));
+
+        Path projectPath = clientPath.getParent();
+        try {
+            for (Map.Entry<String, SyntaxTree> syntaxTree : syntaxTrees.entrySet()) {
+                writeFile(projectPath.resolve(syntaxTree.getKey()), Formatter.format(syntaxTree.getValue())
+                        .toString());
+            }
+            writeFile(schemaPath, Formatter.format(BallerinaSchemaGenerator.generateSyntaxTree(context, filter))
+                    .toString());
+            Assert.assertTrue(getSemanticModel(clientPath).diagnostics().isEmpty());
+        } finally {
+            for (String fileName : syntaxTrees.keySet()) {
+                Files.deleteIfExists(projectPath.resolve(fileName));
+            }
+        }
+
+        syntaxTrees = new BallerinaClientGenerator(context, filter).generateShardedSyntaxTrees(ClientSharding.PATH);
+        Assert.assertEquals(new ArrayList<>(syntaxTrees.keySet()), List.of("client.bal", "client_api.bal"));
+    }
+
+    @Test(description = "Generate a shard client class of a tag starting with a digit whose name is taken")
+    public void generateShardedClientOfDigitTag() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/digit_tag_openapi.yaml");
+        GenerationContext context = new GenerationContext(
+                GeneratorUtils.getBallerinaOpenApiType(definitionPath, null), definitionPath);
+        Map<String, SyntaxTree> syntaxTrees = new BallerinaClientGenerator(context, filter)
+                .generateShardedSyntaxTrees(ClientSharding.TAG);
+        Assert.assertEquals(new ArrayList<>(syntaxTrees.keySet()), List.of("client.bal", "client_2fa.bal"));
+
+        String client = syntaxTrees.get("client.bal").toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(client.contains("publicShard2faClient1shard2fa;"));
+        String shard = syntaxTrees.get("client_2fa.bal").toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(shard.contains("publicclientclassShard2faClient1"));
+    }
+
+    private String generateClient(Path definitionPath, boolean parallel)
+            throws IOException, BallerinaOpenApiException {
+        return ParallelGenerationTestUtils.generate(GeneratorUtils.getBallerinaOpenApiType(definitionPath, null),
+                definitionPath, parallel,
+                context -> new BallerinaClientGenerator(context, filter).generateSyntaxTree().toSourceCode());
+    }
+
     @AfterTest
     private void deleteGeneratedFiles() {
         try {
@@ -19,6 +19,7 @@
 package io.ballerina.generators;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.cmd.Filter;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import org.ballerinalang.formatter.core.FormatterException;
 import org.testng.Assert;
@@ -28,6 +29,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -135,6 +138,39 @@ public class BallerinaSchemaGeneratorTests {
         compareGeneratedSyntaxTreewithExpectedSyntaxTree("schema/openapi_weather_api_schema.bal");
     }
 
+    @Test(description = "Generate only the records used by the filtered operations")
+    public void generateFilteredSchemas() throws IOException, BallerinaOpenApiException, OpenApiException {
+        Path definitionPath = RES_DIR.resolve("petstore.yaml");
+        GenerationContext context = new GenerationContext(
+                BallerinaSchemaGenerator.parseOpenAPIFile(definitionPath.toString()), definitionPath);
+        Filter filter = new Filter(new ArrayList<>(), List.of("showPetById"));
+        String types = BallerinaSchemaGenerator.generateSyntaxTree(context, filter).toString().replaceAll("\\s+", "");
+        Assert.assertTrue(types.contains("publictypePetsrecord{Pet[]petslist;}"));
+        Assert.assertTrue(types.contains("publictypeErrorrecord{"));
+        // Pet is only used through Pets, Dog is not used by any operation.
+        Assert.assertTrue(types.contains("publictypePetrecord{"));
+        Assert.assertFalse(types.contains("publictypeDog"));
+
+        filter = new Filter(new ArrayList<>(), new ArrayList<>());
+        types = BallerinaSchemaGenerator.generateSyntaxTree(context, filter).toString().replaceAll("\\s+", "");
+        Assert.assertTrue(types.contains("publictypeDog"));
+    }
+
+    @Test(description = "Generate the records in parallel in the order of the serial generation")
+    public void generateRecordsInParallel() throws IOException, BallerinaOpenApiException, OpenApiException {
+        Path definitionPath = RES_DIR.resolve("generators/client/swagger/jira_openapi.yaml");
+        String serialRecords = generateRecords(definitionPath, false);
+        String parallelRecords = generateRecords(definitionPath, true);
+        Assert.assertEquals(parallelRecords, serialRecords);
+    }
+
+    private String generateRecords(Path definitionPath, boolean parallel)
+            throws IOException, BallerinaOpenApiException, OpenApiException {
+        return ParallelGenerationTestUtils.generate(BallerinaSchemaGenerator.parseOpenAPIFile(
+                definitionPath.toString()), definitionPath, parallel,
+                context -> new BallerinaSchemaGenerator(context, null).generateSyntaxTree().toSourceCode());
+    }
+
     //Get string as a content of ballerina file
     private String getStringFromGivenBalFile(Path expectedServiceFile, String s) throws IOException {
         Stream<String> expectedServiceLines = Files.lines(expectedServiceFile.resolve(s));
@@ -211,6 +211,18 @@ public class BallerinaServiceGeneratorTest {
         compareGeneratedSyntaxTreewithExpectedSyntaxTree("scenario_08_rs.bal");
     }
 
+    @Test(description = "Structurally equal inline schemas are generated once as a named record")
+    public void generateRepeatedInlineRecords() throws IOException, BallerinaOpenApiException, FormatterException {
+        Path definitionPath = RES_DIR.resolve("generators/swagger/inlineRecordRepeated.yaml");
+        syntaxTree = BallerinaServiceGenerator.generateSyntaxTree(definitionPath, "listeners", filter);
+        String generated = syntaxTree.toString().replaceAll("\\s+", "");
+        Assert.assertEquals(generated.split("publictypeCreateUserRequestrecord", -1).length, 2);
+        // Both the users and the admins resources take the same record.
+        Assert.assertEquals(generated.split("CreateUserRequestpayload", -1).length, 3);
+        // A shape used only once stays inline.
+        Assert.assertTrue(generated.contains("record{|stringname;|}"));
+    }
+
     @Test(description = "Scenario 09 - Single response has inline record for dataType with different status code")
     public void generateResponseScenario09() throws IOException, BallerinaOpenApiException, FormatterException {
         Path definitionPath = RES_DIR.resolve("generators/swagger/scenario_09_rs.yaml");
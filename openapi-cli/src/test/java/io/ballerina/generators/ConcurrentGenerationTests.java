@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stress tests running many client, service and record generations in the same JVM at once.
+ */
+public class ConcurrentGenerationTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators").toAbsolutePath();
+    private static final int GENERATIONS = 64;
+    private static final int THREADS = 8;
+
+    private final List<Path> clientDefinitions = List.of(
+            RES_DIR.resolve("client/swagger/petstore_without_operation_id.yaml"),
+            RES_DIR.resolve("client/swagger/openapi_weather_api.yaml"),
+            RES_DIR.resolve("client/swagger/jira_openapi.yaml"));
+    private final List<Path> serviceDefinitions = List.of(
+            RES_DIR.resolve("swagger/multiQueryParam.yaml"),
+            RES_DIR.resolve("swagger/inlineRecordRepeated.yaml"));
+
+    @Test(description = "Generate clients and records concurrently and compare them with the serial generation")
+    public void generateClientsConcurrently() throws Exception {
+        assertConcurrentGeneration(clientDefinitions, false);
+    }
+
+    @Test(description = "Generate services and records concurrently and compare them with the serial generation")
+    public void generateServicesConcurrently() throws Exception {
+        assertConcurrentGeneration(serviceDefinitions, true);
+    }
+
+    private void assertConcurrentGeneration(List<Path> definitions, boolean service) throws Exception {
+        // Golden outputs generated one at a time.
+        Map<Path, String> expected = new HashMap<>();
+        for (Path definitionPath : definitions) {
+            expected.put(definitionPath, generate(definitionPath, service));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < GENERATIONS; i++) {
+                Path definitionPath = definitions.get(i % definitions.size());
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return generate(definitionPath, service);
+                }));
+            }
+            // Release all the generations together so they overlap as much as possible.
+            start.countDown();
+            for (int i = 0; i < GENERATIONS; i++) {
+                Path definitionPath = definitions.get(i % definitions.size());
+                Assert.assertEquals(results.get(i).get(), expected.get(definitionPath),
+                        "Concurrent generation " + i + " differs for " + definitionPath.getFileName());
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /*
+     * Each generation parses its own definition, the generators complete the operation ids of the parsed model.
+     */
+    private static String generate(Path definitionPath, boolean service) throws IOException,
+            BallerinaOpenApiException {
+        GenerationContext context = GenerationContext.fromDefinition(definitionPath);
+        Filter filter = new Filter(new ArrayList<>(), new ArrayList<>());
+        String main = service ?
+                new BallerinaServiceGenerator(context, filter).generateSyntaxTree("listeners").toSourceCode() :
+                new BallerinaClientGenerator(context, filter).generateSyntaxTree().toSourceCode();
+        return main + new BallerinaSchemaGenerator(context, filter).generateSyntaxTree().toSourceCode();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for {@link NamingService}.
+ */
+public class NamingServiceTests {
+    @Test(description = "Test schemas whose escaped names denote the same identifier get distinct type names")
+    public void generateUniqueTypeNames() {
+        NamingService naming = new NamingService(List.of("error", "_error", "Pet", "Pet ", "Pet-Type"));
+        Assert.assertEquals(naming.getTypeName("error"), "_error");
+        Assert.assertEquals(naming.getTypeName("_error"), "_error1");
+        Assert.assertEquals(naming.getTypeName("Pet"), "Pet");
+        Assert.assertEquals(naming.getTypeName("Pet "), "Pet1");
+        Assert.assertEquals(naming.getTypeName("Pet-Type"), "'Pet\\-Type");
+        Assert.assertSame(naming.getIdentifier("Pet-Type"), naming.getIdentifier("Pet-Type"));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Unit tests for {@link OperationIdIndex}.
+ */
+public class OperationIdIndexTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+
+    @Test(description = "Test the operation ids derived for the operations without one")
+    public void deriveOperationIds() {
+        Operation listPets = new Operation().operationId("ListPets");
+        Operation createPet = new Operation();
+        Operation getPet = new Operation();
+        Operation getStorePets = new Operation();
+        Operation getArchivedPets = new Operation();
+        OpenAPI openAPI = new OpenAPI().paths(new io.swagger.v3.oas.models.Paths()
+                .addPathItem("/pets", new PathItem().get(listPets).post(createPet))
+                .addPathItem("/pets/{petId}", new PathItem().get(getPet))
+                .addPathItem("/store/pets", new PathItem().get(getStorePets))
+                .addPathItem("/archive/pets", new PathItem().get(getArchivedPets)));
+        OperationIdIndex operationIds = new GenerationContext(openAPI, RES_DIR.resolve("petstore.yaml"))
+                .getOperationIds();
+        Assert.assertEquals(operationIds.getOperationId(listPets), "listPets");
+        Assert.assertEquals(operationIds.getOperationId(createPet), "pets");
+        Assert.assertEquals(operationIds.getOperationId(getPet), "petsBypetId");
+        Assert.assertEquals(operationIds.getOperationId(getStorePets), "pets1");
+        Assert.assertEquals(operationIds.getOperationId(getArchivedPets), "pets2");
+        // The ids are set on the operations of the definition as well.
+        Assert.assertEquals(getArchivedPets.getOperationId(), "pets2");
+    }
+}
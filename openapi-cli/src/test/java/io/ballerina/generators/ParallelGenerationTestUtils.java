@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+
+import java.nio.file.Path;
+
+/**
+ * Runs the generators of a definition serially or in parallel, whatever the number of processors of the machine, so
+ * the tests can compare the sources of both strategies.
+ */
+public class ParallelGenerationTestUtils {
+    private ParallelGenerationTestUtils() {
+    }
+
+    /**
+     * Generate the sources of the given definition with the given strategy.
+     *
+     * @param openAPI        parsed definition
+     * @param definitionPath path of the definition
+     * @param parallel       true to generate in parallel, false to generate serially
+     * @param generation     generates the sources from the context of the definition
+     * @return the generated sources
+     * @throws BallerinaOpenApiException when the sources cannot be generated
+     */
+    public static String generate(OpenAPI openAPI, Path definitionPath, boolean parallel, Generation generation)
+            throws BallerinaOpenApiException {
+        // A machine with a single processor would generate serially with the default parallelism.
+        System.setProperty(ParallelGeneration.PARALLELISM_PROPERTY, "4");
+        System.setProperty(SpecComplexity.PARALLEL_THRESHOLD_PROPERTY, parallel ? "1" :
+                String.valueOf(Integer.MAX_VALUE));
+        try {
+            GenerationContext context = new GenerationContext(openAPI, definitionPath);
+            Assert.assertEquals(context.getComplexity().isParallel(), parallel);
+            return generation.generate(context);
+        } finally {
+            System.clearProperty(SpecComplexity.PARALLEL_THRESHOLD_PROPERTY);
+            System.clearProperty(ParallelGeneration.PARALLELISM_PROPERTY);
+        }
+    }
+
+    /**
+     * Generates sources from the context of a definition.
+     */
+    @FunctionalInterface
+    public interface Generation {
+        String generate(GenerationContext context) throws BallerinaOpenApiException;
+    }
+}
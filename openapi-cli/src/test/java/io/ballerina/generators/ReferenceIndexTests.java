@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Unit tests for {@link ReferenceIndex}.
+ */
+public class ReferenceIndexTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+
+    @Test(description = "Test the reference index resolves references like the reference string splitting")
+    public void resolveReferencesWithReferenceIndex() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.getBallerinaOpenApiType(RES_DIR.resolve("petstore.yaml"), null);
+        ReferenceIndex referenceIndex = ReferenceIndex.build(openAPI);
+        for (String schemaName : openAPI.getComponents().getSchemas().keySet()) {
+            String reference = "#/components/schemas/" + schemaName;
+            Assert.assertEquals(referenceIndex.getTypeName(reference), GeneratorUtils.extractReferenceType(reference));
+            Assert.assertSame(referenceIndex.getSchema(reference).orElse(null),
+                    openAPI.getComponents().getSchemas().get(schemaName));
+        }
+        Assert.assertEquals(referenceIndex.getTypeName("#/definitions/string"), "'string");
+        Assert.assertFalse(referenceIndex.getSchema("#/definitions/string").isPresent());
+    }
+}
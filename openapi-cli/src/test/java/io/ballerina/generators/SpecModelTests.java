@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.generators;
+
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Unit tests for {@link SpecModel}.
+ */
+public class SpecModelTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+
+    @Test(description = "Test the spec model numbers the schemas and flattens the operations of the definition")
+    public void buildSpecModel() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.getBallerinaOpenApiType(RES_DIR.resolve("petstore.yaml"), null);
+        SpecModel specModel = SpecModel.build(openAPI);
+        Assert.assertEquals(specModel.getSchemas().size(), openAPI.getComponents().getSchemas().size());
+        int petId = specModel.getSchemaId("#/components/schemas/Pet");
+        Assert.assertEquals(specModel.getSchema(petId).getName(), "Pet");
+        Assert.assertEquals(specModel.getSchema(specModel.getSchemaId("Pets")).getReferences(), new int[]{petId});
+        Assert.assertEquals(specModel.getSchemaId("Missing"), -1);
+
+        List<SpecModel.OperationEntry> operations = specModel.getOperations();
+        Assert.assertEquals(operations.size(), 3);
+        Assert.assertEquals(operations.get(0).getPath(), "/pets");
+        Assert.assertEquals(operations.get(0).getMethod(), PathItem.HttpMethod.GET);
+        Assert.assertEquals(specModel.getParameters(operations.get(0)).get(0).getName(), "limit");
+        // Equal tags of different operations share one interned string.
+        Assert.assertSame(operations.get(0).getOperation().getTags().get(0),
+                operations.get(1).getOperation().getTags().get(0));
+    }
+}
@@ -15,23 +15,53 @@
  */
 package io.ballerina.openapi;
 
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.generators.BallerinaClientGenerator;
+import io.ballerina.generators.BallerinaSchemaGenerator;
+import io.ballerina.generators.BallerinaServiceGenerator;
+import io.ballerina.generators.GenerationContext;
 import io.ballerina.generators.GeneratorConstants;
 import io.ballerina.generators.GeneratorUtils;
 import io.ballerina.generators.OpenApiException;
+import io.ballerina.generators.SpecComplexity;
 import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.cmd.OverwritePolicy;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.loader.MultiFileSpecLoader;
+import io.ballerina.openapi.loader.SpecLoader;
 import io.ballerina.openapi.model.GenSrcFile;
+import io.ballerina.openapi.utils.CodegenUtils;
+import io.ballerina.openapi.utils.DirectoryIndex;
+import io.ballerina.openapi.utils.GenerationManifest;
+import io.ballerina.openapi.utils.SpecCache;
+import io.ballerina.tools.text.TextDocuments;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import org.ballerinalang.formatter.core.FormatterException;
 import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -42,11 +72,13 @@ import static io.ballerina.generators.GeneratorConstants.USER_DIR;
  */
 public class CodeGeneratorTest {
     private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+    private static final Pattern CONTRACT_PATTERN = Pattern.compile("^openapi:", Pattern.MULTILINE);
     Path resourcePath = Paths.get(System.getProperty(USER_DIR));
     Path expectedServiceFile = RES_DIR.resolve(Paths.get("expected_gen"));
     List<String> list1 = new ArrayList<>();
     List<String> list2 = new ArrayList<>();
     Filter filter = new Filter(list1, list2);
+    private final List<Path> tempDirs = new ArrayList<>();
 
     @Test(description = "Test Ballerina skeleton generation")
     public void generateSkeleton() {
@@ -308,6 +340,312 @@ public class CodeGeneratorTest {
         Assert.assertEquals(GeneratorUtils.escapeType("getV1CoreVersion"), "getV1CoreVersion");
     }
 
+    @AfterMethod
+    public void deleteTempDirectories() throws IOException {
+        for (Path tempDir : tempDirs) {
+            try (Stream<Path> files = Files.walk(tempDir)) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+        tempDirs.clear();
+    }
+
+    /*
+     * Create a temporary directory, which is deleted after the test.
+     */
+    private Path createTempDirectory(String prefix) throws IOException {
+        Path tempDir = Files.createTempDirectory(prefix);
+        tempDirs.add(tempDir);
+        return tempDir;
+    }
+
+    @DataProvider(name = "contracts")
+    public Object[][] contracts() throws IOException {
+        try (Stream<Path> files = Files.walk(RES_DIR)) {
+            return files.filter(file -> file.toString().matches(".*\\.(yaml|yml|json)$"))
+                    .filter(CodeGeneratorTest::isContract)
+                    .sorted()
+                    .map(file -> new Object[]{file})
+                    .toArray(Object[][]::new);
+        }
+    }
+
+    @Test(description = "Test the sources generated from a contract are the same whether it is loaded from the " +
+            "contract cache or parsed", dataProvider = "contracts")
+    public void generateFromCachedContract(Path definitionPath) throws IOException {
+        Path cacheDir = createTempDirectory("openapi-cache-test");
+        SpecCache specCache = new SpecCache(cacheDir, Long.MAX_VALUE);
+        String specKey = specCache.getSpecKey(definitionPath);
+        String parsedSources = generateAll(definitionPath, null);
+        Assert.assertFalse(specCache.readContract(specKey).isPresent());
+        String missSources = generateAll(definitionPath, specCache);
+        Assert.assertTrue(specCache.readContract(specKey).isPresent());
+        String hitSources = generateAll(definitionPath, specCache);
+
+        Assert.assertEquals(missSources, parsedSources);
+        Assert.assertEquals(hitSources, missSources);
+    }
+
+    @Test(description = "Test the cache key of a contract changes when only a file it refers to changes")
+    public void changeSpecKeyOfReferencedFile() throws IOException {
+        Path contractDir = createTempDirectory("openapi-spec-key-test");
+        Path sourceDir = RES_DIR.resolve("multi-file");
+        try (Stream<Path> files = Files.walk(sourceDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Path target = contractDir.resolve(sourceDir.relativize(file).toString());
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(target);
+                } else {
+                    Files.copy(file, target);
+                }
+            }
+        }
+        Path definitionPath = contractDir.resolve("openapi.yaml");
+        SpecCache specCache = new SpecCache(createTempDirectory("openapi-cache-test"), Long.MAX_VALUE);
+        String specKey = specCache.getSpecKey(definitionPath);
+        Assert.assertEquals(specCache.getSpecKey(definitionPath), specKey);
+
+        Path schemaPath = contractDir.resolve(Paths.get("schemas", "common.yaml"));
+        Files.writeString(schemaPath, Files.readString(schemaPath) + "# changed\n");
+        Assert.assertNotEquals(specCache.getSpecKey(definitionPath), specKey);
+    }
+
+    /*
+     * Client, service and types generated for the contract, or the failure of each of them, so a contract which
+     * cannot be generated is compared too.
+     */
+    private String generateAll(Path definitionPath, SpecCache specCache) throws IOException {
+        List<SourceGenerator> generators = List.of(
+                context -> BallerinaClientGenerator.generateSyntaxTree(context, filter),
+                context -> BallerinaServiceGenerator.generateSyntaxTree(context, "pets", filter),
+                context -> BallerinaSchemaGenerator.generateSyntaxTree(context, filter));
+        StringBuilder sources = new StringBuilder();
+        for (SourceGenerator generator : generators) {
+            try {
+                sources.append(generator.generate(GenerationContext.fromDefinition(definitionPath, specCache))
+                        .toSourceCode());
+            } catch (BallerinaOpenApiException | RuntimeException e) {
+                sources.append(e);
+            }
+            sources.append('\n');
+        }
+        return sources.toString();
+    }
+
+    private static boolean isContract(Path file) {
+        try {
+            String content = Files.readString(file);
+            return CONTRACT_PATTERN.matcher(content).find() ||
+                    (content.trim().startsWith("{") && content.contains("\"openapi\""));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private interface SourceGenerator {
+        SyntaxTree generate(GenerationContext context) throws BallerinaOpenApiException;
+    }
+
+    @Test(description = "Test regenerating a client updates only the changed operation like a full generation")
+    public void generateClientIncrementally() throws IOException, BallerinaOpenApiException, FormatterException,
+            OpenApiException {
+        Path workDir = createTempDirectory("openapi-incremental-test");
+        Path definitionPath = workDir.resolve("petstore.yaml");
+        Path incrementalDir = Files.createDirectories(workDir.resolve("incremental"));
+        Path fullDir = Files.createDirectories(workDir.resolve("full"));
+        String definition = Files.readString(RES_DIR.resolve("petstore.yaml"));
+        Files.writeString(definitionPath, definition);
+        CodeGenerator generator = new CodeGenerator();
+        generator.setCacheEnabled(false);
+        generator.generateClient(definitionPath.toString(), definitionPath.toString(), "openapipetstore",
+                incrementalDir.toString(), filter);
+        Assert.assertTrue(Files.exists(incrementalDir.resolve(GenerationManifest.FILE_NAME)));
+
+        // Change a single operation and regenerate into the same directory.
+        String petIdSchema = "description: The id of the pet to retrieve\n          schema:\n            type: ";
+        String changedDefinition = definition.replace(petIdSchema + "string", petIdSchema + "integer");
+        Assert.assertNotEquals(changedDefinition, definition);
+        Files.writeString(definitionPath, changedDefinition);
+        generator.generateClient(definitionPath.toString(), definitionPath.toString(), "openapipetstore",
+                incrementalDir.toString(), filter);
+        generator.generateClient(definitionPath.toString(), definitionPath.toString(), "openapipetstore",
+                fullDir.toString(), filter);
+
+        for (String fileName : List.of("client.bal", "types.bal")) {
+            String incrementalContent = Files.readString(incrementalDir.resolve(fileName));
+            String fullContent = Files.readString(fullDir.resolve(fileName));
+            Assert.assertEquals(incrementalContent, fullContent);
+        }
+        String client = Files.readString(incrementalDir.resolve("client.bal"));
+        Assert.assertTrue(client.contains("showPetById(int petId)"));
+    }
+
+    @Test(description = "Test regenerating from an unchanged contract skips the generation until a file changes")
+    public void skipUpToDateGeneration() throws IOException, BallerinaOpenApiException, FormatterException,
+            OpenApiException {
+        Path outDir = createTempDirectory("openapi-up-to-date-test");
+        String definitionPath = RES_DIR.resolve("petstore.yaml").toString();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CodeGenerator generator = new CodeGenerator();
+        generator.setOutStream(new PrintStream(output, true, StandardCharsets.UTF_8));
+        generator.setOverwritePolicy(OverwritePolicy.OVERWRITE);
+        generator.generateClient(definitionPath, definitionPath, "openapipetstore", outDir.toString(), filter);
+        Assert.assertFalse(output.toString(StandardCharsets.UTF_8).contains("up to date"));
+
+        output.reset();
+        generator.generateClient(definitionPath, definitionPath, "openapipetstore", outDir.toString(), filter);
+        Assert.assertTrue(output.toString(StandardCharsets.UTF_8).contains("up to date"));
+
+        // An edited source is generated again, even though the contract has not changed.
+        Path clientPath = outDir.resolve("client.bal");
+        String client = Files.readString(clientPath);
+        Files.writeString(clientPath, client + "// edited\n");
+        output.reset();
+        generator.generateClient(definitionPath, definitionPath, "openapipetstore", outDir.toString(), filter);
+        Assert.assertFalse(output.toString(StandardCharsets.UTF_8).contains("up to date"));
+        Assert.assertEquals(Files.readString(clientPath), client);
+    }
+
+    @Test(description = "Test the client of a large contract is generated into a single file unless sharded")
+    public void suggestShardingOfLargeContract() throws IOException, BallerinaOpenApiException, FormatterException,
+            OpenApiException {
+        Path outDir = createTempDirectory("openapi-shard-hint-test");
+        System.setProperty(SpecComplexity.SHARD_THRESHOLD_PROPERTY, "1");
+        try {
+            String definitionPath = RES_DIR.resolve("petstore.yaml").toString();
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            CodeGenerator generator = new CodeGenerator();
+            generator.setCacheEnabled(false);
+            generator.setOutStream(new PrintStream(output, true, StandardCharsets.UTF_8));
+            generator.generateClient(definitionPath, definitionPath, "openapipetstore", outDir.toString(), filter);
+            Assert.assertTrue(output.toString(StandardCharsets.UTF_8).contains("--shard tag"));
+            try (Stream<Path> files = Files.list(outDir)) {
+                Assert.assertEquals(files.map(file -> file.getFileName().toString())
+                        .filter(fileName -> fileName.startsWith("client")).collect(Collectors.toList()),
+                        List.of("client.bal"));
+            }
+        } finally {
+            System.clearProperty(SpecComplexity.SHARD_THRESHOLD_PROPERTY);
+        }
+    }
+
+    @Test(description = "Test regenerating unchanged sources leaves the files as they are")
+    public void skipUnchangedFiles() throws IOException, BallerinaOpenApiException, FormatterException,
+            OpenApiException {
+        Path outDir = createTempDirectory("openapi-unchanged-test");
+        String definitionPath = RES_DIR.resolve("petstore.yaml").toString();
+        CodeGenerator generator = new CodeGenerator();
+        generator.setCacheEnabled(false);
+        generator.generateClient(definitionPath, definitionPath, "openapipetstore", outDir.toString(), filter);
+        Path clientPath = outDir.resolve("client.bal");
+        FileTime modifiedTime = FileTime.fromMillis(1000000000000L);
+        Files.setLastModifiedTime(clientPath, modifiedTime);
+
+        generator.generateClient(definitionPath, definitionPath, "openapipetstore", outDir.toString(), filter);
+        Assert.assertEquals(Files.getLastModifiedTime(clientPath), modifiedTime);
+
+        String content = Files.readString(clientPath);
+        Assert.assertFalse(CodegenUtils.writeFileIfChanged(clientPath, content));
+        Assert.assertTrue(CodegenUtils.writeFileIfChanged(clientPath, content + "// changed\n"));
+        Assert.assertEquals(Files.readString(clientPath), content + "// changed\n");
+        try (Stream<Path> files = Files.list(outDir)) {
+            Assert.assertTrue(files.noneMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test(description = "Test written files keep the permissions of the replaced file or get the default ones")
+    public void keepFilePermissions() throws IOException {
+        Path outDir = createTempDirectory("openapi-permissions-test");
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return;
+        }
+        Path defaultFile = Files.createFile(outDir.resolve("default.bal"));
+        Path clientPath = outDir.resolve("client.bal");
+        CodegenUtils.writeFile(clientPath, "// client\n");
+        Assert.assertEquals(Files.getPosixFilePermissions(clientPath),
+                Files.getPosixFilePermissions(defaultFile));
+
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rwxr-x---");
+        Files.setPosixFilePermissions(clientPath, permissions);
+        Assert.assertTrue(CodegenUtils.writeFileIfChanged(clientPath, "// changed client\n"));
+        Assert.assertEquals(Files.getPosixFilePermissions(clientPath), permissions);
+
+        Path statePath = outDir.resolve("state.json");
+        CodegenUtils.writeOwnerOnlyFile(statePath, "{}");
+        Assert.assertEquals(Files.getPosixFilePermissions(statePath), PosixFilePermissions.fromString("rw-------"));
+    }
+
+    @Test(description = "Test renaming generated files after the highest suffix of the existing files")
+    public void renameGeneratedFiles() throws IOException {
+        Path outDir = createTempDirectory("openapi-rename-test");
+        for (String fileName : List.of("client.bal", "client.1.bal", "client.3.bal", "types.bal", "README")) {
+            Files.createFile(outDir.resolve(fileName));
+        }
+        DirectoryIndex existingFiles = DirectoryIndex.of(outDir);
+        Assert.assertTrue(existingFiles.contains("client.bal"));
+        Assert.assertFalse(existingFiles.contains("service.bal"));
+        Assert.assertEquals(existingFiles.rename("client.bal", ".bal"), "client.4.bal");
+        Assert.assertEquals(existingFiles.rename("types.bal", ".bal"), "types.1.bal");
+        Assert.assertEquals(existingFiles.rename("types.bal", ".bal"), "types.2.bal");
+        Assert.assertTrue(existingFiles.contains("types.2.bal"));
+        Assert.assertEquals(DirectoryIndex.of(outDir.resolve("missing")).rename("openapi.yaml", ".yaml"),
+                "openapi.0.yaml");
+    }
+
+    @Test(description = "Test the sources laid out without the formatter are valid and match the formatted ones")
+    public void generateClientWithoutFormatter() throws IOException, BallerinaOpenApiException, FormatterException,
+            OpenApiException {
+        String definitionPath = RES_DIR.resolve("petstore.yaml").toString();
+        CodeGenerator generator = new CodeGenerator();
+        generator.setCacheEnabled(false);
+        List<GenSrcFile> formattedFiles = generator.generateBalSource(GeneratorConstants.GenType.GEN_CLIENT,
+                definitionPath, definitionPath, "openapipetstore", filter);
+        generator.setFormatEnabled(false);
+        List<GenSrcFile> laidOutFiles = generator.generateBalSource(GeneratorConstants.GenType.GEN_CLIENT,
+                definitionPath, definitionPath, "openapipetstore", filter);
+
+        Assert.assertEquals(laidOutFiles.size(), formattedFiles.size());
+        for (int i = 0; i < laidOutFiles.size(); i++) {
+            String content = laidOutFiles.get(i).getContent();
+            Assert.assertFalse(SyntaxTree.from(TextDocuments.from(content)).hasDiagnostics(), content);
+            Assert.assertEquals(content.replaceAll("\\s+", ""),
+                    formattedFiles.get(i).getContent().replaceAll("\\s+", ""));
+        }
+    }
+
+    @Test(description = "Test the streaming contract loader builds the same model as the in memory parser")
+    public void parseContractWithStreamingLoader() throws IOException {
+        // The weather contract refers to parameters of its components, which are only inlined when resolved.
+        for (String contract : new String[]{"petstore.yaml", "openapi-client-rb.yaml", "allof-petstore.yaml",
+                "generators/client/swagger/openapi_weather_api.yaml"}) {
+            Path definitionPath = RES_DIR.resolve(contract);
+            SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(Files.readString(definitionPath));
+            SwaggerParseResult streamingResult = SpecLoader.parseStreaming(definitionPath);
+            Assert.assertEquals(streamingResult.getMessages(), parseResult.getMessages());
+            Assert.assertEquals(Json.pretty(streamingResult.getOpenAPI()), Json.pretty(parseResult.getOpenAPI()));
+        }
+    }
+
+    @Test(description = "Test loading a contract split across several files with relative references")
+    public void parseMultiFileContract() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("multi-file/openapi.yaml");
+        SwaggerParseResult parseResult = SpecLoader.parse(definitionPath);
+        Assert.assertTrue(parseResult.getMessages().isEmpty());
+        OpenAPI openAPI = parseResult.getOpenAPI();
+        Assert.assertEquals(openAPI.getComponents().getSchemas().keySet(), Set.of("Error", "Owner", "Pet"));
+        Assert.assertEquals(openAPI.getPaths().get("/pets").getGet().getOperationId(), "listPets");
+        Assert.assertEquals(openAPI.getComponents().getSchemas().get("Pet").getProperties().get("owner").get$ref(),
+                "#/components/schemas/Owner");
+        Assert.assertEquals(MultiFileSpecLoader.findReferencedFiles(definitionPath).size(), 3);
+
+        String client = BallerinaClientGenerator.generateSyntaxTree(
+                new GenerationContext(openAPI, definitionPath), filter).toSourceCode().replaceAll("\\s+", "");
+        // The responses refer to the schema of another file, which is bundled as a component of the contract.
+        Assert.assertTrue(client.contains("functionshowPetById(stringpetId)returnsPet|error{"));
+        Assert.assertTrue(client.contains("functionlistPets()returnsPetArr|error{"));
+        Assert.assertTrue(client.contains("typePetArrPet[];"));
+    }
+
     private String getStringFromGivenBalFile(Path expectedServiceFile, String s) throws IOException {
 
         Stream<String> expectedServiceLines = Files.lines(expectedServiceFile.resolve(s));
@@ -17,17 +17,27 @@
  */
 package io.ballerina.openapi.cmd;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.ballerina.cli.launcher.BLauncherException;
 import org.testng.Assert;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
 import picocli.CommandLine;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -162,6 +172,87 @@ public class OpenAPICmdTest extends OpenAPICommandTest {
         }
     }
 
+    @Test(description = "Test openapi command generating several contracts in one run")
+    public void testBatchGeneration() throws IOException {
+        Path batchDir = this.tmpDir.resolve("batch");
+        String[] args = {"--input", resourceDir.resolve("petstore.yaml").toString(),
+                resourceDir.resolve("multiQueryParam.yaml").toString(), "missing.yaml", "-o", batchDir.toString(),
+                "--workers", "2"};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("Generated 2 of 3 OpenAPI contracts"), output);
+        Assert.assertTrue(output.contains("FAILED"), output);
+        Assert.assertTrue(Files.exists(batchDir.resolve(Paths.get("petstore", "client.bal"))));
+        Assert.assertTrue(Files.exists(batchDir.resolve(Paths.get("petstore", "types.bal"))));
+        Assert.assertTrue(Files.exists(batchDir.resolve(Paths.get("multiQueryParam", "client.bal"))));
+
+        // A second run overwrites the generated files without asking.
+        cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        Assert.assertTrue(readOutput(true).contains("Generated 2 of 3 OpenAPI contracts"));
+        Assert.assertFalse(Files.exists(batchDir.resolve(Paths.get("petstore", "client.1.bal"))));
+    }
+
+    @Test(description = "Test expanding the directories and glob patterns of a batch generation")
+    public void testBatchInputs() throws IOException {
+        List<Path> definitions = BatchGenerator.resolveInputs(List.of("petstore.y*", "petstore.yaml"), resourceDir);
+        Assert.assertEquals(definitions, List.of(resourceDir.resolve("petstore.yaml"),
+                resourceDir.resolve("petstore.yml")));
+        Assert.assertTrue(BatchGenerator.isBatch(List.of("petstore.y*"), resourceDir));
+        Assert.assertTrue(BatchGenerator.isBatch(List.of("multi-file"), resourceDir));
+        Assert.assertFalse(BatchGenerator.isBatch(List.of("petstore.yaml"), resourceDir));
+    }
+
+    @Test(description = "Test running openapi commands on the generation daemon")
+    public void testGenerationDaemon() throws Exception {
+        Path stateFile = this.tmpDir.resolve("openapi-daemon.json");
+        PrintStream daemonStream = new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8);
+        GenerationDaemon daemon = new GenerationDaemon(stateFile, Duration.ofMinutes(1), 2, daemonStream,
+                OpenApiCmd::runDaemonCommand);
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() -> {
+            try {
+                daemon.run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        DaemonClient client = new DaemonClient(stateFile);
+        for (int i = 0; i < 100 && !client.isRunning(); i++) {
+            Thread.sleep(100);
+        }
+        Assert.assertTrue(client.isRunning());
+
+        // Relative paths are resolved against the directory of the client.
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        List<String> args = List.of("--input", resourceDir.resolve("petstore.yaml").toString(), "--mode", "client",
+                "-o", "daemon");
+        OptionalInt exitCode = client.run(tmpDir, args, new PrintStream(output, true, StandardCharsets.UTF_8));
+        String commandOutput = output.toString(StandardCharsets.UTF_8);
+        Assert.assertEquals(exitCode, OptionalInt.of(0), commandOutput);
+        Assert.assertTrue(commandOutput.contains("Client generated successfully."), commandOutput);
+        Assert.assertTrue(Files.exists(tmpDir.resolve(Paths.get("daemon", "client.bal"))));
+
+        exitCode = client.run(tmpDir, List.of("--input", "missing.yaml"), daemonStream);
+        Assert.assertEquals(exitCode, OptionalInt.of(1));
+
+        // The client of another version of the tool runs its commands in its own process, but can stop the daemon.
+        ObjectNode state = (ObjectNode) GenerationDaemon.readState(stateFile);
+        state.put(GenerationDaemon.VERSION, "0.0.0");
+        Files.writeString(stateFile, state.toString());
+        Assert.assertFalse(client.isRunning());
+        Assert.assertEquals(client.run(tmpDir, args, daemonStream), OptionalInt.empty());
+
+        Assert.assertTrue(client.stop());
+        running.get(10, TimeUnit.SECONDS);
+        Assert.assertFalse(Files.exists(stateFile));
+        Assert.assertFalse(client.isRunning());
+        Assert.assertEquals(client.run(tmpDir, args, daemonStream), OptionalInt.empty());
+    }
+
     // Delete the generated files
     private void deleteGeneratedFiles() {
         File serviceFile = new File(this.tmpDir.resolve("petstore_service.bal").toString());
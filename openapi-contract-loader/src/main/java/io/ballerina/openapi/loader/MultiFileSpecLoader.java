@@ -0,0 +1,477 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.openapi.loader;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Loads OpenAPI contracts which are split across several local files linked by relative {@code $ref}s. The
+ * referenced files are discovered from the root contract, then read and parsed in parallel on a bounded pool. Each
+ * file is parsed only once, however many times it is referenced. The fragments are bundled into a single contract
+ * before it is handed to the swagger deserializer and resolver:
+ * <ul>
+ * <li>schemas referenced from other files are added to {@code components/schemas} and referred locally, so the
+ * generators still see them as named types</li>
+ * <li>any other referenced fragment, such as a path item, parameter or response, is inlined where it is
+ * referenced</li>
+ * </ul>
+ * The size of the pool is set with the {@code openapi.resolve.threads} system property and defaults to the number
+ * of processors, up to 8.
+ */
+public class MultiFileSpecLoader {
+    public static final String THREADS_PROPERTY = "openapi.resolve.threads";
+
+    private static final int MAX_DEFAULT_THREADS = 8;
+    private static final String REF = "$ref";
+    private static final String SCHEMAS_REF_PREFIX = "#/components/schemas/";
+    private static final Pattern EXTERNAL_REF_PATTERN =
+            Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\\s\"'#,}]+)");
+
+    private final Path rootPath;
+    private final Map<Path, Future<JsonNode>> fragments = new ConcurrentHashMap<>();
+    private final Map<String, String> bundledSchemas = new HashMap<>();
+    private final Set<String> schemaNames = new HashSet<>();
+    private ExecutorService executor;
+    private ObjectNode components;
+
+    private MultiFileSpecLoader(Path rootPath) {
+        this.rootPath = rootPath;
+    }
+
+    /**
+     * Check whether the given contract content refers to other files.
+     *
+     * @param content content of the OpenAPI contract
+     * @return true if the contract has a {@code $ref} to another file
+     */
+    public static boolean hasExternalReferences(String content) {
+        if (!content.contains(REF)) {
+            return false;
+        }
+        Matcher matcher = EXTERNAL_REF_PATTERN.matcher(content);
+        while (matcher.find()) {
+            if (isLocalFile(matcher.group(1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the given contract tree refers to other files.
+     *
+     * @param node root node of the OpenAPI contract
+     * @return true if the contract has a {@code $ref} to another file
+     */
+    public static boolean hasExternalReferences(JsonNode node) {
+        if (node.isObject()) {
+            JsonNode ref = node.get(REF);
+            if (ref != null && ref.isTextual() && isLocalFile(getFilePart(ref.asText()))) {
+                return true;
+            }
+        }
+        if (node.isContainerNode()) {
+            for (JsonNode child : node) {
+                if (hasExternalReferences(child)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Find the files referenced from the given contract, directly or through other referenced files. The files are
+     * only scanned for {@code $ref} values, so this is much cheaper than loading the contract.
+     *
+     * @param definitionPath path to the OpenAPI contract
+     * @return paths of the referenced files in the order they were found, excluding the contract itself
+     * @throws IOException when a referenced file cannot be read
+     */
+    public static List<Path> findReferencedFiles(Path definitionPath) throws IOException {
+        Path root = definitionPath.toAbsolutePath().normalize();
+        Set<Path> found = new LinkedHashSet<>();
+        Deque<Path> pending = new ArrayDeque<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            Path file = pending.poll();
+            // Read line by line, so large contracts are not held in memory.
+            try (Stream<String> lines = Files.lines(file)) {
+                Iterator<String> iterator = lines.filter(line -> line.contains(REF)).iterator();
+                while (iterator.hasNext()) {
+                    Matcher matcher = EXTERNAL_REF_PATTERN.matcher(iterator.next());
+                    while (matcher.find()) {
+                        String filePart = matcher.group(1);
+                        if (isLocalFile(filePart)) {
+                            Path referenced = resolveFile(file, filePart);
+                            if (!referenced.equals(root) && found.add(referenced)) {
+                                pending.add(referenced);
+                            }
+                        }
+                    }
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+    /**
+     * Load the given multi-file OpenAPI contract and resolve the bundled contract for the given options.
+     *
+     * @param definitionPath path to the root OpenAPI contract
+     * @param rootNode       root node of the contract, or null to read it from the file
+     * @param options        options of the parser, which tell how the references are resolved
+     * @return parse result of the bundled contract
+     * @throws IOException when the contract or a referenced file cannot be read
+     */
+    public static SwaggerParseResult parse(Path definitionPath, JsonNode rootNode, ParseOptions options)
+            throws IOException {
+        return SpecLoader.parse(bundle(definitionPath, rootNode), options);
+    }
+
+    /**
+     * Load the given multi-file OpenAPI contract and bundle it into a single contract tree.
+     *
+     * @param definitionPath path to the root OpenAPI contract
+     * @param rootNode       root node of the contract, or null to read it from the file
+     * @return tree of the bundled contract
+     * @throws IOException when the contract or a referenced file cannot be read
+     */
+    public static JsonNode bundle(Path definitionPath, JsonNode rootNode) throws IOException {
+        return new MultiFileSpecLoader(definitionPath.toAbsolutePath().normalize()).load(rootNode);
+    }
+
+    private JsonNode load(JsonNode rootNode) throws IOException {
+        int threads = Integer.getInteger(THREADS_PROPERTY,
+                Math.min(Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_THREADS));
+        executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "openapi-resolver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            if (rootNode != null) {
+                fragments.put(rootPath, executor.submit(() -> {
+                    loadReferencedFiles(rootNode, rootPath);
+                    return rootNode;
+                }));
+            } else {
+                loadFile(rootPath);
+            }
+            awaitFragments();
+        } finally {
+            executor.shutdownNow();
+        }
+        JsonNode root = getFragment(rootPath);
+        if (!(root instanceof ObjectNode)) {
+            return root;
+        }
+        ObjectNode bundled = ((ObjectNode) root).deepCopy();
+        JsonNode existingComponents = bundled.get("components");
+        if (existingComponents instanceof ObjectNode) {
+            components = (ObjectNode) existingComponents;
+            JsonNode schemas = components.get("schemas");
+            if (schemas instanceof ObjectNode) {
+                schemas.fieldNames().forEachRemaining(schemaNames::add);
+                bundleComponentSchemas((ObjectNode) schemas);
+            }
+        }
+        List<Map.Entry<String, JsonNode>> entries = new ArrayList<>();
+        bundled.fields().forEachRemaining(entries::add);
+        for (Map.Entry<String, JsonNode> field : entries) {
+            JsonNode value = bundle(field.getValue(), rootPath, false, field.getKey(), new ArrayDeque<>());
+            if (value != field.getValue()) {
+                bundled.set(field.getKey(), value);
+            }
+        }
+        if (components != null && bundled.get("components") == null) {
+            bundled.set("components", components);
+        }
+        return bundled;
+    }
+
+    /**
+     * Schedule the given file to be read and parsed, unless it has already been scheduled.
+     */
+    private void loadFile(Path file) {
+        fragments.computeIfAbsent(file, path -> executor.submit(() -> {
+            JsonNode node = SpecLoader.readTree(path);
+            if (node == null) {
+                throw new IOException("Referenced file is empty: " + path);
+            }
+            loadReferencedFiles(node, path);
+            return node;
+        }));
+    }
+
+    private void loadReferencedFiles(JsonNode node, Path file) {
+        if (node.isObject()) {
+            JsonNode ref = node.get(REF);
+            if (ref != null && ref.isTextual()) {
+                String filePart = getFilePart(ref.asText());
+                if (isLocalFile(filePart)) {
+                    loadFile(resolveFile(file, filePart));
+                }
+            }
+        }
+        if (node.isContainerNode()) {
+            for (JsonNode child : node) {
+                loadReferencedFiles(child, file);
+            }
+        }
+    }
+
+    /**
+     * Wait until all the files are parsed. A file schedules the files it refers to before it completes, so no
+     * file is scheduled once all the scheduled files are complete.
+     */
+    private void awaitFragments() throws IOException {
+        List<Future<JsonNode>> scheduled;
+        do {
+            scheduled = new ArrayList<>(fragments.values());
+            for (Future<JsonNode> fragment : scheduled) {
+                waitFor(fragment);
+            }
+        } while (scheduled.size() != fragments.size());
+    }
+
+    private JsonNode getFragment(Path file) throws IOException {
+        Future<JsonNode> fragment = fragments.get(file);
+        if (fragment == null) {
+            throw new IOException("Referenced file is not loaded: " + file);
+        }
+        return waitFor(fragment);
+    }
+
+    private static JsonNode waitFor(Future<JsonNode> fragment) throws IOException {
+        try {
+            return fragment.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Loading the referenced files was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Rewrite the references of the given node which belongs to the given file.
+     *
+     * @param node     node to rewrite, nodes of the root contract are rewritten in place
+     * @param file     file the node belongs to, relative references are resolved against it
+     * @param inSchema whether the node is a schema or part of a schema
+     * @param key      name of the field holding the node
+     * @param inlining references which are being inlined, used to detect circular references
+     * @return the rewritten node, which is a different node when the reference is inlined
+     */
+    private JsonNode bundle(JsonNode node, Path file, boolean inSchema, String key, Deque<String> inlining)
+            throws IOException {
+        if (node instanceof ObjectNode) {
+            ObjectNode objectNode = (ObjectNode) node;
+            JsonNode ref = objectNode.get(REF);
+            if (ref != null && ref.isTextual()) {
+                String refValue = ref.asText();
+                String filePart = getFilePart(refValue);
+                Path target;
+                if (filePart.isEmpty() && !file.equals(rootPath)) {
+                    target = file;
+                } else if (isLocalFile(filePart)) {
+                    target = resolveFile(file, filePart);
+                } else {
+                    return node;
+                }
+                String pointer = getPointer(refValue);
+                if (inSchema) {
+                    objectNode.put(REF, SCHEMAS_REF_PREFIX + bundleSchema(target, pointer));
+                    return objectNode;
+                }
+                String targetId = target + "#" + pointer;
+                if (inlining.contains(targetId)) {
+                    throw new IOException("Circular reference to " + targetId + " cannot be inlined");
+                }
+                inlining.push(targetId);
+                JsonNode inlined = bundle(resolvePointer(target, pointer).deepCopy(), target, false, key, inlining);
+                inlining.pop();
+                return inlined;
+            }
+            List<Map.Entry<String, JsonNode>> entries = new ArrayList<>();
+            objectNode.fields().forEachRemaining(entries::add);
+            for (Map.Entry<String, JsonNode> field : entries) {
+                boolean childInSchema = inSchema || "schema".equals(field.getKey())
+                        || ("schemas".equals(field.getKey()) && "components".equals(key));
+                JsonNode value = bundle(field.getValue(), file, childInSchema, field.getKey(), inlining);
+                if (value != field.getValue()) {
+                    objectNode.set(field.getKey(), value);
+                }
+            }
+        } else if (node instanceof ArrayNode) {
+            ArrayNode arrayNode = (ArrayNode) node;
+            for (int i = 0; i < arrayNode.size(); i++) {
+                JsonNode value = bundle(arrayNode.get(i), file, inSchema, key, inlining);
+                if (value != arrayNode.get(i)) {
+                    arrayNode.set(i, value);
+                }
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Replace the component schemas of the root contract which only refer to a schema in another file with the
+     * referenced schema, so the schema keeps the name given in the root contract.
+     */
+    private void bundleComponentSchemas(ObjectNode schemas) throws IOException {
+        List<Map.Entry<String, JsonNode>> entries = new ArrayList<>();
+        schemas.fields().forEachRemaining(entries::add);
+        for (Map.Entry<String, JsonNode> entry : entries) {
+            JsonNode ref = entry.getValue().get(REF);
+            if (ref == null || !ref.isTextual() || !isLocalFile(getFilePart(ref.asText()))) {
+                continue;
+            }
+            Path target = resolveFile(rootPath, getFilePart(ref.asText()));
+            String pointer = getPointer(ref.asText());
+            if (bundledSchemas.putIfAbsent(target + "#" + pointer, entry.getKey()) == null) {
+                schemas.set(entry.getKey(), bundle(resolvePointer(target, pointer).deepCopy(), target, true,
+                        entry.getKey(), new ArrayDeque<>()));
+            }
+        }
+    }
+
+    /**
+     * Add the schema at the given location to the components of the bundled contract.
+     *
+     * @return name of the schema in the components of the bundled contract
+     */
+    private String bundleSchema(Path file, String pointer) throws IOException {
+        String targetId = file + "#" + pointer;
+        String name = bundledSchemas.get(targetId);
+        if (name != null) {
+            return name;
+        }
+        if (file.equals(rootPath) && pointer.startsWith("/components/schemas/")) {
+            name = getComponentName(file, pointer);
+            bundledSchemas.put(targetId, name);
+            return name;
+        }
+        name = getUniqueName(getComponentName(file, pointer));
+        // Register the name before rewriting the schema, so circular references resolve to it.
+        bundledSchemas.put(targetId, name);
+        JsonNode schema = bundle(resolvePointer(file, pointer).deepCopy(), file, true, name, new ArrayDeque<>());
+        getSchemas().set(name, schema);
+        return name;
+    }
+
+    private ObjectNode getSchemas() {
+        if (components == null) {
+            components = JsonNodeFactory.instance.objectNode();
+        }
+        JsonNode schemas = components.get("schemas");
+        if (!(schemas instanceof ObjectNode)) {
+            schemas = components.putObject("schemas");
+        }
+        return (ObjectNode) schemas;
+    }
+
+    private String getUniqueName(String name) {
+        String uniqueName = name;
+        int suffix = 1;
+        while (!schemaNames.add(uniqueName)) {
+            suffix++;
+            uniqueName = name + suffix;
+        }
+        return uniqueName;
+    }
+
+    private JsonNode resolvePointer(Path file, String pointer) throws IOException {
+        JsonNode fragment = getFragment(file);
+        JsonNode target = pointer.isEmpty() ? fragment : fragment.at(pointer);
+        if (target == null || target.isMissingNode()) {
+            throw new IOException("Unable to resolve the reference " + file + "#" + pointer);
+        }
+        return target;
+    }
+
+    /**
+     * Name of a bundled schema, which is the last segment of the JSON pointer, or the file name without the
+     * extension when the whole file is referenced.
+     */
+    private static String getComponentName(Path file, String pointer) {
+        if (!pointer.isEmpty() && !pointer.endsWith("/")) {
+            String segment = pointer.substring(pointer.lastIndexOf('/') + 1);
+            return segment.replace("~1", "/").replace("~0", "~");
+        }
+        String fileName = file.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        return extension > 0 ? fileName.substring(0, extension) : fileName;
+    }
+
+    private static String getFilePart(String ref) {
+        int hash = ref.indexOf('#');
+        return (hash < 0 ? ref : ref.substring(0, hash)).trim();
+    }
+
+    private static String getPointer(String ref) {
+        int hash = ref.indexOf('#');
+        return hash < 0 ? "" : ref.substring(hash + 1).trim();
+    }
+
+    /**
+     * References to remote contracts are left to the swagger parser, only relative and absolute file paths are
+     * resolved by this loader.
+     */
+    private static boolean isLocalFile(String filePart) {
+        return !filePart.isEmpty() && !filePart.contains("://");
+    }
+
+    private static Path resolveFile(Path file, String filePart) {
+        String path = filePart.startsWith("file:") ? filePart.substring("file:".length()) : filePart;
+        return file.getParent().resolve(path).toAbsolutePath().normalize();
+    }
+}
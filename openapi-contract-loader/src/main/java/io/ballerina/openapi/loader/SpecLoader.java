@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.openapi.loader;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIResolver;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import io.swagger.v3.parser.util.InlineModelResolver;
+import io.swagger.v3.parser.util.OpenAPIDeserializer;
+import io.swagger.v3.parser.util.ResolverFully;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * Loads OpenAPI contracts into the swagger model, for the generators of the CLI and for the validator plugin. Small
+ * contracts are read into memory and handed to the {@link OpenAPIV3Parser}. Contracts larger than the streaming
+ * threshold are memory mapped and read with a streaming Jackson parser instead, so the raw contract is never held in
+ * memory as a String. Contracts which refer to other files are loaded through the {@link MultiFileSpecLoader}.
+ * Whichever way a contract is read, its references are resolved as the parser resolves them for the given options.
+ */
+public class SpecLoader {
+    public static final String STREAMING_THRESHOLD_PROPERTY = "openapi.streaming.threshold";
+
+    private static final long DEFAULT_STREAMING_THRESHOLD = 16L * 1024 * 1024;
+
+    private SpecLoader() {
+    }
+
+    /**
+     * Parse the given OpenAPI contract and resolve it like {@link OpenAPIV3Parser#readContents(String)} does.
+     *
+     * @param definitionPath path to the OpenAPI contract
+     * @return parse result of the contract
+     * @throws IOException when the contract cannot be read
+     */
+    public static SwaggerParseResult parse(Path definitionPath) throws IOException {
+        return parse(definitionPath, getDefaultOptions());
+    }
+
+    /**
+     * Parse the given OpenAPI contract, selecting the streaming loader when the contract is larger than the
+     * threshold configured with the {@code openapi.streaming.threshold} system property (16MB by default).
+     *
+     * @param definitionPath path to the OpenAPI contract
+     * @param options        options of the parser, which tell how the references are resolved
+     * @return parse result of the contract
+     * @throws IOException when the contract cannot be read
+     */
+    public static SwaggerParseResult parse(Path definitionPath, ParseOptions options) throws IOException {
+        if (Files.size(definitionPath) >= Long.getLong(STREAMING_THRESHOLD_PROPERTY, DEFAULT_STREAMING_THRESHOLD)) {
+            return parseStreaming(definitionPath, options);
+        }
+        String content = Files.readString(definitionPath);
+        if (MultiFileSpecLoader.hasExternalReferences(content)) {
+            return MultiFileSpecLoader.parse(definitionPath, null, options);
+        }
+        return new OpenAPIV3Parser().readContents(content, null, options);
+    }
+
+    /**
+     * Parse the given OpenAPI contract by memory mapping the file and reading it with a streaming Jackson parser,
+     * and resolve it like {@link OpenAPIV3Parser#readContents(String)} does.
+     *
+     * @param definitionPath path to the OpenAPI contract
+     * @return parse result of the contract
+     * @throws IOException when the contract cannot be read
+     */
+    public static SwaggerParseResult parseStreaming(Path definitionPath) throws IOException {
+        return parseStreaming(definitionPath, getDefaultOptions());
+    }
+
+    /**
+     * Parse the given OpenAPI contract by memory mapping the file and reading it with a streaming Jackson parser.
+     *
+     * @param definitionPath path to the OpenAPI contract
+     * @param options        options of the parser, which tell how the references are resolved
+     * @return parse result of the contract
+     * @throws IOException when the contract cannot be read
+     */
+    public static SwaggerParseResult parseStreaming(Path definitionPath, ParseOptions options) throws IOException {
+        return parse(readContract(definitionPath), options);
+    }
+
+    /**
+     * Read the given OpenAPI contract into a single Jackson tree with a streaming parser, bundling the files it
+     * refers to. Parsing the tree with {@link #parse(JsonNode)} gives the same model as parsing the contract, so the
+     * tree can be stored and parsed again later.
+     *
+     * @param definitionPath path to the OpenAPI contract
+     * @return tree of the contract, or null if the contract is empty
+     * @throws IOException when the contract or a referenced file cannot be read
+     */
+    public static JsonNode readContract(Path definitionPath) throws IOException {
+        JsonNode rootNode = readTree(definitionPath);
+        if (rootNode != null && MultiFileSpecLoader.hasExternalReferences(rootNode)) {
+            return MultiFileSpecLoader.bundle(definitionPath, rootNode);
+        }
+        return rootNode;
+    }
+
+    /**
+     * Parse the given contract tree and resolve it like {@link OpenAPIV3Parser#readContents(String)} does.
+     *
+     * @param contract tree of the contract, as read by {@link #readContract(Path)}
+     * @return parse result of the contract
+     */
+    public static SwaggerParseResult parse(JsonNode contract) {
+        return parse(contract, getDefaultOptions());
+    }
+
+    /**
+     * Parse the given contract tree and resolve it for the given options.
+     *
+     * @param contract tree of the contract, as read by {@link #readContract(Path)}
+     * @param options  options of the parser, which tell how the references are resolved
+     * @return parse result of the contract
+     */
+    public static SwaggerParseResult parse(JsonNode contract, ParseOptions options) {
+        if (contract == null || contract.isMissingNode()) {
+            return emptyResult();
+        }
+        return resolve(new OpenAPIDeserializer().deserialize(contract), options);
+    }
+
+    /**
+     * Resolve the deserialized contract for the given options, the same way the parser resolves the contracts it
+     * reads.
+     */
+    private static SwaggerParseResult resolve(SwaggerParseResult result, ParseOptions options) {
+        OpenAPI openAPI = result.getOpenAPI();
+        if (openAPI == null || options == null) {
+            return result;
+        }
+        try {
+            if (options.isResolve() || options.isResolveFully()) {
+                openAPI = new OpenAPIResolver(openAPI, new ArrayList<>(), null).resolve();
+                if (options.isResolveFully()) {
+                    new ResolverFully(options.isResolveCombinators()).resolveFully(openAPI);
+                }
+            }
+            if (options.isFlatten()) {
+                new InlineModelResolver(options.isFlattenComposedSchemas(), options.isCamelCaseFlattenNaming(),
+                        options.isSkipMatches()).flatten(openAPI);
+            }
+            result.setOpenAPI(openAPI);
+        } catch (Exception e) {
+            result.setMessages(Collections.singletonList(e.getMessage()));
+        }
+        return result;
+    }
+
+    private static ParseOptions getDefaultOptions() {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        return options;
+    }
+
+    /**
+     * Read the given contract into a Jackson tree by memory mapping the file and reading it with a streaming parser.
+     *
+     * @param definitionPath path to the OpenAPI contract
+     * @return root node of the contract, or null if the contract is empty
+     * @throws IOException when the contract cannot be read
+     */
+    static JsonNode readTree(Path definitionPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(definitionPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return null;
+            }
+            if (size <= Integer.MAX_VALUE) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                ObjectMapper mapper = isJson(buffer) ? Json.mapper() : Yaml.mapper();
+                return mapper.readTree(new ByteBufferInputStream(buffer));
+            }
+        }
+        // A single mapping cannot exceed 2GB, such contracts are streamed through a buffered channel.
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(definitionPath))) {
+            inputStream.mark(1024);
+            byte[] head = inputStream.readNBytes(1024);
+            inputStream.reset();
+            ObjectMapper mapper = isJson(ByteBuffer.wrap(head)) ? Json.mapper() : Yaml.mapper();
+            return mapper.readTree(inputStream);
+        }
+    }
+
+    private static SwaggerParseResult emptyResult() {
+        SwaggerParseResult result = new SwaggerParseResult();
+        result.setMessages(Collections.singletonList("Null or empty definition"));
+        return result;
+    }
+
+    /**
+     * JSON contracts start with an object, anything else is read as YAML which is also a superset of JSON.
+     */
+    private static boolean isJson(ByteBuffer buffer) {
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            int b = buffer.get(i) & 0xFF;
+            // Skip white spaces and the UTF-8 byte order mark.
+            if (b == ' ' || b == '\t' || b == '\r' || b == '\n' || b == 0xEF || b == 0xBB || b == 0xBF) {
+                continue;
+            }
+            return b == '{';
+        }
+        return false;
+    }
+
+    /**
+     * {@link InputStream} reading from a {@link ByteBuffer} without copying its content.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
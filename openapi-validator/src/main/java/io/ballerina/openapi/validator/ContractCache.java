@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.validator;
+
+import io.ballerina.openapi.loader.MultiFileSpecLoader;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Process wide cache of the OpenAPI contracts validated by the compiler plugin. A contract is parsed and summarised
+ * once and reused by every service declaration referring to it, across compilations, until the contract or one of the
+ * files it refers to changes.
+ * <p>
+ * Entries are keyed by the canonical path of the contract. A lookup first compares the modified time and size of the
+ * contract files with the cached entry, which needs no file reads. Only when those differ the content hash of the
+ * files is computed, so a contract which was touched without being changed is not parsed again. The cache holds at
+ * most {@code openapi.validator.cache.size} contracts (32 by default) and evicts the least recently used one.
+ */
+public class ContractCache {
+    public static final String CACHE_SIZE_PROPERTY = "openapi.validator.cache.size";
+
+    private static final int DEFAULT_CACHE_SIZE = 32;
+    private static final ContractCache INSTANCE =
+            new ContractCache(Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE));
+
+    private final Map<Path, Contract> contracts;
+
+    ContractCache(int maxSize) {
+        this.contracts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, Contract> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public static ContractCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the parsed contract for the given OpenAPI contract path, parsing it only if it is not cached or has changed
+     * since it was cached.
+     *
+     * @param contractPath path to the OpenAPI contract
+     * @return parsed and summarised contract
+     * @throws OpenApiValidatorException when the contract is not a valid OpenAPI contract
+     * @throws IOException               when the contract cannot be read
+     */
+    public Contract getContract(Path contractPath) throws OpenApiValidatorException, IOException {
+        Path canonicalPath = contractPath.toRealPath();
+        Contract cached = get(canonicalPath);
+        if (cached != null && cached.isUnmodified()) {
+            return cached;
+        }
+        List<Path> files = new ArrayList<>();
+        files.add(canonicalPath);
+        files.addAll(MultiFileSpecLoader.findReferencedFiles(canonicalPath));
+        List<Long> stamps = stamp(files);
+        byte[] hash = hash(files);
+        if (cached != null && Arrays.equals(cached.hash, hash)) {
+            // The files were touched but not changed, only the modified times of the entry are refreshed.
+            cached = new Contract(files, stamps, hash, cached.openAPI, cached.pathSummaries);
+        } else {
+            OpenAPI openAPI = ServiceValidator.parseOpenAPIFile(canonicalPath.toString());
+            List<OpenAPIPathSummary> pathSummaries = ResourceWithOperation.summarizeOpenAPI(openAPI);
+            cached = new Contract(files, stamps, hash, openAPI, pathSummaries);
+        }
+        put(canonicalPath, cached);
+        return cached;
+    }
+
+    /**
+     * Remove all the cached contracts.
+     */
+    public synchronized void clear() {
+        contracts.clear();
+    }
+
+    synchronized int size() {
+        return contracts.size();
+    }
+
+    private synchronized Contract get(Path canonicalPath) {
+        return contracts.get(canonicalPath);
+    }
+
+    private synchronized void put(Path canonicalPath, Contract contract) {
+        contracts.put(canonicalPath, contract);
+    }
+
+    /* Modified time and size of each file, two values per file. */
+    private static List<Long> stamp(List<Path> files) throws IOException {
+        List<Long> stamps = new ArrayList<>(files.size() * 2);
+        for (Path file : files) {
+            stamps.add(Files.getLastModifiedTime(file).toMillis());
+            stamps.add(Files.size(file));
+        }
+        return stamps;
+    }
+
+    private static byte[] hash(List<Path> files) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is a mandatory algorithm of every Java platform.
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[8192];
+        for (Path file : files) {
+            try (InputStream inputStream = Files.newInputStream(file)) {
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Fully resolved OpenAPI contract together with the summary of its paths.
+     */
+    public static class Contract {
+        private final List<Path> files;
+        private final List<Long> stamps;
+        private final byte[] hash;
+        private final OpenAPI openAPI;
+        private final List<OpenAPIPathSummary> pathSummaries;
+
+        Contract(List<Path> files, List<Long> stamps, byte[] hash, OpenAPI openAPI,
+                 List<OpenAPIPathSummary> pathSummaries) {
+            this.files = Collections.unmodifiableList(files);
+            this.stamps = stamps;
+            this.hash = hash;
+            this.openAPI = openAPI;
+            this.pathSummaries = Collections.unmodifiableList(pathSummaries);
+        }
+
+        public OpenAPI getOpenAPI() {
+            return openAPI;
+        }
+
+        /**
+         * Get a copy of the path summaries of the contract. The filters and the validation remove entries from the
+         * summaries, so every service gets its own copy and the cached summaries are never modified.
+         *
+         * @return path summaries of the contract
+         */
+        public List<OpenAPIPathSummary> getPathSummaries() {
+            List<OpenAPIPathSummary> copy = new ArrayList<>(pathSummaries.size());
+            for (OpenAPIPathSummary pathSummary : pathSummaries) {
+                copy.add(new OpenAPIPathSummary(pathSummary));
+            }
+            return copy;
+        }
+
+        private boolean isUnmodified() {
+            try {
+                return stamp(files).equals(stamps);
+            } catch (IOException e) {
+                // A referenced file was removed, the contract is loaded again to report the error.
+                return false;
+            }
+        }
+    }
+}
@@ -42,6 +42,18 @@ public class OpenAPIPathSummary {
         this.path = null;
     }
 
+    /**
+     * Copy the given summary. The operations are shared, while the operation lists of the copy can be modified
+     * without affecting the given summary.
+     *
+     * @param pathSummary summary to copy
+     */
+    public OpenAPIPathSummary(OpenAPIPathSummary pathSummary) {
+        this.availableOperations = new ArrayList<>(pathSummary.availableOperations);
+        this.operations = new HashMap<>(pathSummary.operations);
+        this.path = pathSummary.path;
+    }
+
     public String getPath() {
         return path;
     }
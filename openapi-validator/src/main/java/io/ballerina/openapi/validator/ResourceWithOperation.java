@@ -51,12 +51,23 @@ public class ResourceWithOperation {
      */
     public static List<OpenAPIPathSummary> filterOpenapi(OpenAPI openApi,
                                                          Filters filters) {
+        return filterOpenapi(ResourceWithOperation.summarizeOpenAPI(openApi), filters);
+    }
+
+    /**
+     * Filter the operations of the given path summaries according to the given filters. The given list and its
+     * summaries are modified.
+     * @param openAPIPathSummaries  List of OpenApiPathSummary of the contract
+     * @param filters               Filter Object
+     * @return                      List of OpenApiPathSummary
+     */
+    public static List<OpenAPIPathSummary> filterOpenapi(List<OpenAPIPathSummary> openAPIPathSummaries,
+                                                         Filters filters) {
 
         boolean tagFilteringEnabled = filters.getTag().size() > 0;
         boolean operationFilteringEnabled = filters.getOperation().size() > 0;
         boolean excludeTagsFilteringEnabled = filters.getExcludeTag().size() > 0;
         boolean excludeOperationFilteringEnable = filters.getExcludeOperation().size() > 0;
-        List<OpenAPIPathSummary> openAPIPathSummaries = ResourceWithOperation.summarizeOpenAPI(openApi);
         // Check based on the method and path filters
         Iterator<OpenAPIPathSummary> openAPIIter = openAPIPathSummaries.iterator();
         while (openAPIIter.hasNext()) {
@@ -352,7 +363,7 @@ public class ResourceWithOperation {
      * @param contract                openAPI contract
      * @return List of summarized OpenAPIPathSummary
      */
-    private static List<OpenAPIPathSummary> summarizeOpenAPI(OpenAPI contract) {
+    static List<OpenAPIPathSummary> summarizeOpenAPI(OpenAPI contract) {
         List<OpenAPIPathSummary> openAPISummaries = new ArrayList<>();
         io.swagger.v3.oas.models.Paths paths = contract.getPaths();
         for (Map.Entry pathItem : paths.entrySet()) {
@@ -34,6 +34,7 @@ import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.loader.SpecLoader;
 import io.ballerina.openapi.validator.error.MissingFieldInBallerinaType;
 import io.ballerina.openapi.validator.error.MissingFieldInJsonSchema;
 import io.ballerina.openapi.validator.error.OneOfTypeValidation;
@@ -52,7 +53,6 @@ import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.ballerina.tools.diagnostics.Location;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 
@@ -75,7 +75,7 @@ import static io.ballerina.openapi.validator.ValidatorErrorCode.BAL_OPENAPI_VALI
  * resource in the resource file.
  */
 public class ServiceValidator implements AnalysisTask<SyntaxNodeAnalysisContext> {
-    private static OpenAPI openAPI;
+    private static ContractCache.Contract contract;
     private static List<Diagnostic> validations = new ArrayList<>();
     private Location location;
 
@@ -167,7 +167,8 @@ public class ServiceValidator implements AnalysisTask<SyntaxNodeAnalysisContext>
                 // Make resourcePath summary
                 Map<String, ResourcePathSummary> resourcePathMap = ResourceWithOperation.summarizeResources(functions);
                 //  Filter openApi operation according to given filters
-                List<OpenAPIPathSummary> openAPIPathSummaries = ResourceWithOperation.filterOpenapi(openAPI, filters);
+                List<OpenAPIPathSummary> openAPIPathSummaries = ResourceWithOperation.filterOpenapi(
+                        contract.getPathSummaries(), filters);
 
                 //  Check all the filtered operations are available at the service file
                 List<OpenapiServiceValidationError> openApiMissingServiceMethod =
@@ -349,7 +350,7 @@ public class ServiceValidator implements AnalysisTask<SyntaxNodeAnalysisContext>
                     }
                     if (relativePath != null && Files.exists(relativePath)) {
                         try {
-                            openAPI = ServiceValidator.parseOpenAPIFile(relativePath.toString());
+                            contract = ContractCache.getInstance().getContract(relativePath);
                         } catch (OpenApiValidatorException e) {
                             DiagnosticInfo diagnosticInfo = new DiagnosticInfo(
                                     BAL_OPENAPI_VALIDATOR_0019, e.getMessage(),
@@ -579,19 +580,16 @@ public class ServiceValidator implements AnalysisTask<SyntaxNodeAnalysisContext>
      */
     public static OpenAPI parseOpenAPIFile(String definitionURI) throws OpenApiValidatorException, IOException {
         Path contractPath = Paths.get(definitionURI);
-        ParseOptions parseOptions = new ParseOptions();
-        parseOptions.setResolve(true);
-        parseOptions.setResolveFully(true);
-
         if (!Files.exists(contractPath)) {
             throw new OpenApiValidatorException(ErrorMessages.invalidFilePath(definitionURI)[1]);
         }
         if (!(definitionURI.endsWith(".yaml") || definitionURI.endsWith(".json"))) {
             throw new OpenApiValidatorException(ErrorMessages.invalidFile()[1]);
         }
-        String openAPIFileContent = Files.readString(Paths.get(definitionURI));
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent, null,
-                parseOptions);
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        parseOptions.setResolveFully(true);
+        SwaggerParseResult parseResult = SpecLoader.parse(contractPath, parseOptions);
         OpenAPI api = parseResult.getOpenAPI();
         if (api == null) {
             throw new OpenApiValidatorException(ErrorMessages.parserException(definitionURI)[1]);
@@ -16,6 +16,7 @@
 
 module io.ballerina.openapi.validator {
     requires io.ballerina.lang;
+    requires io.ballerina.openapi.loader;
     requires io.ballerina.parser;
     requires io.ballerina.tools.api;
     requires io.swagger.v3.oas.models;
@@ -15,6 +15,7 @@
  */
 package io.ballerina.openapi.validator.tests;
 
+import io.ballerina.openapi.validator.ContractCache;
 import io.ballerina.openapi.validator.Filters;
 import io.ballerina.openapi.validator.OpenAPIPathSummary;
 import io.ballerina.openapi.validator.OpenApiValidatorException;
@@ -161,4 +162,18 @@ public class OpenApiFilterTests {
         excludeOperations.clear();
         excludeTags.clear();
     }
+
+    @Test(description = "Filtering a cached contract does not modify the cached summaries")
+    public void testFilterCachedContract() throws OpenApiValidatorException, IOException {
+        Path contractPath = RES_DIR.resolve("swagger/valid/petstore.yaml");
+        ContractCache.Contract contract = ContractCache.getInstance().getContract(contractPath);
+        Assert.assertSame(ContractCache.getInstance().getContract(contractPath), contract);
+        tags.add("pets");
+        Filters filter = new Filters(tags, excludeTags, operations, excludeOperations, DiagnosticSeverity.ERROR);
+        openAPIPathSummaries = ResourceWithOperation.filterOpenapi(contract.getPathSummaries(), filter);
+        Assert.assertEquals(openAPIPathSummaries.get(0).getOperations().get("post").getOperationId(), "postPet");
+        Assert.assertEquals(contract.getPathSummaries().get(0).getOperations().get("get").getOperationId(),
+                "listPets");
+        tags.clear();
+    }
 }